@@ -0,0 +1,114 @@
+package com.donzo.naitssu.domain.chatbot.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 스트림 응답 delta 추출 비교: Jackson 비동기 파서 디코더 vs 이전 문자열 탐색 방식
+ *
+ * 같은 SSE 본문을 네트워크 버퍼 크기로 나눠 넣는다. 이전 방식은 줄 단위 문자열로 바꾼 뒤
+ * contains/indexOf로 content를 찾고 replace로 이스케이프를 풀었다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UpstageStreamDecoderBenchmark {
+
+    @Param({"200"})
+    private int events;
+
+    @Param({"512", "8192"})
+    private int chunkBytes;
+
+    private List<byte[]> chunks;
+
+    @Setup
+    public void setUp() {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < events; i++) {
+            body.append("data: {\"id\":\"chat-1\",\"object\":\"chat.completion.chunk\",\"model\":\"solar-pro2\",")
+                    .append("\"choices\":[{\"index\":0,\"delta\":{\"content\":\"법안 ").append(i)
+                    .append("번 조항은 \\\"임차인\\\" 보호를 강화합니다.\\n\"},\"finish_reason\":null}]}\n\n");
+        }
+        body.append("data: [DONE]\n\n");
+
+        byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+        chunks = new ArrayList<>();
+        for (int offset = 0; offset < bytes.length; offset += chunkBytes) {
+            byte[] chunk = new byte[Math.min(chunkBytes, bytes.length - offset)];
+            System.arraycopy(bytes, offset, chunk, 0, chunk.length);
+            chunks.add(chunk);
+        }
+    }
+
+    @Benchmark
+    public void streamDecoder(Blackhole blackhole) {
+        UpstageStreamDecoder decoder = new UpstageStreamDecoder();
+        for (byte[] chunk : chunks) {
+            for (String delta : decoder.feed(chunk, 0, chunk.length)) {
+                blackhole.consume(delta);
+            }
+        }
+        decoder.close();
+    }
+
+    @Benchmark
+    public void stringScan(Blackhole blackhole) {
+        // 이전 경로: 버퍼를 줄 단위로 모아 문자열로 디코딩한 뒤 data 값마다 문자열 탐색
+        ByteArrayOutputStream pending = new ByteArrayOutputStream();
+        for (byte[] chunk : chunks) {
+            int lineStart = 0;
+            for (int i = 0; i < chunk.length; i++) {
+                if (chunk[i] != '\n') continue;
+                pending.write(chunk, lineStart, i - lineStart);
+                String line = pending.toString(StandardCharsets.UTF_8);
+                pending.reset();
+                lineStart = i + 1;
+
+                if (!line.startsWith("data:")) continue;
+                String data = line.substring(5).trim();
+                if (data.isEmpty() || data.equals("[DONE]")) continue;
+                String content = extractContent(data);
+                if (!content.isEmpty()) blackhole.consume(content);
+            }
+            pending.write(chunk, lineStart, chunk.length - lineStart);
+        }
+    }
+
+    private static String extractContent(String json) {
+        if (json.contains("\"delta\":{") && json.contains("\"content\":")) {
+            int deltaStart = json.indexOf("\"delta\":{");
+            int contentStart = json.indexOf("\"content\":\"", deltaStart);
+            if (contentStart != -1) {
+                contentStart += 11;
+                int contentEnd = contentStart;
+                while (contentEnd < json.length()) {
+                    contentEnd = json.indexOf("\"", contentEnd);
+                    if (contentEnd == -1) break;
+                    if (contentEnd == 0 || json.charAt(contentEnd - 1) != '\\') break;
+                    contentEnd++;
+                }
+                if (contentEnd > contentStart) {
+                    return json.substring(contentStart, contentEnd)
+                            .replace("\\n", "\n")
+                            .replace("\\\"", "\"")
+                            .replace("\\\\", "\\");
+                }
+            }
+        }
+        return "";
+    }
+}
@@ -0,0 +1,151 @@
+package com.donzo.naitssu.domain.meeting.service;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.donzo.naitssu.global.text.TokenEstimator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회의록 분할 비교: 토큰 예산 분할기(TranscriptChunker) vs 이전 80,000자 고정 분할
+ *
+ * 분할 시간을 재고, 끝날 때 청크 수(= 요약 호출 수)와 문맥 한도를 넘는 청크 수(= 실패할 호출 수)를 출력한다.
+ * 실제 회의록으로 재려면 파싱된 텍스트 파일 경로를 넘긴다:
+ * ./gradlew jmh -PjmhIncludes=TranscriptChunker -Pjmh.transcript=/path/to/transcript.txt
+ * 경로가 없으면 발언자/안건/시각 표기 줄을 섞은 합성 회의록을 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TranscriptChunkerBenchmark {
+
+    private static final int LEGACY_CHUNK_CHARS = 80_000;
+
+    @Param({""})
+    private String transcript;
+
+    @Param({"300000", "1500000"})
+    private int syntheticChars;
+
+    @Param({"25000"})
+    private int tokenBudget;
+
+    @Param({"32768"})
+    private int contextTokens;
+
+    private String text;
+    private TranscriptChunker chunker;
+
+    @Setup
+    public void setUp() throws Exception {
+        String path = transcript.isBlank() ? System.getProperty("jmh.transcript", "") : transcript;
+        text = path.isBlank() ? synthetic(syntheticChars) : read(path);
+
+        // 분할마다 남기는 INFO 로그가 측정에 섞이지 않도록
+        ((Logger) LoggerFactory.getLogger(TranscriptChunker.class)).setLevel(Level.WARN);
+        chunker = new TranscriptChunker();
+        set(chunker, "tokenBudget", tokenBudget);
+        set(chunker, "minFill", 0.6);
+    }
+
+    @Benchmark
+    public List<String> tokenBudget() {
+        return chunker.split(text);
+    }
+
+    @Benchmark
+    public List<String> legacyFixedChars() {
+        return legacySplit(text, LEGACY_CHUNK_CHARS);
+    }
+
+    /**
+     * 호출 수와 실패할 호출 수 비교 (분할 결과는 매번 같으므로 한 번만 출력)
+     */
+    @TearDown
+    public void report() {
+        System.out.printf("%n[회의록 %,d자] 토큰 예산 분할: %s / 80,000자 고정 분할: %s%n", text.length(),
+                summary(chunker.split(text)), summary(legacySplit(text, LEGACY_CHUNK_CHARS)));
+    }
+
+    private String summary(List<String> chunks) {
+        long overContext = chunks.stream().filter(chunk -> TokenEstimator.estimate(chunk) > contextTokens).count();
+        int maxTokens = chunks.stream().mapToInt(TokenEstimator::estimate).max().orElse(0);
+        return String.format("청크 %d개, 최대 추정 %,d 토큰, 문맥 한도(%,d) 초과 %d개", chunks.size(), maxTokens, contextTokens, overContext);
+    }
+
+    // 이전 MeetingSummaryService/StructuredMeetingAnalysisService의 splitTextIntoChunks
+    private static List<String> legacySplit(String text, int maxChunkLength) {
+        List<String> chunks = new ArrayList<>();
+        int start = 0;
+        while (start < text.length()) {
+            int end = Math.min(start + maxChunkLength, text.length());
+            if (end < text.length()) {
+                int lastPeriod = text.lastIndexOf('.', end);
+                int lastNewline = text.lastIndexOf('\n', end);
+                int lastSpace = text.lastIndexOf(' ', end);
+                int cutPoint = Math.max(Math.max(lastPeriod, lastNewline), lastSpace);
+                if (cutPoint > start + maxChunkLength / 2) {
+                    end = cutPoint + 1;
+                }
+            }
+            chunks.add(text.substring(start, end).trim());
+            start = end;
+        }
+        return chunks;
+    }
+
+    private static String synthetic(int chars) {
+        String[] speakers = {"○의장 김진표", "○국토교통위원장 박상혁", "○법제사법위원장 정청래", "○기획재정부장관 최상목", "○김민석 의원"};
+        String[] sentences = {
+                "주택임대차보호법 일부개정법률안에 대해 심사보고 드리겠습니다.",
+                "전세사기 피해자 지원을 위한 특별법의 적용 기간을 2년 연장하는 내용입니다.",
+                "이의가 없으므로 가결되었음을 선포합니다.",
+                "예산 총액은 656조 6,000억 원이며 전년 대비 2.8% 증가했습니다.",
+                "본 법안은 OECD 기준에 맞춰 R&D 세액공제율을 조정하는 것입니다.",
+                "의사일정 제3항에 대한 토론을 종결하고 표결하겠습니다."
+        };
+        Random random = new Random(42);
+        StringBuilder builder = new StringBuilder(chars + 512);
+        int agenda = 1;
+        while (builder.length() < chars) {
+            if (random.nextInt(20) == 0) {
+                builder.append("(").append(10 + random.nextInt(8)).append("시").append(random.nextInt(60)).append("분 개의)\n");
+                builder.append("의사일정 제").append(agenda++).append("항 법률안\n");
+            }
+            builder.append(speakers[random.nextInt(speakers.length)]).append("  ");
+            int count = 1 + random.nextInt(8);
+            for (int i = 0; i < count; i++) {
+                builder.append(sentences[random.nextInt(sentences.length)]).append(' ');
+            }
+            builder.append('\n');
+        }
+        return builder.toString();
+    }
+
+    private static String read(String path) throws IOException {
+        return Files.readString(Path.of(path));
+    }
+
+    private static void set(Object target, String name, Object value) throws ReflectiveOperationException {
+        Field field = target.getClass().getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+}
@@ -1,9 +1,12 @@
 package com.donzo.naitssu.domain.bill.controller;
 
+import com.donzo.naitssu.domain.bill.dto.BillCursorPage;
 import com.donzo.naitssu.domain.bill.entity.Bill;
 import com.donzo.naitssu.domain.bill.service.BillService;
+import com.donzo.naitssu.domain.bill.service.BillSyncService;
 import com.donzo.naitssu.domain.vote.entity.Vote;
 import com.donzo.naitssu.domain.vote.repository.VoteRepository;
+import com.donzo.naitssu.domain.vote.service.VoteLeaderboard;
 import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,9 +22,10 @@ import java.util.*;
 public class BillController {
 
     private final BillService billService;
+    private final BillSyncService billSyncService;
     private final VoteRepository voteRepository;
     
-    private static final String VOTED_BILLS_SESSION_KEY = "votedBills";
+    static final String VOTED_BILLS_SESSION_KEY = "votedBills";
 
     @PostMapping("/sync")
     public ResponseEntity<String> syncBillsFromAssembly(
@@ -29,14 +33,27 @@ public class BillController {
             @RequestParam(defaultValue = "10") int pageSize,
             @RequestParam(defaultValue = "22") int age) {
         try {
-            billService.saveBillsFromAssemblyApi(pageIndex, pageSize, age);
-            return ResponseEntity.ok("법안 데이터 동기화가 완료되었습니다.");
+            BillSyncService.SyncResult result = billSyncService.syncPage(pageIndex, pageSize, age);
+            return ResponseEntity.ok("법안 데이터 동기화가 완료되었습니다. (" + result + ")");
         } catch (Exception e) {
             log.error("법안 데이터 동기화 실패: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().body("법안 데이터 동기화에 실패했습니다: " + e.getMessage());
         }
     }
 
+    @PostMapping("/sync/incremental")
+    public ResponseEntity<String> syncNewBillsFromAssembly(
+            @RequestParam(defaultValue = "10") int pageSize,
+            @RequestParam(defaultValue = "22") int age) {
+        try {
+            BillSyncService.SyncResult result = billSyncService.syncIncremental(pageSize, age);
+            return ResponseEntity.ok("법안 증분 동기화가 완료되었습니다. (" + result + ")");
+        } catch (Exception e) {
+            log.error("법안 증분 동기화 실패: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().body("법안 증분 동기화에 실패했습니다: " + e.getMessage());
+        }
+    }
+
     @GetMapping
     public ResponseEntity<List<Map<String, Object>>> getAllBills(HttpSession session) {
         try {
@@ -177,15 +194,62 @@ public class BillController {
         }
     }
 
+    /**
+     * 커서 기반 법안 목록 (offset/count 없는 keyset 페이지네이션)
+     * GET /api/bills/cursor?tag=교통&sort=votes&cursor=...&size=9&includeTotal=false
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<Map<String, Object>> getBillsByCursor(
+            @RequestParam(required = false) String tag,
+            @RequestParam(defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "9") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            HttpSession session) {
+        try {
+            BillCursorPage result = billService.getBillsByCursor(tag, sort, cursor, clampPageSize(size), includeTotal);
+            return ResponseEntity.ok(toCursorBody(result, session));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 법안 목록 커서: {}", cursor);
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("법안 커서 조회 실패: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 커서 기반 법안 검색
+     * GET /api/bills/search/cursor?keyword=주택&cursor=...&size=9
+     */
+    @GetMapping("/search/cursor")
+    public ResponseEntity<Map<String, Object>> searchBillsByCursor(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "9") int size,
+            HttpSession session) {
+        try {
+            BillCursorPage result = billService.searchBillsByCursor(keyword, cursor, clampPageSize(size));
+            return ResponseEntity.ok(toCursorBody(result, session));
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 법안 검색 커서: {}", cursor);
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("법안 커서 검색 실패: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
     @GetMapping("/top/by-votes")
-    public ResponseEntity<Map<String, Object>> getTopBillByVotes(HttpSession session) {
+    public ResponseEntity<Map<String, Object>> getTopBillByVotes(
+            @RequestParam(required = false) String tag,
+            HttpSession session) {
         try {
-            java.util.Optional<Bill> topOpt = billService.getTopBillByVotes();
-            if (topOpt.isEmpty()) return ResponseEntity.notFound().build();
-            Bill bill = topOpt.get();
-            Vote vote = voteRepository.findById(bill.getId()).orElse(null);
+            java.util.List<VoteLeaderboard.RankedBill> top = billService.getTopRankedBills(tag, 1);
+            if (top.isEmpty()) return ResponseEntity.notFound().build();
+            VoteLeaderboard.RankedBill first = top.get(0);
             Set<Long> votedBills = getVotedBills(session);
-            return ResponseEntity.ok(toBillWithVotes(bill, vote, votedBills.contains(bill.getId())));
+            return ResponseEntity.ok(toBillWithVotes(first.bill(), first.vote(), votedBills.contains(first.bill().getId())));
         } catch (Exception e) {
             log.error("최다 투표 법안 조회 실패: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
@@ -195,18 +259,15 @@ public class BillController {
     @GetMapping("/topN/by-votes")
     public ResponseEntity<java.util.List<Map<String, Object>>> getTopNBillsByVotes(
             @RequestParam(defaultValue = "3") int n,
+            @RequestParam(required = false) String tag,
             HttpSession session) {
         try {
-            java.util.List<Bill> list = billService.getTopBillsByVotes(n);
+            // 메모리 리더보드에서 법안과 투표 수를 함께 조회 (요청마다 정렬/투표 조회 없음)
+            java.util.List<VoteLeaderboard.RankedBill> top = billService.getTopRankedBills(tag, n);
             Set<Long> votedBills = getVotedBills(session);
-            
-            // N+1 문제 해결: 벌크로 Vote 정보 조회
-            List<Long> billIds = list.stream().map(Bill::getId).toList();
-            Map<Long, Vote> voteMap = voteRepository.findAllById(billIds).stream()
-                .collect(java.util.stream.Collectors.toMap(Vote::getBillId, v -> v));
-            
-            java.util.List<Map<String, Object>> result = list.stream()
-                .map(b -> toBillWithVotes(b, voteMap.get(b.getId()), votedBills.contains(b.getId())))
+
+            java.util.List<Map<String, Object>> result = top.stream()
+                .map(r -> toBillWithVotes(r.bill(), r.vote(), votedBills.contains(r.bill().getId())))
                 .toList();
             return ResponseEntity.ok(result);
         } catch (Exception e) {
@@ -223,6 +284,8 @@ public class BillController {
             Vote updated = billService.incrementAgree(id, n);
             addVotedBill(session, id);
             return ResponseEntity.ok(updated);
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
         } catch (Exception e) {
             log.error("찬성 증가 실패: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
@@ -235,6 +298,8 @@ public class BillController {
             Vote updated = billService.incrementDisagree(id, n);
             addVotedBill(session, id);
             return ResponseEntity.ok(updated);
+        } catch (NoSuchElementException e) {
+            return ResponseEntity.notFound().build();
         } catch (Exception e) {
             log.error("반대 증가 실패: {}", e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
@@ -264,7 +329,33 @@ public class BillController {
         session.setAttribute(VOTED_BILLS_SESSION_KEY, votedBills);
     }
 
-    private Map<String, Object> toBillWithVotes(Bill bill, Vote vote, boolean hasVoted) {
+    private int clampPageSize(int size) {
+        return Math.min(Math.max(size, 1), 50);
+    }
+
+    private Map<String, Object> toCursorBody(BillCursorPage result, HttpSession session) {
+        Set<Long> votedBills = getVotedBills(session);
+
+        // N+1 문제 해결: 벌크로 Vote 정보 조회
+        List<Long> billIds = result.bills().stream().map(Bill::getId).toList();
+        Map<Long, Vote> voteMap = voteRepository.findAllById(billIds).stream()
+            .collect(java.util.stream.Collectors.toMap(Vote::getBillId, v -> v));
+
+        List<Map<String, Object>> content = result.bills().stream()
+            .map(b -> toBillWithVotes(b, voteMap.get(b.getId()), votedBills.contains(b.getId())))
+            .toList();
+        Map<String, Object> body = new HashMap<>();
+        body.put("content", content);
+        body.put("size", content.size());
+        body.put("hasNext", result.hasNext());
+        body.put("nextCursor", result.nextCursor());
+        if (result.totalCount() != null) {
+            body.put("totalElements", result.totalCount());
+        }
+        return body;
+    }
+
+    static Map<String, Object> toBillWithVotes(Bill bill, Vote vote, boolean hasVoted) {
         Map<String, Object> m = new HashMap<>();
         m.put("id", bill.getId());
         m.put("billNo", bill.getBillNo());
@@ -0,0 +1,216 @@
+package com.donzo.naitssu.domain.bill.controller;
+
+import com.donzo.naitssu.domain.bill.dto.BillCursorPage;
+import com.donzo.naitssu.domain.bill.entity.Bill;
+import com.donzo.naitssu.domain.bill.service.BillReadExecutor;
+import com.donzo.naitssu.domain.bill.service.BillService;
+import com.donzo.naitssu.domain.vote.entity.Vote;
+import com.donzo.naitssu.domain.vote.repository.VoteRepository;
+import com.donzo.naitssu.domain.vote.service.VoteLeaderboard;
+import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+/**
+ * 법안 조회 API의 비동기 버전 (bill.read.reactive.enabled=true 일 때만 등록)
+ *
+ * /api/bills 조회 API와 같은 응답을 /api/reactive/bills 아래에서 제공한다. 블로킹 JPA 조회는
+ * BillReadExecutor의 전용 스케줄러에서 실행하고 서블릿 요청 스레드는 바로 반납한다(MVC 비동기 응답).
+ * 같은 애플리케이션에서 두 경로를 나란히 부하 테스트해 비교하기 위한 대안 경로다.
+ */
+@RestController
+@RequestMapping("/api/reactive/bills")
+@ConditionalOnProperty(name = "bill.read.reactive.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveBillController {
+
+    private static final int PAGE_SIZE = 9;
+
+    private final BillService billService;
+    private final VoteRepository voteRepository;
+    private final BillReadExecutor billReadExecutor;
+
+    @GetMapping
+    public Mono<ResponseEntity<List<Map<String, Object>>>> getAllBills(HttpSession session) {
+        Set<Long> votedBills = votedBills(session);
+        return read("법안 목록 조회", () -> ResponseEntity.ok(withVotes(billService.getAllBills(), votedBills)));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Map<String, Object>>> getBillById(@PathVariable Long id, HttpSession session) {
+        Set<Long> votedBills = votedBills(session);
+        return read("법안 조회", () -> {
+            Optional<Bill> bill = billService.getBillById(id);
+            if (bill.isEmpty()) return ResponseEntity.notFound().build();
+            Vote vote = voteRepository.findById(id).orElse(null);
+            return ResponseEntity.ok(BillController.toBillWithVotes(bill.get(), vote, votedBills.contains(id)));
+        });
+    }
+
+    @GetMapping("/page")
+    public Mono<ResponseEntity<Map<String, Object>>> getBillsByPage(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String tag,
+            @RequestParam(defaultValue = "latest") String sort,
+            HttpSession session) {
+        Set<Long> votedBills = votedBills(session);
+        return read("법안 페이지 조회", () -> {
+            Page<Bill> result = tag == null && (sort == null || sort.isBlank() || sort.equalsIgnoreCase("latest"))
+                    ? billService.getBillsPage(page, PAGE_SIZE)
+                    : billService.getBillsByTagAndSort(tag, sort, page, PAGE_SIZE);
+            return ResponseEntity.ok(toPageBody(result, votedBills));
+        });
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<Map<String, Object>>> searchBills(
+            @RequestParam String keyword,
+            @RequestParam(defaultValue = "0") int page,
+            HttpSession session) {
+        Set<Long> votedBills = votedBills(session);
+        return read("법안 검색", () -> ResponseEntity.ok(toPageBody(billService.searchBillsByTitle(keyword, page, PAGE_SIZE), votedBills)));
+    }
+
+    @GetMapping("/page/by-votes")
+    public Mono<ResponseEntity<Map<String, Object>>> getBillsByVotesDesc(
+            @RequestParam(defaultValue = "0") int page,
+            HttpSession session) {
+        Set<Long> votedBills = votedBills(session);
+        return read("법안 투표순 페이지 조회", () -> ResponseEntity.ok(toPageBody(billService.getBillsByVotesDescPage(page, PAGE_SIZE), votedBills)));
+    }
+
+    @GetMapping("/cursor")
+    public Mono<ResponseEntity<Map<String, Object>>> getBillsByCursor(
+            @RequestParam(required = false) String tag,
+            @RequestParam(defaultValue = "latest") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "9") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            HttpSession session) {
+        Set<Long> votedBills = votedBills(session);
+        return read("법안 커서 조회", () -> {
+            try {
+                return ResponseEntity.ok(toCursorBody(billService.getBillsByCursor(tag, sort, cursor, clampPageSize(size), includeTotal), votedBills));
+            } catch (IllegalArgumentException e) {
+                log.warn("잘못된 법안 목록 커서: {}", cursor);
+                return ResponseEntity.badRequest().build();
+            }
+        });
+    }
+
+    @GetMapping("/search/cursor")
+    public Mono<ResponseEntity<Map<String, Object>>> searchBillsByCursor(
+            @RequestParam String keyword,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "9") int size,
+            HttpSession session) {
+        Set<Long> votedBills = votedBills(session);
+        return read("법안 커서 검색", () -> {
+            try {
+                return ResponseEntity.ok(toCursorBody(billService.searchBillsByCursor(keyword, cursor, clampPageSize(size)), votedBills));
+            } catch (IllegalArgumentException e) {
+                log.warn("잘못된 법안 검색 커서: {}", cursor);
+                return ResponseEntity.badRequest().build();
+            }
+        });
+    }
+
+    @GetMapping("/top/by-votes")
+    public Mono<ResponseEntity<Map<String, Object>>> getTopBillByVotes(
+            @RequestParam(required = false) String tag,
+            HttpSession session) {
+        Set<Long> votedBills = votedBills(session);
+        return read("최다 투표 법안 조회", () -> {
+            List<VoteLeaderboard.RankedBill> top = billService.getTopRankedBills(tag, 1);
+            if (top.isEmpty()) return ResponseEntity.notFound().build();
+            VoteLeaderboard.RankedBill first = top.get(0);
+            return ResponseEntity.ok(BillController.toBillWithVotes(first.bill(), first.vote(), votedBills.contains(first.bill().getId())));
+        });
+    }
+
+    @GetMapping("/topN/by-votes")
+    public Mono<ResponseEntity<List<Map<String, Object>>>> getTopNBillsByVotes(
+            @RequestParam(defaultValue = "3") int n,
+            @RequestParam(required = false) String tag,
+            HttpSession session) {
+        Set<Long> votedBills = votedBills(session);
+        return read("상위 N개 법안 조회", () -> ResponseEntity.ok(billService.getTopRankedBills(tag, n).stream()
+                .map(r -> BillController.toBillWithVotes(r.bill(), r.vote(), votedBills.contains(r.bill().getId())))
+                .toList()));
+    }
+
+    // 헬퍼 메서드들
+
+    /**
+     * 조회 실행 (예외는 동기 API와 같이 500으로 응답)
+     */
+    private <T> Mono<ResponseEntity<T>> read(String action, Callable<ResponseEntity<T>> query) {
+        return billReadExecutor.read(() -> {
+            try {
+                return query.call();
+            } catch (Exception e) {
+                log.error("{} 실패: {}", action, e.getMessage(), e);
+                return ResponseEntity.internalServerError().build();
+            }
+        });
+    }
+
+    /**
+     * 조회 스레드에서 읽을 투표 여부 (세션은 요청 스레드에서만 접근하도록 복사본 사용)
+     */
+    @SuppressWarnings("unchecked")
+    private Set<Long> votedBills(HttpSession session) {
+        Set<Long> votedBills = (Set<Long>) session.getAttribute(BillController.VOTED_BILLS_SESSION_KEY);
+        return votedBills == null ? Set.of() : Set.copyOf(votedBills);
+    }
+
+    private int clampPageSize(int size) {
+        return Math.min(Math.max(size, 1), 50);
+    }
+
+    private List<Map<String, Object>> withVotes(List<Bill> bills, Set<Long> votedBills) {
+        // N+1 문제 해결: 벌크로 Vote 정보 조회
+        List<Long> billIds = bills.stream().map(Bill::getId).toList();
+        Map<Long, Vote> voteMap = voteRepository.findAllById(billIds).stream()
+            .collect(Collectors.toMap(Vote::getBillId, v -> v));
+
+        return bills.stream()
+            .map(b -> BillController.toBillWithVotes(b, voteMap.get(b.getId()), votedBills.contains(b.getId())))
+            .toList();
+    }
+
+    private Map<String, Object> toPageBody(Page<Bill> result, Set<Long> votedBills) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("content", withVotes(result.getContent(), votedBills));
+        body.put("page", result.getNumber());
+        body.put("size", result.getSize());
+        body.put("totalElements", result.getTotalElements());
+        body.put("totalPages", result.getTotalPages());
+        body.put("hasNext", result.hasNext());
+        body.put("hasPrevious", result.hasPrevious());
+        return body;
+    }
+
+    private Map<String, Object> toCursorBody(BillCursorPage result, Set<Long> votedBills) {
+        List<Map<String, Object>> content = withVotes(result.bills(), votedBills);
+        Map<String, Object> body = new HashMap<>();
+        body.put("content", content);
+        body.put("size", content.size());
+        body.put("hasNext", result.hasNext());
+        body.put("nextCursor", result.nextCursor());
+        if (result.totalCount() != null) {
+            body.put("totalElements", result.totalCount());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,38 @@
+package com.donzo.naitssu.domain.bill.dto;
+
+import com.donzo.naitssu.domain.bill.entity.Bill;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 법안 목록 커서 - 마지막 행의 (voteTotal, id)를 Base64URL로 인코딩한 불투명 문자열
+ * 최신순 정렬은 id만, 투표순 정렬은 두 값을 모두 사용한다.
+ */
+public record BillCursor(int voteTotal, long id) {
+
+    public static BillCursor from(Bill bill) {
+        return new BillCursor(bill.getVoteTotal() != null ? bill.getVoteTotal() : 0, bill.getId());
+    }
+
+    public String encode() {
+        String raw = voteTotal + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static BillCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("잘못된 커서 형식입니다.");
+            }
+            return new BillCursor(Integer.parseInt(parts[0]), Long.parseLong(parts[1]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다.", e);
+        }
+    }
+}
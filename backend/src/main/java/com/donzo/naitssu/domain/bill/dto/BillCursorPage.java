@@ -0,0 +1,13 @@
+package com.donzo.naitssu.domain.bill.dto;
+
+import com.donzo.naitssu.domain.bill.entity.Bill;
+
+import java.util.List;
+
+/**
+ * 커서 기반 법안 목록 조회 결과
+ *
+ * @param totalCount 요청한 경우에만 계산 (그 외 null)
+ */
+public record BillCursorPage(List<Bill> bills, boolean hasNext, String nextCursor, Long totalCount) {
+}
@@ -10,7 +10,12 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "bills")
+@Table(name = "bills", indexes = {
+        @Index(name = "idx_bills_tag_id", columnList = "tag, id"),
+        @Index(name = "idx_bills_vote_total_id", columnList = "vote_total, id"),
+        @Index(name = "idx_bills_tag_vote_total_id", columnList = "tag, vote_total, id"),
+        @Index(name = "uk_bills_assembly_bill_id", columnList = "assembly_bill_id", unique = true)
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Bill extends BaseEntity {
@@ -18,6 +23,10 @@ public class Bill extends BaseEntity {
     @Column(name = "bill_no")
     private Integer billNo;
 
+    // 국회 API의 BILL_ID (동기화 중복 판단 기준, 컬럼 추가 이전에 저장된 법안은 null)
+    @Column(name = "assembly_bill_id", length = 50)
+    private String assemblyBillId;
+
     @Column(name = "bill_name", nullable = false, length = 255)
     private String billName;
 
@@ -54,12 +63,17 @@ public class Bill extends BaseEntity {
     @Column(name = "tag", length = 20)
     private String tag; // 분류 태그: 전체, 교통, 주거, 경제, 환경, 고용, 기타
 
+    // votes.total_count 비정규화 사본 (투표순 정렬/커서를 조인 없이 인덱스로 처리)
+    @Column(name = "vote_total", nullable = false, columnDefinition = "INT NOT NULL DEFAULT 0")
+    private Integer voteTotal = 0;
+
     @Builder
-    public Bill(Integer billNo, String billName, LocalDate proposeDate, String proposer,
+    public Bill(Integer billNo, String assemblyBillId, String billName, LocalDate proposeDate, String proposer,
                 String proposerKind, String stage,
                 String summaryBackground, String summaryContent, String summaryEffect,
                 String summaryLine, String summaryHighlight, String tag) {
         this.billNo = billNo;
+        this.assemblyBillId = assemblyBillId;
         this.billName = billName;
         this.proposeDate = proposeDate;
         this.proposer = proposer;
@@ -73,6 +87,14 @@ public class Bill extends BaseEntity {
         this.tag = tag;
     }
 
+    public void updateStage(String stage) {
+        this.stage = stage;
+    }
+
+    public void linkAssemblyBillId(String assemblyBillId) {
+        this.assemblyBillId = assemblyBillId;
+    }
+
     // 챗봇 호환 전용 접근자 (DB 스키마 변경 없이 제공)
     public String getTitle() {
         return this.billName;
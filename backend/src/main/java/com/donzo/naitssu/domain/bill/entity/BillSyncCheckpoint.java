@@ -0,0 +1,47 @@
+package com.donzo.naitssu.domain.bill.entity;
+
+import com.donzo.naitssu.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "bill_sync_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BillSyncCheckpoint extends BaseEntity {
+
+    @Column(name = "age", nullable = false, unique = true)
+    private Integer age; // 국회 대수
+
+    @Column(name = "last_bill_no")
+    private Integer lastBillNo; // 마지막으로 처리한 BILL_NO
+
+    @Column(name = "last_propose_date")
+    private LocalDate lastProposeDate; // 마지막으로 처리한 PROPOSE_DT
+
+    public BillSyncCheckpoint(Integer age) {
+        this.age = age;
+    }
+
+    /**
+     * (제안일, 법안번호) 순서상 체크포인트 이후의 법안인지 여부
+     */
+    public boolean isAfter(LocalDate proposeDate, Integer billNo) {
+        if (lastBillNo == null && lastProposeDate == null) return true;
+        if (proposeDate != null && lastProposeDate != null && !proposeDate.equals(lastProposeDate)) {
+            return proposeDate.isAfter(lastProposeDate);
+        }
+        return billNo != null && (lastBillNo == null || billNo > lastBillNo);
+    }
+
+    public void advance(LocalDate proposeDate, Integer billNo) {
+        if (isAfter(proposeDate, billNo)) {
+            this.lastProposeDate = proposeDate;
+            this.lastBillNo = billNo;
+        }
+    }
+}
@@ -4,20 +4,85 @@ import com.donzo.naitssu.domain.bill.entity.Bill;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface BillRepository extends JpaRepository<Bill, Long> {
-    @Query("select b from Bill b left join com.donzo.naitssu.domain.vote.entity.Vote v on v.billId = b.id order by coalesce(v.totalCount, 0) desc, b.id desc")
+    @Query("select b from Bill b order by b.voteTotal desc, b.id desc")
     Page<Bill> findAllOrderByVotesDesc(Pageable pageable);
 
+    Optional<Bill> findFirstByBillNo(Integer billNo);
+
+    // 수정 시각만 조회 (캐시된 챗봇 프롬프트 유효성 확인용)
+    @Query("select b.updatedAt from Bill b where b.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+
+    List<Bill> findByBillNoIn(List<Integer> billNos);
+
+    List<Bill> findByAssemblyBillIdIn(List<String> assemblyBillIds);
+
     Page<Bill> findByBillNameContainingIgnoreCase(String keyword, Pageable pageable);
 
     @Query("select b from Bill b where (:tag is null or b.tag = :tag) order by b.id desc")
     Page<Bill> findByTagOrderByLatest(@Param("tag") String tag, Pageable pageable);
 
-    @Query("select b from Bill b left join com.donzo.naitssu.domain.vote.entity.Vote v on v.billId = b.id where (:tag is null or b.tag = :tag) order by coalesce(v.totalCount, 0) desc, b.id desc")
+    @Query("select b from Bill b where (:tag is null or b.tag = :tag) order by b.voteTotal desc, b.id desc")
     Page<Bill> findByTagOrderByVotesDesc(@Param("tag") String tag, Pageable pageable);
+
+    // ===== 커서(keyset) 기반 조회: offset/count 없이 인덱스 위치에서 바로 시작 =====
+
+    // 최신순 (PK 역순)
+    List<Bill> findByIdLessThanOrderByIdDesc(Long id, Pageable pageable);
+
+    // 태그별 최신순 (tag, id) 인덱스
+    List<Bill> findByTagAndIdLessThanOrderByIdDesc(String tag, Long id, Pageable pageable);
+
+    // 투표순 (vote_total, id) 인덱스
+    @Query("select b from Bill b where b.voteTotal <= :voteTotal " +
+           "and (b.voteTotal < :voteTotal or b.id < :id) order by b.voteTotal desc, b.id desc")
+    List<Bill> findPageByVotesAfter(@Param("voteTotal") Integer voteTotal, @Param("id") Long id, Pageable pageable);
+
+    // 태그별 투표순 (tag, vote_total, id) 인덱스
+    @Query("select b from Bill b where b.tag = :tag and b.voteTotal <= :voteTotal " +
+           "and (b.voteTotal < :voteTotal or b.id < :id) order by b.voteTotal desc, b.id desc")
+    List<Bill> findPageByTagAndVotesAfter(@Param("tag") String tag, @Param("voteTotal") Integer voteTotal,
+                                          @Param("id") Long id, Pageable pageable);
+
+    List<Bill> findByBillNameContainingIgnoreCaseAndIdLessThanOrderByIdDesc(String keyword, Long id, Pageable pageable);
+
+    long countByTag(String tag);
+
+    // id 순 일괄 조회 (검색 색인 구성용)
+    List<Bill> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * 투표 리더보드 구성용 (법안 id, 태그, 찬성, 반대) - 엔티티 로딩 없이 한 번에 조회
+     */
+    @Query("select b.id, b.tag, coalesce(v.agreeCount, 0), coalesce(v.disagreeCount, 0) " +
+           "from Bill b left join com.donzo.naitssu.domain.vote.entity.Vote v on v.billId = b.id")
+    List<Object[]> findAllVoteStandings();
+
+    /**
+     * 투표 반영 시 비정규화된 총 투표 수 함께 증가 (투표 UPSERT와 같은 트랜잭션에서 호출)
+     */
+    @Modifying
+    @Query(value = "UPDATE bills SET vote_total = vote_total + :n WHERE id = :billId", nativeQuery = true)
+    int incrementVoteTotal(@Param("billId") Long billId, @Param("n") int n);
+
+    /**
+     * votes.total_count와 어긋난 vote_total 보정 (컬럼 추가 이전 데이터 포함)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE bills b JOIN votes v ON v.bill_id = b.id " +
+                   "SET b.vote_total = v.total_count WHERE b.vote_total <> v.total_count", nativeQuery = true)
+    int syncVoteTotals();
 }
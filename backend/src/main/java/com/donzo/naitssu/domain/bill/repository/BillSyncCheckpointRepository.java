@@ -0,0 +1,13 @@
+package com.donzo.naitssu.domain.bill.repository;
+
+import com.donzo.naitssu.domain.bill.entity.BillSyncCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface BillSyncCheckpointRepository extends JpaRepository<BillSyncCheckpoint, Long> {
+
+    Optional<BillSyncCheckpoint> findByAge(Integer age);
+}
@@ -1,6 +1,7 @@
 package com.donzo.naitssu.domain.bill.service;
 
 import com.donzo.naitssu.domain.bill.dto.AssemblyApiResponse;
+import com.donzo.naitssu.global.resilience.ResilienceRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -19,7 +20,11 @@ import com.fasterxml.jackson.databind.JsonNode;
 @Slf4j
 public class AssemblyApiService {
 
-    private final WebClient webClient;
+    // API가 정상 응답했지만 해당 법안의 요약이 없을 때 요약 프롬프트에 넣는 문구
+    private static final String CONTENT_UNAVAILABLE = "법안 상세 내용을 가져올 수 없습니다.";
+
+    private final WebClient assemblyWebClient;
+    private final ResilienceRegistry resilienceRegistry;
 
     @Value("${assembly.api.key}")
     private String apiKey;
@@ -29,8 +34,8 @@ public class AssemblyApiService {
             log.info("국회 API 호출 시작: pageIndex={}, pageSize={}, age={}, apiKey={}", 
                     pageIndex, pageSize, age, apiKey != null ? "설정됨" : "설정되지 않음");
             
-                   // 원시 응답 받기
-                   String rawResponse = webClient
+                   // 원시 응답 받기 (서킷 브레이커 보호, 일시적 오류는 백오프 후 재시도)
+                   String rawResponse = resilienceRegistry.get(ResilienceRegistry.ASSEMBLY).execute(() -> assemblyWebClient
                        .get()
                        .uri(uriBuilder -> uriBuilder
                            .scheme("https")
@@ -43,7 +48,7 @@ public class AssemblyApiService {
                            .queryParam("AGE", age)
                            .build())
                        .retrieve()
-                       .bodyToMono(String.class)
+                       .bodyToMono(String.class))
                        .block();
             
             log.info("국회 API 원시 응답: {}", rawResponse);
@@ -106,38 +111,43 @@ public class AssemblyApiService {
         }
     }
 
-    public String getBillContent(String billNo) {
-        try {
-            log.info("법안 요약 API 호출 시작: billNo={}", billNo);
-            
-            // BPMBILLSUMMARY API 호출 (BILL_NO 사용)
-            String rawResponse = webClient
-                .get()
-                .uri(uriBuilder -> uriBuilder
-                    .scheme("https")
-                    .host("open.assembly.go.kr")
-                    .path("/portal/openapi/BPMBILLSUMMARY")
-                    .queryParam("KEY", apiKey)
-                    .queryParam("Type", "json")
-                    .queryParam("pIndex", 1)
-                    .queryParam("pSize", 1)
-                    .queryParam("BILL_NO", billNo)
-                    .build())
-                .header("User-Agent", "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36")
-                .header("Accept", "application/json")
-                .retrieve()
-                .bodyToMono(String.class)
-                .retry(3)
-                .block();
+    /**
+     * 법안 요약 조회 (논블로킹) - 요약이 없으면 기본 문구를 방출, 호출 실패나 비정상 응답이면 오류를 방출
+     */
+    public Mono<String> fetchBillContent(String billNo) {
+        log.info("법안 요약 API 호출 시작: billNo={}", billNo);
+
+        // BPMBILLSUMMARY API 호출 (BILL_NO 사용), HTML 차단 페이지도 장애로 집계되도록 파싱까지 보호 구간에 포함
+        return resilienceRegistry.get(ResilienceRegistry.ASSEMBLY).execute(() -> assemblyWebClient
+            .get()
+            .uri(uriBuilder -> uriBuilder
+                .scheme("https")
+                .host("open.assembly.go.kr")
+                .path("/portal/openapi/BPMBILLSUMMARY")
+                .queryParam("KEY", apiKey)
+                .queryParam("Type", "json")
+                .queryParam("pIndex", 1)
+                .queryParam("pSize", 1)
+                .queryParam("BILL_NO", billNo)
+                .build())
+            .header("User-Agent", "Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36")
+            .header("Accept", "application/json")
+            .retrieve()
+            .bodyToMono(String.class)
+            .map(this::extractBillContent))
+            .defaultIfEmpty(CONTENT_UNAVAILABLE)
+            .doOnError(e -> log.error("법안 요약 API 호출 중 오류 발생: billNo={}, error={}", billNo, e.getMessage()));
+    }
 
-            log.info("법안 요약 API 원시 응답: {}", rawResponse);
+    private String extractBillContent(String rawResponse) {
+        log.info("법안 요약 API 원시 응답: {}", rawResponse);
 
-            // HTML 응답인지 확인
-            if (rawResponse.trim().startsWith("<!DOCTYPE") || rawResponse.trim().startsWith("<HTML")) {
-                log.warn("HTML 응답을 받았습니다. 기본 내용 반환");
-                return "법안 상세 내용을 가져올 수 없습니다.";
-            }
+        // HTML 응답인지 확인 (점검/차단 페이지)
+        if (rawResponse.trim().startsWith("<!DOCTYPE") || rawResponse.trim().startsWith("<HTML")) {
+            throw new IllegalStateException("법안 요약 API가 HTML 응답을 반환함");
+        }
 
+        try {
             // JSON 파싱
             com.fasterxml.jackson.databind.ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
             com.fasterxml.jackson.databind.JsonNode jsonNode = objectMapper.readTree(rawResponse);
@@ -158,10 +168,9 @@ public class AssemblyApiService {
             }
 
             log.warn("법안 요약을 찾을 수 없음, 기본 내용 반환");
-            return "법안 상세 내용을 가져올 수 없습니다.";
+            return CONTENT_UNAVAILABLE;
         } catch (Exception e) {
-            log.error("법안 요약 API 호출 중 오류 발생: {}", e.getMessage(), e);
-            return "법안 상세 내용을 가져올 수 없습니다.";
+            throw new IllegalStateException("법안 요약 응답 파싱 실패: " + e.getMessage(), e);
         }
     }
 
@@ -0,0 +1,100 @@
+package com.donzo.naitssu.domain.bill.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 법안 조회 API 실행기 (bill.read.reactive.enabled=true 일 때만 등록)
+ *
+ * 블로킹 JPA 조회를 전용 스케줄러(bill-read)에서 실행해 서블릿 요청 스레드를 바로 반납하게 한다.
+ * 스케줄러 스레드 수는 DB 커넥션 풀 크기에 맞춰 커넥션 대기로 스레드가 쌓이지 않게 한다.
+ * 실행 중 + 대기 중 조회 수를 threads + queueCapacity로 제한해, 넘치면 스케줄러 종류와 관계없이 503으로 빠르게 거절한다.
+ * 가상 스레드 모드에서는 조회마다 가상 스레드를 쓰되, 동시에 DB를 쓰는 조회는 threads(기본값은 Hikari 풀 크기)개로
+ * 제한하고 빈 자리를 acquireTimeoutMs까지만 기다린 뒤 503으로 응답한다.
+ */
+@Component
+@ConditionalOnProperty(name = "bill.read.reactive.enabled", havingValue = "true")
+@Slf4j
+public class BillReadExecutor {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${bill.read.threads:${spring.datasource.hikari.maximum-pool-size:10}}")
+    private int threads;
+
+    @Value("${bill.read.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${bill.read.acquire-timeout-ms:${spring.datasource.hikari.connection-timeout:30000}}")
+    private long acquireTimeoutMs;
+
+    private Scheduler scheduler;
+    private Semaphore admission; // 실행 중 + 대기 중 조회 수 제한 (threads + queueCapacity)
+    private Semaphore runningSlots; // 가상 스레드 모드의 동시 조회 수 제한 (threads)
+
+    @PostConstruct
+    void init() {
+        int capacity = Math.max(1, threads) + Math.max(0, queueCapacity);
+        admission = new Semaphore(capacity);
+        if (virtualThreads) {
+            runningSlots = new Semaphore(Math.max(1, threads));
+            scheduler = Schedulers.fromExecutorService(Executors.newVirtualThreadPerTaskExecutor(), "bill-read");
+            log.info("비동기 법안 조회 실행기: 가상 스레드 (동시 조회 {}개, 대기열 {}건, 대기 {}ms)",
+                    threads, queueCapacity, acquireTimeoutMs);
+        } else {
+            // 스케줄러의 스레드별 대기 한도는 admission보다 크게 두어 두 모드 모두 admission에서만 거절되게 함
+            scheduler = Schedulers.newBoundedElastic(Math.max(1, threads), capacity, "bill-read");
+            log.info("비동기 법안 조회 실행기: 스레드 {}개, 대기열 {}건", threads, queueCapacity);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.dispose();
+    }
+
+    /**
+     * 전용 스케줄러에서 조회 실행 (대기열이 가득 차면 503)
+     */
+    public <T> Mono<ResponseEntity<T>> read(Callable<ResponseEntity<T>> query) {
+        return Mono.defer(() -> {
+                    if (!admission.tryAcquire()) {
+                        return Mono.<ResponseEntity<T>>error(new RejectedExecutionException("법안 조회 대기열 초과"));
+                    }
+                    return Mono.fromCallable(runningSlots == null ? query : () -> withRunningSlot(query))
+                            .subscribeOn(scheduler)
+                            .doFinally(signal -> admission.release());
+                })
+                .onErrorResume(RejectedExecutionException.class, e -> {
+                    log.warn("{}, 요청 거절", e.getMessage());
+                    return Mono.just(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build());
+                });
+    }
+
+    private <T> ResponseEntity<T> withRunningSlot(Callable<ResponseEntity<T>> query) throws Exception {
+        if (!runningSlots.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+            throw new RejectedExecutionException("법안 조회 DB 대기 시간 초과");
+        }
+        try {
+            return query.call();
+        } finally {
+            runningSlots.release();
+        }
+    }
+}
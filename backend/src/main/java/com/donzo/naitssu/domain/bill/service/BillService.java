@@ -1,20 +1,27 @@
 package com.donzo.naitssu.domain.bill.service;
 
-import com.donzo.naitssu.domain.bill.dto.AssemblyApiResponse;
+import com.donzo.naitssu.domain.bill.dto.BillCursor;
+import com.donzo.naitssu.domain.bill.dto.BillCursorPage;
 import com.donzo.naitssu.domain.bill.entity.Bill;
 import com.donzo.naitssu.domain.bill.repository.BillRepository;
+import com.donzo.naitssu.domain.search.service.SearchService;
+import com.donzo.naitssu.global.search.NgramIndex;
 import com.donzo.naitssu.domain.vote.entity.Vote;
 import com.donzo.naitssu.domain.vote.repository.VoteRepository;
+import com.donzo.naitssu.domain.vote.service.VoteCounterService;
+import com.donzo.naitssu.domain.vote.service.VoteLeaderboard;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
-import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -23,238 +30,77 @@ public class BillService {
 
     private final BillRepository billRepository;
     private final VoteRepository voteRepository;
-    private final AssemblyApiService assemblyApiService;
-    private final UpstageService upstageService;
+    private final VoteCounterService voteCounterService;
+    private final VoteLeaderboard voteLeaderboard;
+    private final SearchService searchService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${vote.counter.write-behind:true}")
+    private boolean writeBehindVotes; // true면 투표를 메모리에 누적 후 주기적으로 일괄 반영
     
-    @org.springframework.transaction.annotation.Transactional
-    public com.donzo.naitssu.domain.vote.entity.Vote incrementAgree(Long billId) {
-        java.util.Optional<com.donzo.naitssu.domain.vote.entity.Vote> existing = voteRepository.findById(billId);
-        com.donzo.naitssu.domain.vote.entity.Vote vote = existing.orElseGet(() -> com.donzo.naitssu.domain.vote.entity.Vote.builder()
-            .billId(billId)
-            .agreeCount(0)
-            .disagreeCount(0)
-            .build());
-        vote.incrementAgree();
-        return voteRepository.save(vote);
+    public Vote incrementAgree(Long billId) {
+        return incrementAgree(billId, 1);
     }
 
-    @org.springframework.transaction.annotation.Transactional
-    public com.donzo.naitssu.domain.vote.entity.Vote incrementDisagree(Long billId) {
-        java.util.Optional<com.donzo.naitssu.domain.vote.entity.Vote> existing = voteRepository.findById(billId);
-        com.donzo.naitssu.domain.vote.entity.Vote vote = existing.orElseGet(() -> com.donzo.naitssu.domain.vote.entity.Vote.builder()
-            .billId(billId)
-            .agreeCount(0)
-            .disagreeCount(0)
-            .build());
-        vote.incrementDisagree();
-        return voteRepository.save(vote);
+    public Vote incrementDisagree(Long billId) {
+        return incrementDisagree(billId, 1);
     }
 
-    @org.springframework.transaction.annotation.Transactional
-    public com.donzo.naitssu.domain.vote.entity.Vote incrementAgree(Long billId, int n) {
+    // write-behind 모드에서는 DB 커넥션을 잡지 않도록 트랜잭션 없이 카운터로 위임
+    public Vote incrementAgree(Long billId, int n) {
         int add = Math.max(0, n);
-        java.util.Optional<com.donzo.naitssu.domain.vote.entity.Vote> existing = voteRepository.findById(billId);
-        com.donzo.naitssu.domain.vote.entity.Vote vote = existing.orElseGet(() -> com.donzo.naitssu.domain.vote.entity.Vote.builder()
-            .billId(billId)
-            .agreeCount(0)
-            .disagreeCount(0)
-            .build());
-        vote.incrementAgreeBy(add);
-        return voteRepository.save(vote);
+        if (writeBehindVotes) {
+            return ranked(voteCounterService.addAgree(billId, add));
+        }
+        // 단일 UPSERT로 원자적 증가 (엔티티 조회 없음, 법안 행 잠금 후 반영)
+        return directVote(billId, add, () -> voteRepository.incrementAgree(billId, add));
     }
 
-    @org.springframework.transaction.annotation.Transactional
-    public com.donzo.naitssu.domain.vote.entity.Vote incrementDisagree(Long billId, int n) {
+    // write-behind 모드에서는 DB 커넥션을 잡지 않도록 트랜잭션 없이 카운터로 위임
+    public Vote incrementDisagree(Long billId, int n) {
         int add = Math.max(0, n);
-        java.util.Optional<com.donzo.naitssu.domain.vote.entity.Vote> existing = voteRepository.findById(billId);
-        com.donzo.naitssu.domain.vote.entity.Vote vote = existing.orElseGet(() -> com.donzo.naitssu.domain.vote.entity.Vote.builder()
-            .billId(billId)
-            .agreeCount(0)
-            .disagreeCount(0)
-            .build());
-        vote.incrementDisagreeBy(add);
-        return voteRepository.save(vote);
-    }
-
-    @Transactional
-    public void saveBillsFromAssemblyApi(int pageIndex, int pageSize, int age) {
-        try {
-            log.info("법안 데이터 동기화 시작: pageIndex={}, pageSize={}, age={}", pageIndex, pageSize, age);
-            
-            AssemblyApiResponse response = assemblyApiService.getBills(pageIndex, pageSize, age);
-            log.info("국회 API 응답 받음: response={}", response);
-            
-            if (response == null) {
-                throw new RuntimeException("국회 API 응답이 null입니다.");
-            }
-            
-            if (response.getBills() == null) {
-                throw new RuntimeException("국회 API 응답에서 bills 데이터가 null입니다. 응답: " + response);
-            }
-            
-            if (response.getBills().isEmpty()) {
-                throw new RuntimeException("국회 API 응답에서 bills 데이터가 비어있습니다. 응답: " + response);
-            }
-            
-            log.info("법안 개수: {} 개", response.getBills().size());
-            
-            for (AssemblyApiResponse.BillItem billItem : response.getBills()) {
-                try {
-                    saveBillFromApiResponse(billItem);
-                    log.info("법안 저장 성공: {}", billItem.getBillName());
-                } catch (Exception e) {
-                    log.error("개별 법안 저장 실패: billName={}, error={}", billItem.getBillName(), e.getMessage(), e);
-                    throw new RuntimeException("법안 저장 실패: " + billItem.getBillName() + ", 원인: " + e.getMessage(), e);
-                }
-            }
-            
-            log.info("법안 데이터 저장 완료: {} 개", response.getBills().size());
-        } catch (Exception e) {
-            log.error("법안 데이터 저장 중 오류 발생: {}", e.getMessage(), e);
-            throw new RuntimeException("법안 데이터 저장 실패: " + e.getMessage(), e);
+        if (writeBehindVotes) {
+            return ranked(voteCounterService.addDisagree(billId, add));
+        }
+        // 단일 UPSERT로 원자적 증가 (엔티티 조회 없음, 법안 행 잠금 후 반영)
+        return directVote(billId, add, () -> voteRepository.incrementDisagree(billId, add));
+    }
+
+    /**
+     * bills 행을 먼저 갱신해 배타 잠금을 잡는다.
+     * votes UPSERT의 외래 키 검사가 bills 행에 공유 잠금을 걸기 때문에, UPSERT를 먼저 하면
+     * 같은 법안에 동시에 투표한 두 트랜잭션이 공유 잠금을 쥔 채 서로의 배타 잠금을 기다리며 교착된다.
+     */
+    private void lockBillForVote(Long billId, int add) {
+        if (billRepository.incrementVoteTotal(billId, add) == 0) {
+            throw new NoSuchElementException("존재하지 않는 법안: " + billId);
         }
     }
 
-    @Transactional
-    public void saveBillFromApiResponse(AssemblyApiResponse.BillItem billItem) {
-        try {
-            log.info("법안 저장 시작: billName={}, billId={}", billItem.getBillName(), billItem.getBillId());
-            
-            // 법안 번호 파싱
-            Integer billNo = null;
-            try {
-                billNo = Integer.parseInt(billItem.getBillNo());
-                log.info("법안 번호 파싱 성공: {}", billNo);
-            } catch (NumberFormatException e) {
-                log.warn("법안 번호 파싱 실패: {}, 기본값 null 사용", billItem.getBillNo());
-            }
-
-            // 제안일 파싱
-            LocalDate proposeDate = null;
-            if (billItem.getProposeDate() != null && !billItem.getProposeDate().isEmpty()) {
-                try {
-                    proposeDate = LocalDate.parse(billItem.getProposeDate(), DateTimeFormatter.ofPattern("yyyy-MM-dd"));
-                    log.info("제안일 파싱 성공: {}", proposeDate);
-                } catch (Exception e) {
-                    log.warn("제안일 파싱 실패: {}, 기본값 null 사용", billItem.getProposeDate());
-                }
-            }
-
-            // 법안 상세 내용 가져오기
-            log.info("법안 상세 내용 가져오기 시작");
-            String billContent = assemblyApiService.getBillContent(billItem.getBillNo());
-            log.info("법안 상세 내용 가져오기 완료: length={}", billContent.length());
-            
-                   // Upstage API로 요약 생성
-                   log.info("Upstage API 요약 생성 시작");
-                   try {
-                       // API 호출 제한을 피하기 위해 1초 대기
-                       Thread.sleep(1000);
-                   } catch (InterruptedException e) {
-                       Thread.currentThread().interrupt();
-                       log.warn("대기 중 인터럽트 발생");
-                   }
-                   String summary = upstageService.generateBillSummary(billItem.getBillName(), billContent);
-                   log.info("Upstage API 요약 생성 완료");
-
-                   // JSON 파싱하여 분리 저장 필드 세팅
-                   String backgroundJson = null;
-                   String contentJson = null;
-                   String effectJson = null;
-                   String summaryLine = null;
-                   String summaryHighlight = null;
-                   String tag = null;
-                   try {
-                       com.fasterxml.jackson.databind.ObjectMapper om = new com.fasterxml.jackson.databind.ObjectMapper();
-                       com.fasterxml.jackson.databind.JsonNode root = om.readTree(summary);
-                       // 새 스펙 키에 맞춰 저장
-                       if (root.has("summaryBackground")) backgroundJson = root.get("summaryBackground").isArray() ? om.writeValueAsString(root.get("summaryBackground")) : root.get("summaryBackground").asText();
-                       if (root.has("summaryContent")) contentJson = om.writeValueAsString(root.get("summaryContent"));
-                       if (root.has("summaryEffect")) effectJson = om.writeValueAsString(root.get("summaryEffect"));
-                       if (root.has("summaryLine")) summaryLine = root.get("summaryLine").asText();
-                       if (root.has("summaryHighlight")) summaryHighlight = root.get("summaryHighlight").asText();
-                       if (root.has("tag")) tag = root.get("tag").asText();
-                   } catch (Exception parseEx) {
-                       log.warn("요약 JSON 파싱 실패, 원문 summary만 저장: {}", parseEx.getMessage());
-                   }
-
-                   // 태그 정규화: 허용 목록 이외는 "기타"로 강제
-                   tag = normalizeTag(tag);
-
-            // 법안 저장
-            log.info("법안 엔티티 생성 시작");
-            Bill bill = Bill.builder()
-                .billNo(billNo)
-                .billName(billItem.getBillName())
-                .proposeDate(proposeDate)
-                .proposer(billItem.getProposer())
-                .proposerKind(billItem.getProposerKind())
-                .summaryBackground(backgroundJson)
-                .summaryContent(contentJson)
-                .summaryEffect(effectJson)
-                .summaryLine(summaryLine)
-                    .summaryHighlight(summaryHighlight)
-                    .tag(tag)
-                .stage(billItem.getStage())
-                .build();
-
-            log.info("법안 DB 저장 시작");
-            Bill savedBill = billRepository.save(bill);
-            log.info("법안 DB 저장 완료: ID={}", savedBill.getId());
-
-            // 투표 정보 초기화
-            log.info("투표 정보 초기화 시작");
-            Vote vote = Vote.builder()
-                .billId(savedBill.getId())
-                .agreeCount(0)
-                .disagreeCount(0)
-                .build();
-
-            voteRepository.save(vote);
-            log.info("투표 정보 초기화 완료");
-
-            log.info("법안 저장 완료: ID={}, 제목={}", savedBill.getId(), savedBill.getBillName());
-        } catch (Exception e) {
-            log.error("법안 저장 중 오류 발생: billName={}, error={}", billItem.getBillName(), e.getMessage(), e);
-            throw new RuntimeException("법안 저장 실패: " + billItem.getBillName() + ", 원인: " + e.getMessage(), e);
+    /**
+     * 법안 행 잠금 → votes UPSERT → 같은 트랜잭션에서 votes 행 재조회
+     * UPSERT가 votes 행 잠금을 쥐고 있어 재조회 값이 이 트랜잭션이 커밋할 누적 값과 같다.
+     */
+    private Vote directVote(Long billId, int add, Runnable upsert) {
+        if (add == 0) {
+            return ranked(currentVote(billId));
         }
+        return ranked(transactionTemplate.execute(status -> {
+            lockBillForVote(billId, add);
+            upsert.run();
+            return currentVote(billId);
+        }));
     }
 
-    private static final Set<String> ALLOWED_TAGS = Set.of("전체", "교통", "주거", "경제", "환경", "고용", "기타");
+    // 투표 결과를 리더보드에 반영
+    private Vote ranked(Vote vote) {
+        voteLeaderboard.update(vote);
+        return vote;
+    }
 
-    private String normalizeTag(String raw) {
-        if (raw == null) return "기타";
-        String trimmed = raw.trim();
-        // 일부 모델이 영문/소문자/공백 포함 반환하는 경우를 대비한 간단 매핑
-        switch (trimmed.toLowerCase()) {
-            case "전체":
-            case "all":
-                return "전체";
-            case "교통":
-            case "transport":
-            case "교 통":
-                return "교통";
-            case "주거":
-            case "housing":
-                return "주거";
-            case "경제":
-            case "economy":
-                return "경제";
-            case "환경":
-            case "environment":
-                return "환경";
-            case "고용":
-            case "employment":
-                return "고용";
-            case "기타":
-            case "etc":
-            case "other":
-                return "기타";
-            default:
-                // 허용 집합과 정확 일치 확인 (모델이 이미 한글 정확값을 줄 수도 있음)
-                if (ALLOWED_TAGS.contains(trimmed)) return trimmed;
-                return "기타";
-        }
+    private Vote currentVote(Long billId) {
+        return voteRepository.findById(billId)
+            .orElseGet(() -> Vote.builder().billId(billId).agreeCount(0).disagreeCount(0).build());
     }
 
     @Transactional(readOnly = true)
@@ -273,10 +119,23 @@ public class BillService {
         return billRepository.findAll(pageable);
     }
 
+    /**
+     * 법안 검색 - 검색 색인(법안명·요약 전문)에서 관련도순으로 조회
+     * 색인 구성 전에는 제목 LIKE 검색으로 대체한다.
+     */
     @Transactional(readOnly = true)
     public org.springframework.data.domain.Page<Bill> searchBillsByTitle(String keyword, int page, int size) {
         org.springframework.data.domain.Pageable pageable = org.springframework.data.domain.PageRequest.of(page, size);
-        return billRepository.findByBillNameContainingIgnoreCase(keyword, pageable);
+        if (!searchService.isReady()) {
+            return billRepository.findByBillNameContainingIgnoreCase(keyword, pageable);
+        }
+
+        NgramIndex.Result ranked = searchService.rankBills(keyword, null, page, size);
+        List<Long> ids = ranked.hits().stream().map(NgramIndex.Hit::id).toList();
+        java.util.Map<Long, Bill> bills = billRepository.findAllById(ids).stream()
+                .collect(java.util.stream.Collectors.toMap(Bill::getId, b -> b));
+        List<Bill> ordered = ids.stream().map(bills::get).filter(java.util.Objects::nonNull).toList();
+        return new org.springframework.data.domain.PageImpl<>(ordered, pageable, ranked.total());
     }
 
     @Transactional(readOnly = true)
@@ -294,7 +153,7 @@ public class BillService {
     @Transactional(readOnly = true)
     public org.springframework.data.domain.Page<Bill> getBillsByTagAndSort(String tag, String sort, int page, int size) {
         org.springframework.data.domain.Pageable pageable = org.springframework.data.domain.PageRequest.of(page, size);
-        String normalized = (tag == null || tag.isBlank() || tag.trim().equals("전체")) ? null : tag.trim();
+        String normalized = normalizeTagFilter(tag);
         if (sort == null || sort.isBlank() || sort.equalsIgnoreCase("latest")) {
             return billRepository.findByTagOrderByLatest(normalized, pageable);
         }
@@ -305,20 +164,92 @@ public class BillService {
         return billRepository.findByTagOrderByLatest(normalized, pageable);
     }
 
+    /**
+     * 투표 수 상위 N개 법안과 투표 현황 (tag가 없으면 전체)
+     * 리더보드 구성 전에는 DB 정렬 조회로 대체한다.
+     */
+    @Transactional(readOnly = true)
+    public List<VoteLeaderboard.RankedBill> getTopRankedBills(String tag, int limit) {
+        int size = Math.max(1, limit);
+        String normalized = normalizeTagFilter(tag);
+        if (voteLeaderboard.isReady()) {
+            return voteLeaderboard.top(normalized, size);
+        }
+
+        org.springframework.data.domain.Pageable pageable = org.springframework.data.domain.PageRequest.of(0, size);
+        List<Bill> bills = billRepository.findByTagOrderByVotesDesc(normalized, pageable).getContent();
+        java.util.Map<Long, Vote> voteMap = voteRepository.findAllById(bills.stream().map(Bill::getId).toList()).stream()
+                .collect(java.util.stream.Collectors.toMap(Vote::getBillId, v -> v));
+        return bills.stream()
+                .map(b -> new VoteLeaderboard.RankedBill(b, voteMap.get(b.getId())))
+                .toList();
+    }
+
+    /**
+     * 커서 기반 법안 목록 (최신순/투표순, 태그 필터)
+     * offset 대신 마지막 행의 정렬 키 이후부터 인덱스를 읽으므로 깊은 페이지도 첫 페이지와 비용이 같다.
+     *
+     * @param includeTotal true일 때만 전체 개수 계산
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
     @Transactional(readOnly = true)
-    public java.util.Optional<Bill> getTopBillByVotes() {
-        org.springframework.data.domain.Pageable pageable = org.springframework.data.domain.PageRequest.of(0, 1);
-        org.springframework.data.domain.Page<Bill> page = billRepository.findAllOrderByVotesDesc(pageable);
-        if (page.hasContent()) {
-            return java.util.Optional.of(page.getContent().get(0));
+    public BillCursorPage getBillsByCursor(String tag, String sort, String cursor, int size, boolean includeTotal) {
+        String normalized = normalizeTagFilter(tag);
+        boolean byVotes = sort != null && sort.equalsIgnoreCase("votes");
+        BillCursor after = (cursor == null || cursor.isBlank()) ? null : BillCursor.decode(cursor);
+        org.springframework.data.domain.Pageable limit = org.springframework.data.domain.PageRequest.of(0, size + 1); // +1로 다음 페이지 확인
+
+        List<Bill> bills;
+        if (byVotes) {
+            int voteTotal = after != null ? after.voteTotal() : Integer.MAX_VALUE;
+            long id = after != null ? after.id() : Long.MAX_VALUE;
+            bills = normalized == null
+                    ? billRepository.findPageByVotesAfter(voteTotal, id, limit)
+                    : billRepository.findPageByTagAndVotesAfter(normalized, voteTotal, id, limit);
+        } else {
+            long id = after != null ? after.id() : Long.MAX_VALUE;
+            bills = normalized == null
+                    ? billRepository.findByIdLessThanOrderByIdDesc(id, limit)
+                    : billRepository.findByTagAndIdLessThanOrderByIdDesc(normalized, id, limit);
+        }
+
+        Long totalCount = null;
+        if (includeTotal) {
+            totalCount = normalized == null ? billRepository.count() : billRepository.countByTag(normalized);
         }
-        return java.util.Optional.empty();
+        return toCursorPage(bills, size, totalCount);
     }
 
+    /**
+     * 커서 기반 법안 제목 검색 (최신순)
+     */
     @Transactional(readOnly = true)
-    public java.util.List<Bill> getTopBillsByVotes(int limit) {
-        int size = Math.max(1, limit);
-        org.springframework.data.domain.Pageable pageable = org.springframework.data.domain.PageRequest.of(0, size);
-        return billRepository.findAllOrderByVotesDesc(pageable).getContent();
+    public BillCursorPage searchBillsByCursor(String keyword, String cursor, int size) {
+        long id = (cursor == null || cursor.isBlank()) ? Long.MAX_VALUE : BillCursor.decode(cursor).id();
+        List<Bill> bills = billRepository.findByBillNameContainingIgnoreCaseAndIdLessThanOrderByIdDesc(
+                keyword, id, org.springframework.data.domain.PageRequest.of(0, size + 1));
+        return toCursorPage(bills, size, null);
+    }
+
+    /**
+     * vote_total 컬럼 추가 이전 투표 수를 기동 시 한 번 보정
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void syncVoteTotals() {
+        int updated = billRepository.syncVoteTotals();
+        if (updated > 0) {
+            log.info("법안 총 투표 수 보정 완료: {}건", updated);
+        }
+    }
+
+    private BillCursorPage toCursorPage(List<Bill> bills, int size, Long totalCount) {
+        boolean hasNext = bills.size() > size;
+        List<Bill> content = hasNext ? bills.subList(0, size) : bills;
+        String nextCursor = hasNext ? BillCursor.from(content.get(content.size() - 1)).encode() : null;
+        return new BillCursorPage(content, hasNext, nextCursor, totalCount);
+    }
+
+    private String normalizeTagFilter(String tag) {
+        return (tag == null || tag.isBlank() || tag.trim().equals("전체")) ? null : tag.trim();
     }
 }
@@ -0,0 +1,377 @@
+package com.donzo.naitssu.domain.bill.service;
+
+import com.donzo.naitssu.domain.bill.dto.AssemblyApiResponse;
+import com.donzo.naitssu.domain.bill.entity.Bill;
+import com.donzo.naitssu.domain.bill.entity.BillSyncCheckpoint;
+import com.donzo.naitssu.domain.bill.repository.BillRepository;
+import com.donzo.naitssu.domain.bill.repository.BillSyncCheckpointRepository;
+import com.donzo.naitssu.domain.search.service.SearchService;
+import com.donzo.naitssu.domain.vote.entity.Vote;
+import com.donzo.naitssu.domain.vote.repository.VoteRepository;
+import com.donzo.naitssu.domain.vote.service.VoteLeaderboard;
+import com.donzo.naitssu.global.resilience.ResilienceRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 국회 API 법안 동기화 파이프라인
+ *
+ * 목록 조회 → 상세 내용 조회 → 요약 생성 → 저장 단계로 나누어 처리한다.
+ * 단계별로 동시성을 따로 제한하고, 저장은 짧은 배치 트랜잭션으로 커밋한다.
+ * 이미 저장된 법안(국회 BILL_ID 기준)은 단계(stage) 변경만 반영하므로 재실행 시 신규/변경 법안만 처리된다.
+ * 상세 조회나 요약이 실패한 법안은 기본 문구로 저장하지 않고 건너뛰어 다음 실행에서 다시 처리하며,
+ * 외부 API 서킷이 열리면 남은 법안은 바로 실패하고 다음 페이지로 넘어가지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BillSyncService {
+
+    private static final Set<String> ALLOWED_TAGS = Set.of("전체", "교통", "주거", "경제", "환경", "고용", "기타");
+
+    private final BillRepository billRepository;
+    private final VoteRepository voteRepository;
+    private final BillSyncCheckpointRepository checkpointRepository;
+    private final AssemblyApiService assemblyApiService;
+    private final UpstageService upstageService;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final VoteLeaderboard voteLeaderboard;
+    private final SearchService searchService;
+    private final ResilienceRegistry resilienceRegistry;
+
+    @Value("${bill.sync.content-concurrency:4}")
+    private int contentConcurrency;
+
+    @Value("${bill.sync.summary-concurrency:2}")
+    private int summaryConcurrency;
+
+    @Value("${bill.sync.batch-size:10}")
+    private int batchSize;
+
+    @Value("${bill.sync.max-pages:10}")
+    private int maxPages;
+
+    /**
+     * 지정한 페이지 하나만 동기화
+     */
+    public SyncResult syncPage(int pageIndex, int pageSize, int age) {
+        log.info("법안 데이터 동기화 시작: pageIndex={}, pageSize={}, age={}", pageIndex, pageSize, age);
+        List<AssemblyApiResponse.BillItem> items = fetchList(pageIndex, pageSize, age);
+        SyncResult result = runPipeline(items, age);
+        log.info("법안 데이터 동기화 완료: {}", result);
+        return result;
+    }
+
+    /**
+     * 첫 페이지부터 체크포인트에 도달할 때까지 페이지를 넘기며 동기화
+     */
+    public SyncResult syncIncremental(int pageSize, int age) {
+        BillSyncCheckpoint checkpoint = checkpointRepository.findByAge(age).orElse(null);
+        log.info("법안 증분 동기화 시작: age={}, checkpoint=({}, {})", age,
+                checkpoint != null ? checkpoint.getLastProposeDate() : null,
+                checkpoint != null ? checkpoint.getLastBillNo() : null);
+
+        SyncResult total = new SyncResult(0, 0, 0, 0, 0, 0);
+        for (int pageIndex = 1; pageIndex <= maxPages; pageIndex++) {
+            List<AssemblyApiResponse.BillItem> items = fetchList(pageIndex, pageSize, age);
+            if (items.isEmpty()) break;
+
+            SyncResult page = runPipeline(items, age);
+            total = total.plus(page);
+
+            // 장애로 서킷이 열렸으면 남은 페이지는 호출하지 않고 다음 실행에 맡김
+            if (page.getFailed() > 0 && resilienceRegistry.anyOpen()) {
+                log.warn("외부 API 서킷이 열려 증분 동기화 중단: pageIndex={}", pageIndex);
+                break;
+            }
+
+            // 법안 번호를 읽을 수 없는 항목은 순서를 판단할 수 없으므로 체크포인트 비교에서 제외
+            boolean reachedCheckpoint = checkpoint != null && items.stream()
+                    .filter(item -> parseBillNo(item) != null)
+                    .anyMatch(item -> !checkpoint.isAfter(parseProposeDate(item), parseBillNo(item)));
+            if (reachedCheckpoint || items.size() < pageSize) break;
+        }
+
+        log.info("법안 증분 동기화 완료: {}", total);
+        return total;
+    }
+
+    private List<AssemblyApiResponse.BillItem> fetchList(int pageIndex, int pageSize, int age) {
+        AssemblyApiResponse response = assemblyApiService.getBills(pageIndex, pageSize, age);
+        if (response == null || response.getBills() == null || response.getBills().isEmpty()) {
+            log.warn("국회 API 응답에 법안 데이터가 없음: pageIndex={}", pageIndex);
+            return List.of();
+        }
+        log.info("법안 개수: {} 개", response.getBills().size());
+        return response.getBills();
+    }
+
+    private SyncResult runPipeline(List<AssemblyApiResponse.BillItem> items, int age) {
+        if (items.isEmpty()) return new SyncResult(0, 0, 0, 0, 0, 0);
+
+        // 1. 법안 번호를 읽을 수 없거나 같은 페이지에 중복된 항목은 저장하지 않고 건너뜀
+        List<AssemblyApiResponse.BillItem> valid = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (AssemblyApiResponse.BillItem item : items) {
+            Integer billNo = parseBillNo(item);
+            if (billNo == null) {
+                log.warn("법안 번호를 읽을 수 없어 건너뜀: billId={}, billNo={}", item.getBillId(), item.getBillNo());
+            } else if (!seen.add(StringUtils.hasText(item.getBillId()) ? item.getBillId() : "no:" + billNo)) {
+                log.warn("같은 페이지에 중복된 법안 건너뜀: billId={}, billNo={}", item.getBillId(), billNo);
+            } else {
+                valid.add(item);
+            }
+        }
+        int skipped = items.size() - valid.size();
+
+        // 2. 기존 법안과 비교해 신규 / 단계 변경 / 변경 없음으로 분류
+        // BILL_ID로 먼저 찾고, BILL_ID가 없는 기존 법안은 법안 번호로 찾아 BILL_ID를 채움
+        List<String> billIds = valid.stream().map(AssemblyApiResponse.BillItem::getBillId)
+                .filter(StringUtils::hasText).toList();
+        Map<String, Bill> existingById = billIds.isEmpty() ? Map.of() : billRepository.findByAssemblyBillIdIn(billIds).stream()
+                .collect(Collectors.toMap(Bill::getAssemblyBillId, b -> b, (a, b) -> a));
+        List<Integer> billNos = valid.stream().map(this::parseBillNo).toList();
+        Map<Integer, Bill> existingByNo = billRepository.findByBillNoIn(billNos).stream()
+                .collect(Collectors.toMap(Bill::getBillNo, b -> b, (a, b) -> a));
+
+        List<AssemblyApiResponse.BillItem> newItems = new ArrayList<>();
+        List<Bill> stageChanged = new ArrayList<>();
+        List<Bill> linked = new ArrayList<>();
+        for (AssemblyApiResponse.BillItem item : valid) {
+            Bill bill = StringUtils.hasText(item.getBillId()) ? existingById.get(item.getBillId()) : null;
+            if (bill == null) bill = existingByNo.get(parseBillNo(item));
+            if (bill == null) {
+                newItems.add(item);
+                continue;
+            }
+            if (bill.getAssemblyBillId() == null && StringUtils.hasText(item.getBillId())) {
+                bill.linkAssemblyBillId(item.getBillId());
+                linked.add(bill);
+            }
+            if (!Objects.equals(bill.getStage(), item.getStage())) {
+                bill.updateStage(item.getStage());
+                stageChanged.add(bill);
+            }
+        }
+        int unchanged = valid.size() - newItems.size() - stageChanged.size();
+
+        if (!linked.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> billRepository.saveAll(linked));
+            log.info("기존 법안 BILL_ID 보충: {} 개", linked.size());
+        }
+
+        if (!stageChanged.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> billRepository.saveAll(stageChanged));
+            stageChanged.forEach(voteLeaderboard::register);
+            log.info("법안 단계 변경 반영: {} 개", stageChanged.size());
+        }
+
+        // 3~5. 상세 내용 조회 → 요약 생성 → 배치 저장 (단계별 동시성 제한, 입력 순서 유지)
+        AtomicInteger failed = new AtomicInteger();
+        Integer created = Flux.fromIterable(newItems)
+                .flatMapSequential(item -> assemblyApiService.fetchBillContent(item.getBillNo())
+                        .map(content -> new FetchedBill(item, content))
+                        .onErrorResume(e -> {
+                            log.error("법안 상세 내용 조회 실패: billName={}, error={}", item.getBillName(), e.getMessage());
+                            failed.incrementAndGet();
+                            return Mono.empty();
+                        }), contentConcurrency)
+                .flatMapSequential(fetched -> upstageService.summarizeBill(fetched.item().getBillName(), fetched.content())
+                        .map(summary -> toBill(fetched.item(), summary))
+                        .onErrorResume(e -> {
+                            log.error("법안 요약 생성 실패: billName={}, error={}", fetched.item().getBillName(), e.getMessage());
+                            failed.incrementAndGet();
+                            return Mono.empty();
+                        }), summaryConcurrency)
+                .buffer(Math.max(1, batchSize))
+                .concatMap(batch -> Mono.fromCallable(() -> persistBatch(batch))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .onErrorResume(e -> {
+                            log.error("법안 배치 저장 실패: {} 개, error={}", batch.size(), e.getMessage(), e);
+                            failed.addAndGet(batch.size());
+                            return Mono.just(0);
+                        }))
+                .reduce(0, Integer::sum)
+                .block();
+
+        // 6. 전부 성공한 경우에만 체크포인트 전진 (실패한 법안은 다음 실행에서 다시 처리)
+        if (failed.get() == 0) {
+            advanceCheckpoint(age, valid);
+        } else {
+            log.warn("실패한 법안이 있어 체크포인트를 유지: 실패 {} 개", failed.get());
+        }
+
+        return new SyncResult(items.size(), created != null ? created : 0, stageChanged.size(), unchanged, skipped, failed.get());
+    }
+
+    private int persistBatch(List<Bill> batch) {
+        int saved = Objects.requireNonNull(transactionTemplate.execute(status -> {
+            for (Bill bill : batch) {
+                Bill savedBill = billRepository.save(bill);
+                voteRepository.save(Vote.builder()
+                        .billId(savedBill.getId())
+                        .agreeCount(0)
+                        .disagreeCount(0)
+                        .build());
+                log.info("법안 저장 완료: ID={}, 제목={}", savedBill.getId(), savedBill.getBillName());
+            }
+            return batch.size();
+        }));
+        // 커밋 이후 리더보드/검색 색인에 등록 (롤백된 법안이 노출되지 않도록)
+        batch.forEach(voteLeaderboard::register);
+        batch.forEach(searchService::indexBill);
+        return saved;
+    }
+
+    private void advanceCheckpoint(int age, List<AssemblyApiResponse.BillItem> items) {
+        transactionTemplate.executeWithoutResult(status -> {
+            BillSyncCheckpoint checkpoint = checkpointRepository.findByAge(age)
+                    .orElseGet(() -> new BillSyncCheckpoint(age));
+            for (AssemblyApiResponse.BillItem item : items) {
+                checkpoint.advance(parseProposeDate(item), parseBillNo(item));
+            }
+            checkpointRepository.save(checkpoint);
+        });
+    }
+
+    private Bill toBill(AssemblyApiResponse.BillItem billItem, String summary) {
+        // JSON 파싱하여 분리 저장 필드 세팅
+        String backgroundJson = null;
+        String contentJson = null;
+        String effectJson = null;
+        String summaryLine = null;
+        String summaryHighlight = null;
+        String tag = null;
+        try {
+            JsonNode root = objectMapper.readTree(summary);
+            if (root.has("summaryBackground")) backgroundJson = root.get("summaryBackground").isArray() ? objectMapper.writeValueAsString(root.get("summaryBackground")) : root.get("summaryBackground").asText();
+            if (root.has("summaryContent")) contentJson = objectMapper.writeValueAsString(root.get("summaryContent"));
+            if (root.has("summaryEffect")) effectJson = objectMapper.writeValueAsString(root.get("summaryEffect"));
+            if (root.has("summaryLine")) summaryLine = root.get("summaryLine").asText();
+            if (root.has("summaryHighlight")) summaryHighlight = root.get("summaryHighlight").asText();
+            if (root.has("tag")) tag = root.get("tag").asText();
+        } catch (Exception parseEx) {
+            log.warn("요약 JSON 파싱 실패, 원문 summary만 저장: {}", parseEx.getMessage());
+        }
+
+        return Bill.builder()
+                .billNo(parseBillNo(billItem))
+                .assemblyBillId(StringUtils.hasText(billItem.getBillId()) ? billItem.getBillId() : null)
+                .billName(billItem.getBillName())
+                .proposeDate(parseProposeDate(billItem))
+                .proposer(billItem.getProposer())
+                .proposerKind(billItem.getProposerKind())
+                .summaryBackground(backgroundJson)
+                .summaryContent(contentJson)
+                .summaryEffect(effectJson)
+                .summaryLine(summaryLine)
+                .summaryHighlight(summaryHighlight)
+                .tag(normalizeTag(tag)) // 태그 정규화: 허용 목록 이외는 "기타"로 강제
+                .stage(billItem.getStage())
+                .build();
+    }
+
+    private Integer parseBillNo(AssemblyApiResponse.BillItem billItem) {
+        try {
+            return Integer.parseInt(billItem.getBillNo());
+        } catch (NumberFormatException e) {
+            log.debug("법안 번호 파싱 실패: {}", billItem.getBillNo());
+            return null;
+        }
+    }
+
+    private LocalDate parseProposeDate(AssemblyApiResponse.BillItem billItem) {
+        if (billItem.getProposeDate() == null || billItem.getProposeDate().isEmpty()) return null;
+        try {
+            return LocalDate.parse(billItem.getProposeDate(), DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        } catch (Exception e) {
+            log.warn("제안일 파싱 실패: {}, 기본값 null 사용", billItem.getProposeDate());
+            return null;
+        }
+    }
+
+    private String normalizeTag(String raw) {
+        if (raw == null) return "기타";
+        String trimmed = raw.trim();
+        // 일부 모델이 영문/소문자/공백 포함 반환하는 경우를 대비한 간단 매핑
+        switch (trimmed.toLowerCase()) {
+            case "전체":
+            case "all":
+                return "전체";
+            case "교통":
+            case "transport":
+            case "교 통":
+                return "교통";
+            case "주거":
+            case "housing":
+                return "주거";
+            case "경제":
+            case "economy":
+                return "경제";
+            case "환경":
+            case "environment":
+                return "환경";
+            case "고용":
+            case "employment":
+                return "고용";
+            case "기타":
+            case "etc":
+            case "other":
+                return "기타";
+            default:
+                // 허용 집합과 정확 일치 확인 (모델이 이미 한글 정확값을 줄 수도 있음)
+                if (ALLOWED_TAGS.contains(trimmed)) return trimmed;
+                return "기타";
+        }
+    }
+
+    private record FetchedBill(AssemblyApiResponse.BillItem item, String content) {
+    }
+
+    // 동기화 결과 집계
+    @Getter
+    @AllArgsConstructor
+    public static class SyncResult {
+        private final int fetched;
+        private final int created;
+        private final int stageUpdated;
+        private final int unchanged;
+        private final int skipped; // 법안 번호 오류 또는 중복
+        private final int failed;
+
+        public SyncResult plus(SyncResult other) {
+            return new SyncResult(fetched + other.fetched, created + other.created,
+                    stageUpdated + other.stageUpdated, unchanged + other.unchanged,
+                    skipped + other.skipped, failed + other.failed);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("조회 %d, 신규 %d, 단계 변경 %d, 변경 없음 %d, 건너뜀 %d, 실패 %d",
+                    fetched, created, stageUpdated, unchanged, skipped, failed);
+        }
+    }
+}
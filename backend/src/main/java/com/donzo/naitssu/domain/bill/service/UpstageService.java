@@ -1,5 +1,8 @@
 package com.donzo.naitssu.domain.bill.service;
 
+import com.donzo.naitssu.global.cache.LlmResponseCache;
+import com.donzo.naitssu.global.ratelimit.UpstageRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,9 +11,7 @@ import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
-import reactor.util.retry.Retry;
 
-import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -19,7 +20,10 @@ import java.util.Map;
 @Slf4j
 public class UpstageService {
 
-    private final WebClient webClient;
+    private final WebClient upstageChatWebClient;
+    private final UpstageRateLimiter rateLimiter;
+    private final LlmResponseCache llmResponseCache;
+    private final ObjectMapper objectMapper;
 
     @Value("${upstage.api.key}")
     private String apiKey;
@@ -27,7 +31,11 @@ public class UpstageService {
     @Value("${upstage.api.url}")
     private String apiUrl;
 
-    public String generateBillSummary(String billName, String billContent) {
+    /**
+     * 법안 요약 생성 (논블로킹) - 응답이 비거나 실패하면 오류를 방출
+     * 기본 문구가 실제 요약처럼 저장되지 않도록 대체 값을 만들지 않고, 재처리는 호출 측에 맡긴다.
+     */
+    public Mono<String> summarizeBill(String billName, String billContent) {
         String prompt = String.format("""
             다음 법안에 대해 아래 JSON 스펙대로만 출력하세요. 설명문 없이, 오직 유효한 JSON만 반환.
 
@@ -62,63 +70,75 @@ public class UpstageService {
             - 위 목록에 해당하지 않으면 반드시 "기타"로 설정
             """, billName, billContent);
 
+        String model = "solar-1-mini-chat";
+        String systemPrompt = "당신은 법안을 일반인이 이해하기 쉽게 설명하는 전문가입니다.";
+        double temperature = 0.7;
+
         // Upstage API 요청 형식
         Map<String, Object> request = Map.of(
-            "model", "solar-1-mini-chat",
+            "model", model,
             "messages", List.of(
-                Map.of("role", "system", "content", "당신은 법안을 일반인이 이해하기 쉽게 설명하는 전문가입니다."),
+                Map.of("role", "system", "content", systemPrompt),
                 Map.of("role", "user", "content", prompt)
             ),
             "max_tokens", 1000,
-            "temperature", 0.7
+            "temperature", temperature
         );
 
-        try {
-            log.info("Upstage API 요약 생성 시작: billName={}", billName);
+        log.info("Upstage API 요약 생성 시작: billName={}", billName);
 
-            Map<String, Object> response = webClient
+        // 동일한 입력이면 캐시된 요약을 재사용 (재동기화/재시도 시 LLM 호출 생략)
+        // JSON 객체로 파싱되는 응답만 캐시하고, 아니면 실패시켜 다음 동기화에서 새로 생성하게 함
+        return llmResponseCache.getOrCompute(model, systemPrompt, prompt, temperature,
+                    () -> requestSummary(request, prompt), this::isSummaryJson)
+            .filter(summary -> !summary.isEmpty())
+            .switchIfEmpty(Mono.error(() -> new IllegalStateException("Upstage API 요약 응답이 비어있음")))
+            .filter(this::isSummaryJson)
+            .switchIfEmpty(Mono.error(() -> new IllegalStateException("Upstage API 요약 응답이 JSON 형식이 아님")))
+            .doOnNext(summary -> log.info("Upstage API 요약 생성 완료: length={}", summary.length()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<String> requestSummary(Map<String, Object> request, String prompt) {
+        // 배치 우선순위로 공용 속도 제한기를 거쳐 호출 (429 재시도는 속도 제한기, 장애 차단은 서킷 브레이커가 처리)
+        long estimatedTokens = UpstageRateLimiter.estimateTokens(prompt.length(), 1000);
+        return rateLimiter.execute(UpstageRateLimiter.Priority.BATCH, estimatedTokens, () -> upstageChatWebClient
                 .post()
                 .uri(apiUrl)
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
                 .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .bodyValue(request)
                 .retrieve()
-                .bodyToMono(Map.class)
-                .retryWhen(Retry.backoff(3, Duration.ofSeconds(2))
-                    .filter(throwable -> {
-                        if (throwable instanceof org.springframework.web.reactive.function.client.WebClientResponseException) {
-                            org.springframework.web.reactive.function.client.WebClientResponseException ex =
-                                (org.springframework.web.reactive.function.client.WebClientResponseException) throwable;
-                            return ex.getStatusCode().value() == 429; // Too Many Requests
-                        }
-                        return false;
-                    })
-                    .doBeforeRetry(retrySignal -> {
-                        log.warn("Upstage API 재시도 중... 시도 횟수: {}, 에러: {}",
-                            retrySignal.totalRetries() + 1, retrySignal.failure().getMessage());
-                    }))
-                .doOnNext(resp -> log.info("Upstage API 호출 성공"))
-                .doOnError(error -> log.error("Upstage API 호출 최종 실패: {}", error.getMessage()))
-                .onErrorReturn(Map.of())
-                .block();
-
-            if (response != null && response.containsKey("choices")) {
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> choices = (List<Map<String, Object>>) response.get("choices");
-                if (!choices.isEmpty()) {
-                    @SuppressWarnings("unchecked")
-                    Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
-                    String summary = (String) message.get("content");
-                    log.info("Upstage API 요약 생성 완료: length={}", summary.length());
-                    return summary;
+                .bodyToMono(Map.class),
+                UpstageService::usedTokens)
+            .doOnNext(resp -> log.info("Upstage API 호출 성공"))
+            .doOnError(error -> log.error("Upstage API 호출 최종 실패: {}", error.getMessage()))
+            .map(response -> {
+                if (response.containsKey("choices")) {
+                    List<Map<String, Object>> choices = (List<Map<String, Object>>) response.get("choices");
+                    if (!choices.isEmpty()) {
+                        Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
+                        String content = (String) message.get("content");
+                        return content != null ? content : "";
+                    }
                 }
-            }
+                return "";
+            });
+    }
 
-            log.warn("Upstage API 응답이 비어있음, 기본 요약 반환");
-            return "법안 요약: " + billName + "에 대한 상세한 내용은 추후 제공될 예정입니다.";
+    private boolean isSummaryJson(String summary) {
+        try {
+            return objectMapper.readTree(summary).isObject();
         } catch (Exception e) {
-            log.error("Upstage API 호출 중 오류 발생: {}", e.getMessage(), e);
-            return "법안 요약: " + billName + "에 대한 상세한 내용은 추후 제공될 예정입니다.";
+            return false;
+        }
+    }
+
+    // 응답의 usage.total_tokens (없으면 -1, 속도 제한기가 추정치를 유지)
+    private static long usedTokens(Map<?, ?> response) {
+        if (response.get("usage") instanceof Map<?, ?> usage && usage.get("total_tokens") instanceof Number total) {
+            return total.longValue();
         }
+        return -1;
     }
-}
\ No newline at end of file
+}
@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 
@@ -21,20 +22,17 @@ public class ChatBotController {
     private final ChatBotService chatBotService;
 
     @PostMapping(value = "/chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public Flux<String> chatStream(@RequestBody ChatRequest request) {
+    public Flux<ServerSentEvent<String>> chatStream(@RequestBody ChatRequest request) {
         log.info("챗봇 스트리밍 요청: billId={}, meetingId={}, message={}, sessionId={}", 
                 request.getBillId(), request.getMeetingId(), request.getMessage(), request.getSessionId());
         
+        // 줄바꿈이 포함된 delta는 SSE 규칙에 따라 여러 data 줄로 나뉘어 전송됨
         return chatBotService.chatStream(request)
                 .filter(Objects::nonNull)
-                .map(chunk -> {
-                    log.debug("컨트롤러에서 받은 chunk: '{}'", chunk);
-                    chunk = chunk.replace("\n", "\\n");
-                    return chunk;
-                })
-                .concatWith(Flux.just("[DONE]"))
+                .map(chunk -> ServerSentEvent.builder(chunk).build())
+                .concatWith(Flux.just(ServerSentEvent.builder("[DONE]").event("done").build()))
                 .doOnComplete(() -> log.info("챗봇 스트리밍 완료"))
-                .onErrorReturn("죄송합니다. 서비스에 문제가 발생했습니다.");
+                .onErrorReturn(ServerSentEvent.builder("죄송합니다. 서비스에 문제가 발생했습니다.").build());
     }
 
 
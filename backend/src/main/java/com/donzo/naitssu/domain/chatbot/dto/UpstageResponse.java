@@ -1,5 +1,6 @@
 package com.donzo.naitssu.domain.chatbot.dto;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -33,8 +34,11 @@ public class UpstageResponse {
     @Getter
     @NoArgsConstructor
     public static class Usage {
+        @JsonProperty("prompt_tokens")
         private int promptTokens;
+        @JsonProperty("completion_tokens")
         private int completionTokens;
+        @JsonProperty("total_tokens")
         private int totalTokens;
     }
 }
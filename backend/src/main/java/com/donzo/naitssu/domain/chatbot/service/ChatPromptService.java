@@ -0,0 +1,228 @@
+package com.donzo.naitssu.domain.chatbot.service;
+
+import com.donzo.naitssu.domain.bill.entity.Bill;
+import com.donzo.naitssu.domain.bill.repository.BillRepository;
+import com.donzo.naitssu.domain.meeting.entity.Meeting;
+import com.donzo.naitssu.domain.meeting.repository.MeetingRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * 챗봇 시스템 프롬프트 생성 및 캐시
+ *
+ * 법안/회의별로 완성된 시스템 프롬프트를 (대상, updatedAt) 기준으로 캐시한다.
+ * revalidate 주기 안에서는 DB를 조회하지 않고, 이후에는 updatedAt만 조회해 변경된 경우에만 다시 만든다.
+ * DB 조회는 이벤트 루프가 아닌 boundedElastic 스케줄러에서 수행한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatPromptService {
+
+    private static final String GENERAL_CONTEXT = "GENERAL_ASSEMBLY_QNA";
+
+    private final BillRepository billRepository;
+    private final MeetingRepository meetingRepository;
+
+    @Value("${chatbot.prompt.cache-max-entries:500}")
+    private int cacheMaxEntries;
+
+    @Value("${chatbot.prompt.revalidate-seconds:60}")
+    private long revalidateSeconds;
+
+    private final Map<String, CachedPrompt> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedPrompt> eldest) {
+            return size() > cacheMaxEntries;
+        }
+    };
+
+    /**
+     * 대화 대상(회의 > 법안 > 일반)에 맞는 시스템 프롬프트
+     * 대상 법안/회의가 없으면 IllegalArgumentException으로 실패한다.
+     */
+    public Mono<String> systemPrompt(Long billId, Long meetingId) {
+        if (meetingId == null && billId == null) {
+            return Mono.just(createSystemPrompt(GENERAL_CONTEXT));
+        }
+        return Mono.fromCallable(() -> meetingId != null ? meetingPrompt(meetingId) : billPrompt(billId))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private String meetingPrompt(Long meetingId) {
+        String key = "meeting:" + meetingId;
+        String cached = getFresh(key);
+        if (cached != null) return cached;
+
+        Optional<LocalDateTime> updatedAt = meetingRepository.findUpdatedAtById(meetingId);
+        cached = getIfUnchanged(key, updatedAt);
+        if (cached != null) return cached;
+
+        Meeting meeting = meetingRepository.findById(meetingId)
+                .orElseThrow(() -> new IllegalArgumentException("회의를 찾을 수 없습니다: " + meetingId));
+
+        // 회의 정보 구성
+        StringBuilder meetingInfo = new StringBuilder();
+        meetingInfo.append("회의명: ").append(meeting.getTitle()).append("\n");
+        meetingInfo.append("회의종류: ").append(meeting.getClassName() != null ? meeting.getClassName() : "정보 없음").append("\n");
+        meetingInfo.append("회의날짜: ").append(meeting.getConfDate() != null ? meeting.getConfDate() : "정보 없음").append("\n");
+        meetingInfo.append("대수: ").append(meeting.getDaeNum() != null ? meeting.getDaeNum() : "정보 없음").append("\n");
+        
+        if (meeting.getSubName() != null && !meeting.getSubName().trim().isEmpty()) {
+            meetingInfo.append("안건명: ").append(meeting.getSubName()).append("\n");
+        }
+        
+        if (meeting.getSummary() != null && !meeting.getSummary().trim().isEmpty()) {
+            meetingInfo.append("회의 요약: ").append(meeting.getSummary()).append("\n");
+        }
+        
+        // 일반 요약이 있다면 추가
+        if (meeting.getGeneralSummary() != null && !meeting.getGeneralSummary().trim().isEmpty()) {
+            meetingInfo.append("상세 내용: ").append(meeting.getGeneralSummary()).append("\n");
+        }
+
+        return put(key, meeting.getUpdatedAt(), createSystemPrompt("SPECIFIC_MEETING|" + meetingInfo));
+    }
+
+    private String billPrompt(Long billId) {
+        String key = "bill:" + billId;
+        String cached = getFresh(key);
+        if (cached != null) return cached;
+
+        Optional<LocalDateTime> updatedAt = billRepository.findUpdatedAtById(billId);
+        cached = getIfUnchanged(key, updatedAt);
+        if (cached != null) return cached;
+
+        Bill bill = billRepository.findById(billId)
+                .orElseThrow(() -> new IllegalArgumentException("법률안을 찾을 수 없습니다: " + billId));
+        String billInfo = String.format("법률안 제목: %s\n법률안 요약: %s", bill.getTitle(), bill.getSummary());
+        return put(key, bill.getUpdatedAt(), createSystemPrompt("SPECIFIC_BILL|" + billInfo));
+    }
+
+    /**
+     * 마지막 확인 후 revalidate 주기가 지나지 않은 프롬프트
+     */
+    private String getFresh(String key) {
+        synchronized (cache) {
+            CachedPrompt cached = cache.get(key);
+            if (cached != null && System.currentTimeMillis() - cached.checkedAt() < revalidateSeconds * 1000) {
+                return cached.prompt();
+            }
+            return null;
+        }
+    }
+
+    /**
+     * updatedAt이 그대로면 확인 시각만 갱신하고 기존 프롬프트 사용
+     */
+    private String getIfUnchanged(String key, Optional<LocalDateTime> updatedAt) {
+        if (updatedAt.isEmpty()) return null;
+        synchronized (cache) {
+            CachedPrompt cached = cache.get(key);
+            if (cached == null || !Objects.equals(cached.updatedAt(), updatedAt.get())) return null;
+            cache.put(key, new CachedPrompt(cached.updatedAt(), cached.prompt(), System.currentTimeMillis()));
+            return cached.prompt();
+        }
+    }
+
+    private String put(String key, LocalDateTime updatedAt, String prompt) {
+        synchronized (cache) {
+            cache.put(key, new CachedPrompt(updatedAt, prompt, System.currentTimeMillis()));
+        }
+        log.debug("시스템 프롬프트 생성: {} (길이: {})", key, prompt.length());
+        return prompt;
+    }
+
+    private String createSystemPrompt(String context) {
+        if ("GENERAL_ASSEMBLY_QNA".equals(context)) {
+            return """
+                당신은 대한민국 국회에 대한 모든 것을 설명하는 전문 AI 어시스턴트입니다.
+                단, 마크다운 문법을 사용하지 않으면서 대답해야 합니다.
+                단순한 마크다운 문법 조차도 사용하지 마세요. (예: 강조, 번호 매기기, 굵은 글씨, 기울임꼴, 코드 블록 등)
+                
+                전문 분야:
+                1. 국회의 구조와 운영 (본회의, 상임위원회, 특별위원회)
+                2. 법률 제정 과정 (발의 → 위원회 심사 → 본회의 의결)
+                3. 국정감사 및 국정조사
+                4. 예산 심의 과정
+                5. 국회의원의 역할과 권한
+                6. 국회 용어 및 절차 설명
+                7. 국회 역사와 제도
+                
+                역할:
+                - 국회 관련 모든 질문에 친절하고 정확하게 답변
+                - 복잡한 국회 절차를 쉽게 설명
+                - 시민들이 이해하기 쉬운 용어로 설명
+                - 객관적이고 중립적인 관점 유지
+                - 한국어로 답변
+                
+                예시 질문들:
+                "법률안은 어떻게 만들어지나요?",
+                "국정감사란 무엇인가요?", "상임위원회는 뭔가요?" 등
+                """;
+        } else if (context.startsWith("SPECIFIC_BILL|")) {
+            String billInfo = context.substring("SPECIFIC_BILL|".length());
+            return String.format("""
+                당신은 법률안(처리의안)에 대해 이해를 도와주는 전문 AI 어시스턴트입니다.
+                단, 마크다운 문법을 사용하지 않으면서 대답해야 합니다.
+                단순한 마크다운 문법 조차도 사용하지 마세요. (예: 강조, 번호 매기기, 굵은 글씨, 기울임꼴, 코드 블록 등)
+                
+                현재 법률안(처리의안) 정보:
+                %s
+                
+                역할:
+                1. 이 법률안의 내용을 쉽고 명확하게 설명해주세요
+                2. 시민들이 이해하기 쉬운 용어로 답변해주세요
+                3. 법률안 관련 궁금한 점에 친절하게 답변해주세요
+                4. 한국어로 답변해주세요
+                
+                주의사항:
+                - 정확하지 않은 정보는 제공하지 마세요
+                - 특정 정치적 입장을 지지하거나 반대하지 마세요
+                - 객관적이고 중립적인 관점을 유지해주세요
+                - 마크다운 문법을 사용하지 않으면서 대답해야 합니다.
+                - 단순한 마크다운 문법 조차도 사용하지 마세요. (예: 강조, 번호 매기기, 굵은 글씨, 기울임꼴, 코드 블록 등)
+                """, billInfo);
+        } else if (context.startsWith("SPECIFIC_MEETING|")) {
+            String meetingInfo = context.substring("SPECIFIC_MEETING|".length());
+            return String.format("""
+                당신은 국회 본회의 회의록에 대해 이해를 도와주는 전문 AI 어시스턴트입니다.
+                단, 마크다운 문법을 사용하지 않으면서 대답해야 합니다.
+                단순한 마크다운 문법 조차도 사용하지 마세요. (예: 강조, 번호 매기기, 굵은 글씨, 기울임꼴, 코드 블록 등)
+                
+                현재 회의 정보:
+                %s
+                
+                역할:
+                1. 이 회의의 내용과 진행 과정을 쉽고 명확하게 설명해주세요
+                2. 시민들이 이해하기 쉬운 용어로 답변해주세요
+                3. 회의 관련 궁금한 점에 친절하게 답변해주세요
+                4. 질문과 함께 회의록 원문 발췌가 주어지면 발췌 내용을 근거로 답변해주세요
+                5. 한국어로 답변해주세요
+                
+                주의사항:
+                - 정확하지 않은 정보는 제공하지 마세요
+                - 특정 정치적 입장을 지지하거나 반대하지 마세요
+                - 객관적이고 중립적인 관점을 유지해주세요
+                - 회의록에 없는 내용은 추측하지 마세요
+                - 마크다운 문법을 사용하지 않으면서 대답해야 합니다.
+                - 단순한 마크다운 문법 조차도 사용하지 마세요. (예: 강조, 번호 매기기, 굵은 글씨, 기울임꼴, 코드 블록 등)
+                """, meetingInfo);
+        } else {
+            return "해당 법률안 또는 회의를 찾을 수 없습니다. 일반적인 국회 관련 질문을 해주세요.";
+        }
+    }
+
+    private record CachedPrompt(LocalDateTime updatedAt, String prompt, long checkedAt) {
+    }
+}
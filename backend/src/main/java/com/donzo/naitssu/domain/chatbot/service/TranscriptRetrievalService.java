@@ -0,0 +1,185 @@
+package com.donzo.naitssu.domain.chatbot.service;
+
+import com.donzo.naitssu.domain.meeting.entity.Meeting;
+import com.donzo.naitssu.domain.meeting.repository.MeetingRepository;
+import com.donzo.naitssu.domain.meeting.service.MeetingTranscriptService;
+import com.donzo.naitssu.global.search.NgramIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 회의록 원문 검색 (챗봇 답변 근거 발췌)
+ *
+ * 저장된 회의록 파싱 텍스트를 겹치는 구간으로 나눠 회의별 BM25 색인을 만들고,
+ * 사용자 질문마다 관련도가 높은 구간 top-k만 돌려준다. 전체 회의록 대신 발췌만 프롬프트에 넣어
+ * 토큰 사용량과 첫 응답 지연을 줄인다. 색인은 최근 사용한 회의 위주로 메모리에 유지하며,
+ * 조회 때마다 최근 파싱된 PDF 해시와 비교해 회의록이 다시 파싱되었으면 색인을 새로 만든다.
+ * 같은 회의에 질문이 몰려도 색인은 회의록 버전마다 한 번만 만든다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TranscriptRetrievalService {
+
+    private final MeetingRepository meetingRepository;
+    private final MeetingTranscriptService meetingTranscriptService;
+
+    @Value("${chatbot.rag.top-k:4}")
+    private int topK;
+
+    @Value("${chatbot.rag.passage-chars:700}")
+    private int passageChars;
+
+    @Value("${chatbot.rag.passage-overlap-chars:100}")
+    private int overlapChars;
+
+    @Value("${chatbot.rag.max-cached-meetings:32}")
+    private int maxCachedMeetings;
+
+    private final Map<Long, TranscriptIndex> indexes = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, TranscriptIndex> eldest) {
+            return size() > maxCachedMeetings;
+        }
+    };
+
+    private final Map<BuildKey, CompletableFuture<TranscriptIndex>> building = new ConcurrentHashMap<>();
+
+    /**
+     * 질문과 관련된 회의록 구간 (원문 순서대로, 회의록이 아직 없으면 빈 목록)
+     */
+    public Mono<List<String>> retrieve(Long meetingId, String question) {
+        if (meetingId == null || question == null || question.isBlank()) {
+            return Mono.just(List.of());
+        }
+        return Mono.fromCallable(() -> search(meetingId, question))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private List<String> search(Long meetingId, String question) {
+        TranscriptIndex transcript = indexOf(meetingId).orElse(null);
+        if (transcript == null) return List.of();
+
+        // 관련도순 상위 구간을 고른 뒤 읽기 쉽도록 원문 순서로 정렬
+        return transcript.index().searchAny(question, topK).hits().stream()
+                .sorted(Comparator.comparingLong(NgramIndex.Hit::id))
+                .map(hit -> transcript.passages().get((int) hit.id()))
+                .toList();
+    }
+
+    private Optional<TranscriptIndex> indexOf(Long meetingId) {
+        TranscriptIndex cached;
+        synchronized (indexes) {
+            cached = indexes.get(meetingId);
+        }
+
+        String conferNum = cached != null ? cached.conferNum()
+                : meetingRepository.findById(meetingId).map(Meeting::getConferNum).orElse(null);
+        String pdfHash = meetingTranscriptService.findLatestHash(conferNum).orElse(null);
+        if (pdfHash == null) return Optional.empty(); // 아직 파싱되지 않은 회의 (캐시하지 않음)
+        if (cached != null && cached.pdfHash().equals(pdfHash)) return Optional.of(cached);
+
+        // 같은 회의록 색인은 한 요청만 만들고, 동시에 들어온 요청은 그 결과를 기다림
+        BuildKey key = new BuildKey(meetingId, pdfHash);
+        CompletableFuture<TranscriptIndex> created = new CompletableFuture<>();
+        CompletableFuture<TranscriptIndex> inFlight = building.putIfAbsent(key, created);
+        if (inFlight != null) return Optional.ofNullable(await(inFlight));
+
+        try {
+            TranscriptIndex built = build(meetingId, conferNum, pdfHash, cached != null);
+            created.complete(built);
+            return Optional.ofNullable(built);
+        } catch (RuntimeException e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            building.remove(key, created);
+        }
+    }
+
+    private TranscriptIndex build(Long meetingId, String conferNum, String pdfHash, boolean rebuild) {
+        synchronized (indexes) {
+            // 앞선 요청이 막 색인을 만들고 빠져나간 경우
+            TranscriptIndex cached = indexes.get(meetingId);
+            if (cached != null && cached.pdfHash().equals(pdfHash)) return cached;
+        }
+
+        Optional<String> text = meetingTranscriptService.find(conferNum, pdfHash);
+        if (text.isEmpty()) return null;
+
+        List<String> passages = split(text.get());
+        NgramIndex index = new NgramIndex();
+        for (int i = 0; i < passages.size(); i++) {
+            index.put(i, null, List.of(new NgramIndex.Field(passages.get(i), 1)));
+        }
+        TranscriptIndex built = new TranscriptIndex(conferNum, pdfHash, passages, index);
+        log.debug("회의록 검색 색인 생성: meetingId={}, 구간 {}개{}", meetingId, passages.size(),
+                rebuild ? " (회의록 변경으로 재생성)" : "");
+
+        synchronized (indexes) {
+            indexes.put(meetingId, built);
+        }
+        return built;
+    }
+
+    private static TranscriptIndex await(CompletableFuture<TranscriptIndex> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * 줄바꿈/문장 끝에서 끊어 passageChars 이하 구간으로 나눔 (앞 구간과 overlapChars만큼 겹침)
+     */
+    private List<String> split(String text) {
+        List<String> passages = new ArrayList<>();
+        int length = text.length();
+        int start = 0;
+        while (start < length) {
+            int end = Math.min(length, start + passageChars);
+            if (end < length) {
+                int boundary = lastBoundary(text, start + passageChars / 2, end);
+                if (boundary > start) end = boundary;
+            }
+            String passage = text.substring(start, end).trim();
+            if (!passage.isEmpty()) passages.add(passage);
+            if (end >= length) break;
+            start = Math.max(end - overlapChars, start + 1);
+        }
+        return passages;
+    }
+
+    private static int lastBoundary(String text, int from, int to) {
+        for (int i = to - 1; i >= from; i--) {
+            char c = text.charAt(i);
+            if (c == '\n' || ((c == '.' || c == '?' || c == '!') && i + 1 < text.length()
+                    && Character.isWhitespace(text.charAt(i + 1)))) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    private record BuildKey(Long meetingId, String pdfHash) {
+    }
+
+    private record TranscriptIndex(String conferNum, String pdfHash, List<String> passages, NgramIndex index) {
+    }
+}
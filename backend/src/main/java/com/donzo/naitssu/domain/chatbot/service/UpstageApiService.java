@@ -2,9 +2,11 @@ package com.donzo.naitssu.domain.chatbot.service;
 
 import com.donzo.naitssu.domain.chatbot.dto.UpstageRequest;
 import com.donzo.naitssu.domain.chatbot.dto.UpstageResponse;
+import com.donzo.naitssu.global.ratelimit.UpstageRateLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
@@ -19,7 +21,11 @@ import java.util.List;
 @Slf4j
 public class UpstageApiService {
 
-    private final WebClient webClient;
+    public static final String CHAT_MODEL = "solar-pro2";
+
+    private final WebClient upstageChatWebClient;
+    private final WebClient upstageStreamWebClient;
+    private final UpstageRateLimiter rateLimiter;
 
     @Value("${upstage.api.key}")
     private String apiKey;
@@ -27,92 +33,60 @@ public class UpstageApiService {
     @Value("${upstage.api.url:https://api.upstage.ai/v1/chat/completions}")
     private String apiUrl;
 
+    // 현재 회의 요약 배치에서만 사용하므로 배치 우선순위로 호출
     public Mono<String> chat(List<UpstageRequest.Message> messages) {
-        UpstageRequest request = new UpstageRequest("solar-pro2", messages, false);
+        return chat(messages, UpstageRateLimiter.Priority.BATCH);
+    }
 
-        return webClient.post()
+    public Mono<String> chat(List<UpstageRequest.Message> messages, UpstageRateLimiter.Priority priority) {
+        UpstageRequest request = new UpstageRequest(CHAT_MODEL, messages, false);
+
+        return rateLimiter.execute(priority, estimateTokens(messages), () -> upstageChatWebClient.post()
                 .uri(apiUrl)
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
                 .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .bodyValue(request)
                 .retrieve()
-                .bodyToMono(UpstageResponse.class)
-                .map(response -> {
-                    if (response.getChoices() != null && !response.getChoices().isEmpty()) {
-                        return response.getChoices().get(0).getMessage().getContent();
+                .bodyToMono(UpstageResponse.class),
+                        response -> response.getUsage() != null && response.getUsage().getTotalTokens() > 0
+                                ? response.getUsage().getTotalTokens() : -1)
+                .flatMap(response -> {
+                    if (response.getChoices() != null && !response.getChoices().isEmpty()
+                            && response.getChoices().get(0).getMessage() != null) {
+                        return Mono.justOrEmpty(response.getChoices().get(0).getMessage().getContent());
                     }
-                    return "죄송합니다. 응답을 생성할 수 없습니다.";
+                    return Mono.error(new IllegalStateException("Upstage 응답에 choices가 없음"));
                 })
-                .doOnError(error -> log.error("Upstage API 호출 실패", error))
-                .onErrorReturn("죄송합니다. 서비스에 일시적인 문제가 발생했습니다.");
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("Upstage 응답이 비어있음")))
+                // 배치 작업이 실패로 처리하고 다시 시도할 수 있도록 대체 문구 없이 오류 그대로 전달
+                .doOnError(error -> log.error("Upstage API 호출 실패: {}", error.getMessage()));
     }
 
     public Flux<String> chatStream(List<UpstageRequest.Message> messages) {
-        UpstageRequest request = new UpstageRequest("solar-pro2", messages, true);
+        UpstageRequest request = new UpstageRequest(CHAT_MODEL, messages, true);
 
-        return webClient.post()
-                .uri(apiUrl)
-                .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
-                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE)
-                .bodyValue(request)
-                .retrieve()
-                .bodyToFlux(String.class)
-                .doOnNext(line -> log.debug("원본 스트림 라인: {}", line))
-                .filter(line -> !line.equals("[DONE]") && !line.trim().isEmpty())
-                .map(this::extractContentFromStreamResponse)
-                .filter(content -> content != null && !content.isEmpty())
-                .doOnNext(content -> log.debug("최종 추출된 컨텐츠: '{}'", content))
+        // 사용자 대화는 배치 요약보다 먼저 처리되도록 INTERACTIVE 우선순위 사용
+        // 응답 바이트에서 바로 delta.content만 추출 (줄/JSON 문자열을 따로 만들지 않음)
+        // 사용량 정산은 프롬프트 추정치 + 받은 delta 하나당 토큰 하나로 계산
+        return rateLimiter.executeMany(UpstageRateLimiter.Priority.INTERACTIVE, estimateTokens(messages), () -> UpstageStreamDecoder.decode(
+                        upstageStreamWebClient.post()
+                                .uri(apiUrl)
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                .header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE)
+                                .bodyValue(request)
+                                .retrieve()
+                                .bodyToFlux(DataBuffer.class)),
+                        UpstageRateLimiter.estimateTokens(promptChars(messages), 0), delta -> 1)
                 .doOnError(error -> log.error("Upstage API 스트리밍 실패", error))
                 .onErrorReturn("죄송합니다. 서비스에 일시적인 문제가 발생했습니다.");
     }
 
-    private String extractContentFromStreamResponse(String json) {
-        try {
-            log.debug("JSON 파싱 시도: {}", json);
-            
-            // delta.content가 있는 경우 (실제 텍스트 내용)
-            if (json.contains("\"delta\":{") && json.contains("\"content\":")) {
-                int deltaStart = json.indexOf("\"delta\":{");
-                int contentStart = json.indexOf("\"content\":\"", deltaStart);
-                if (contentStart != -1) {
-                    contentStart += 11; // "content":" 길이
-                    int contentEnd = contentStart;
-                    
-                    // 올바른 끝 따옴표 찾기 (이스케이프된 따옴표 고려)
-                    while (contentEnd < json.length()) {
-                        contentEnd = json.indexOf("\"", contentEnd);
-                        if (contentEnd == -1) break;
-                        
-                        // 이스케이프된 따옴표가 아닌 경우
-                        if (contentEnd == 0 || json.charAt(contentEnd - 1) != '\\') {
-                            break;
-                        }
-                        contentEnd++;
-                    }
-                    
-                    if (contentEnd > contentStart && contentEnd != -1) {
-                        String content = json.substring(contentStart, contentEnd);
-                        // 이스케이프 문자 처리
-                        content = content.replace("\\n", "\n")
-                                        .replace("\\\"", "\"")
-                                        .replace("\\\\", "\\");
-                        log.debug("추출된 content: '{}'", content);
-                        return content;
-                    }
-                }
-            }
-            
-            // delta만 있고 content가 없는 경우 (role 설정 등)
-            if (json.contains("\"delta\":{") && json.contains("\"role\":")) {
-                log.debug("role 설정 chunk, content 없음");
-                return "";
-            }
-            
-            return "";
-        } catch (Exception e) {
-            log.warn("스트림 응답 파싱 실패: {}", json, e);
-            return "";
-        }
+    private long estimateTokens(List<UpstageRequest.Message> messages) {
+        return UpstageRateLimiter.estimateTokens(promptChars(messages), 1000);
+    }
+
+    private static int promptChars(List<UpstageRequest.Message> messages) {
+        return messages.stream().mapToInt(m -> m.getContent() != null ? m.getContent().length() : 0).sum();
     }
 }
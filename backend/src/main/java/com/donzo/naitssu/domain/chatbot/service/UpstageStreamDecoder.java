@@ -0,0 +1,183 @@
+package com.donzo.naitssu.domain.chatbot.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Upstage 채팅 스트림(SSE) 디코더
+ *
+ * 응답 바이트를 줄 단위 문자열로 바꾸지 않고, "data:" 필드의 JSON 바이트 구간만 Jackson 비동기 파서에 그대로 넘겨
+ * choices[].delta.content 문자열만 꺼낸다. 네트워크 버퍼를 복사하지 않고 구간 단위로 파서에 넘기며,
+ * 버퍼 경계가 JSON이나 SSE 줄 중간에 걸려도 이어서 파싱된다. 유니코드 이스케이프(\\uXXXX) 등
+ * JSON 문자열 규칙은 파서가 처리한다. "data: [DONE]" 이후 입력은 무시한다.
+ */
+public class UpstageStreamDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final byte[] DATA_FIELD = {'d', 'a', 't', 'a'};
+    private static final ByteBuffer LINE_SEPARATOR = ByteBuffer.wrap(new byte[]{' '}).asReadOnlyBuffer();
+
+    private enum State { LINE_START, DATA_START, DATA, SKIP_LINE }
+
+    private final JsonParser parser;
+    private final ByteBufferFeeder feeder;
+    private State state = State.LINE_START;
+    private int fieldIndex;
+    private boolean fieldMatches = true;
+    private boolean spaceSkipped;
+    private boolean done;
+
+    public UpstageStreamDecoder() {
+        try {
+            this.parser = JSON_FACTORY.createNonBlockingByteBufferParser();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        this.feeder = (ByteBufferFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * 응답 본문 바이트 스트림을 delta 문자열 스트림으로 변환 (구독마다 새 디코더 사용)
+     */
+    public static Flux<String> decode(Flux<DataBuffer> body) {
+        return Flux.defer(() -> {
+            UpstageStreamDecoder decoder = new UpstageStreamDecoder();
+            return body.concatMapIterable(buffer -> {
+                        // 파서는 덜 끝난 토큰을 자체 버퍼에 옮겨두므로 처리 직후 버퍼를 해제해도 됨
+                        try (DataBuffer.ByteBufferIterator segments = buffer.readableByteBuffers()) {
+                            List<String> deltas = new ArrayList<>(2);
+                            while (segments.hasNext()) {
+                                deltas.addAll(decoder.feed(segments.next()));
+                            }
+                            return deltas;
+                        } finally {
+                            DataBufferUtils.release(buffer);
+                        }
+                    })
+                    .doFinally(signal -> decoder.close());
+        });
+    }
+
+    /**
+     * 받은 바이트를 이어서 처리하고, 이번에 완성된 delta 문자열을 반환
+     */
+    public List<String> feed(byte[] bytes, int offset, int length) {
+        return feed(ByteBuffer.wrap(bytes, offset, length));
+    }
+
+    /**
+     * 버퍼의 읽을 수 있는 구간을 이어서 처리 (버퍼 위치는 바꾸지 않음)
+     * SSE 줄 구조를 따라 "data:" 값 구간만 잘라 파서에 넘기고, 줄 끝은 JSON 값 구분용 공백으로 넘긴다.
+     */
+    public List<String> feed(ByteBuffer bytes) {
+        if (done) return List.of();
+
+        List<String> deltas = new ArrayList<>(2);
+        int limit = bytes.limit();
+        int dataStart = state == State.DATA ? bytes.position() : -1;
+        for (int i = bytes.position(); i < limit && !done; i++) {
+            byte b = bytes.get(i);
+            boolean lineEnd = b == '\n' || b == '\r';
+            switch (state) {
+                case LINE_START -> {
+                    if (lineEnd) {
+                        resetField();
+                    } else if (b == ':') {
+                        state = fieldMatches && fieldIndex == DATA_FIELD.length ? State.DATA_START : State.SKIP_LINE;
+                    } else {
+                        fieldMatches &= fieldIndex < DATA_FIELD.length && b == DATA_FIELD[fieldIndex];
+                        fieldIndex++;
+                    }
+                }
+                case DATA_START -> {
+                    if (b == ' ' && !spaceSkipped) {
+                        spaceSkipped = true;
+                    } else if (lineEnd) {
+                        toLineStart();
+                    } else if (b == '[') {
+                        done = true; // data: [DONE]
+                    } else {
+                        dataStart = i;
+                        state = State.DATA;
+                    }
+                }
+                case DATA -> {
+                    if (lineEnd) {
+                        parse(bytes.slice(dataStart, i - dataStart), deltas);
+                        parse(LINE_SEPARATOR.duplicate(), deltas);
+                        dataStart = -1;
+                        toLineStart();
+                    }
+                }
+                case SKIP_LINE -> {
+                    if (lineEnd) toLineStart();
+                }
+            }
+        }
+        // 줄 중간에서 버퍼가 끝나면 여기까지의 값 바이트를 먼저 넘김
+        if (state == State.DATA && dataStart >= 0 && dataStart < limit) {
+            parse(bytes.slice(dataStart, limit - dataStart), deltas);
+        }
+        return deltas;
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    public void close() {
+        try {
+            parser.close();
+        } catch (IOException ignored) {
+            // 메모리 입력만 사용하므로 닫기 실패는 무시
+        }
+    }
+
+    /**
+     * 값 구간을 파서에 넘기고 더 필요한 입력이 생길 때까지 토큰을 읽음
+     */
+    private void parse(ByteBuffer segment, List<String> deltas) {
+        if (!segment.hasRemaining()) return;
+        try {
+            feeder.feedInput(segment);
+            JsonToken token;
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (token == JsonToken.VALUE_STRING && isDeltaContent()) {
+                    String text = parser.getText();
+                    if (!text.isEmpty()) deltas.add(text);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Upstage 스트림 응답 파싱 실패", e);
+        }
+    }
+
+    private boolean isDeltaContent() throws IOException {
+        if (!"content".equals(parser.currentName())) return false;
+        JsonStreamContext parent = parser.getParsingContext().getParent();
+        return parent != null && "delta".equals(parent.getCurrentName());
+    }
+
+    private void toLineStart() {
+        state = State.LINE_START;
+        resetField();
+    }
+
+    private void resetField() {
+        fieldIndex = 0;
+        fieldMatches = true;
+        spaceSkipped = false;
+    }
+}
@@ -0,0 +1,104 @@
+package com.donzo.naitssu.domain.chatbot.session;
+
+import com.donzo.naitssu.domain.chatbot.dto.UpstageRequest;
+import com.donzo.naitssu.global.ratelimit.UpstageRateLimiter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * 세션별 대화 기록 (시스템 프롬프트 + 최근 대화)
+ *
+ * 모든 변경은 세션 단위로 동기화되며, 질문과 답변은 응답이 끝난 뒤 한 번에 추가된다.
+ * 보관 메시지 수는 maxMessages로 제한하고, 요청 시에는 토큰 예산 안에 드는 최근 대화만 보낸다.
+ */
+public class ChatSession {
+
+    private final String id;
+    private final int maxMessages;
+    private final Deque<UpstageRequest.Message> history = new ArrayDeque<>();
+    private String systemPrompt;
+    private volatile long lastAccessedAt = System.currentTimeMillis();
+
+    public ChatSession(String id, int maxMessages) {
+        this.id = id;
+        this.maxMessages = Math.max(2, maxMessages);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getLastAccessedAt() {
+        return lastAccessedAt;
+    }
+
+    public synchronized boolean hasSystemPrompt() {
+        return systemPrompt != null;
+    }
+
+    /**
+     * 시스템 프롬프트가 없을 때만 설정 (이미 있으면 유지)
+     */
+    public synchronized void initialize(String systemPrompt) {
+        touch();
+        if (this.systemPrompt == null && systemPrompt != null && !systemPrompt.isEmpty()) {
+            this.systemPrompt = systemPrompt;
+        }
+    }
+
+    /**
+     * 이번 요청에 보낼 메시지 목록
+     * 시스템 프롬프트와 현재 질문은 항상 포함하고, 이전 대화는 최신순으로 예산이 남는 만큼만 포함한다.
+     * 질문/답변 쌍이 잘리지 않도록 두 메시지 단위로 자른다.
+     */
+    public synchronized List<UpstageRequest.Message> promptFor(UpstageRequest.Message userMessage, long historyTokenBudget) {
+        touch();
+        LinkedList<UpstageRequest.Message> recent = new LinkedList<>();
+        long used = 0;
+        Iterator<UpstageRequest.Message> iterator = history.descendingIterator();
+        while (iterator.hasNext()) {
+            UpstageRequest.Message answer = iterator.next();
+            UpstageRequest.Message question = iterator.hasNext() ? iterator.next() : null;
+            long pairTokens = tokens(answer) + tokens(question);
+            if (used + pairTokens > historyTokenBudget) break;
+            used += pairTokens;
+            recent.addFirst(answer);
+            if (question != null) recent.addFirst(question);
+        }
+
+        List<UpstageRequest.Message> prompt = new ArrayList<>(recent.size() + 2);
+        if (systemPrompt != null) {
+            prompt.add(new UpstageRequest.Message("system", systemPrompt));
+        }
+        prompt.addAll(recent);
+        prompt.add(userMessage);
+        return prompt;
+    }
+
+    /**
+     * 완료된 질문/답변 추가 (오래된 대화부터 제거해 maxMessages 유지)
+     */
+    public synchronized void appendTurn(String question, String answer) {
+        touch();
+        history.addLast(new UpstageRequest.Message("user", question));
+        history.addLast(new UpstageRequest.Message("assistant", answer));
+        while (history.size() > maxMessages) {
+            history.removeFirst();
+            history.removeFirst();
+        }
+    }
+
+    private void touch() {
+        lastAccessedAt = System.currentTimeMillis();
+    }
+
+    private static long tokens(UpstageRequest.Message message) {
+        if (message == null || message.getContent() == null) return 0;
+        return UpstageRateLimiter.estimateTokens(message.getContent().length(), 0);
+    }
+}
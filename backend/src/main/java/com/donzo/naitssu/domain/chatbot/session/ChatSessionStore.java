@@ -0,0 +1,25 @@
+package com.donzo.naitssu.domain.chatbot.session;
+
+/**
+ * 챗봇 세션 저장소
+ *
+ * 기본 구현은 크기/유휴 시간 제한이 있는 메모리 저장소이며,
+ * chatbot.session.store 설정으로 다른 구현(로컬 영속 저장소 등)으로 교체할 수 있다.
+ */
+public interface ChatSessionStore {
+
+    /**
+     * 빈 세션 생성 (이미 있으면 유지)
+     */
+    ChatSession create(String sessionId);
+
+    /**
+     * 세션 조회, 없거나 만료되었으면 새로 생성
+     */
+    ChatSession getOrCreate(String sessionId);
+
+    /**
+     * 현재 보관 중인 세션 수
+     */
+    int size();
+}
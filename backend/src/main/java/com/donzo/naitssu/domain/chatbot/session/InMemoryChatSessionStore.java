@@ -0,0 +1,84 @@
+package com.donzo.naitssu.domain.chatbot.session;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 메모리 세션 저장소 - 최대 세션 수(LRU)와 유휴 시간으로 제거
+ */
+@Component
+@ConditionalOnProperty(name = "chatbot.session.store", havingValue = "memory", matchIfMissing = true)
+@Slf4j
+public class InMemoryChatSessionStore implements ChatSessionStore {
+
+    @Value("${chatbot.session.max-sessions:1000}")
+    private int maxSessions;
+
+    @Value("${chatbot.session.idle-timeout-minutes:30}")
+    private long idleTimeoutMinutes;
+
+    @Value("${chatbot.session.max-history-messages:20}")
+    private int maxHistoryMessages;
+
+    private final Map<String, ChatSession> sessions = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, ChatSession> eldest) {
+            return size() > maxSessions;
+        }
+    };
+
+    @Override
+    public ChatSession create(String sessionId) {
+        return getOrCreate(sessionId);
+    }
+
+    @Override
+    public ChatSession getOrCreate(String sessionId) {
+        synchronized (sessions) {
+            ChatSession session = sessions.get(sessionId);
+            if (session == null || isIdle(session, System.currentTimeMillis())) {
+                session = new ChatSession(sessionId, maxHistoryMessages);
+                sessions.put(sessionId, session);
+            }
+            return session;
+        }
+    }
+
+    @Override
+    public int size() {
+        synchronized (sessions) {
+            return sessions.size();
+        }
+    }
+
+    /**
+     * 유휴 세션 정리 (접근 순서로 정렬되어 있으므로 유휴가 아닌 세션을 만나면 중단)
+     */
+    @Scheduled(fixedDelayString = "${chatbot.session.evict-interval-ms:60000}")
+    public void evictIdleSessions() {
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        synchronized (sessions) {
+            Iterator<ChatSession> iterator = sessions.values().iterator();
+            while (iterator.hasNext()) {
+                if (!isIdle(iterator.next(), now)) break;
+                iterator.remove();
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            log.debug("유휴 챗봇 세션 정리: {}개", removed);
+        }
+    }
+
+    private boolean isIdle(ChatSession session, long now) {
+        return now - session.getLastAccessedAt() > idleTimeoutMinutes * 60_000L;
+    }
+}
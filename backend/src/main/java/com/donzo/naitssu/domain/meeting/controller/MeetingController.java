@@ -2,12 +2,14 @@ package com.donzo.naitssu.domain.meeting.controller;
 
 import com.donzo.naitssu.domain.meeting.dto.MeetingPageResponse;
 import com.donzo.naitssu.domain.meeting.dto.MeetingResponse;
+import com.donzo.naitssu.domain.meeting.service.MeetingAnalysisExecutor;
 import com.donzo.naitssu.domain.meeting.service.MeetingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
 import java.util.Optional;
 
 @RestController
@@ -17,18 +19,19 @@ import java.util.Optional;
 public class MeetingController {
     
     private final MeetingService meetingService;
+    private final MeetingAnalysisExecutor meetingAnalysisExecutor;
     
     /**
      * 회의 목록 조회 (커서 기반 페이지네이션)
-     * GET /api/meetings?cursor=123&size=10
+     * GET /api/meetings?cursor=MjAyNC0wOS0xMHwy...&size=10
      * 
-     * @param cursor 커서 (이전 페이지의 마지막 회의 ID, null이면 첫 페이지)
+     * @param cursor 커서 (이전 응답의 next_cursor, null이면 첫 페이지)
      * @param size 페이지 크기 (기본값: 10, 최대: 50)
      * @return 커서 기반 페이지네이션된 회의 목록
      */
     @GetMapping
     public ResponseEntity<MeetingPageResponse> getMeetings(
-            @RequestParam(required = false) Long cursor,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "10") int size) {
         
         log.info("회의 목록 조회 요청 - 커서: {}, 크기: {}", cursor, size);
@@ -36,6 +39,9 @@ public class MeetingController {
         try {
             MeetingPageResponse response = meetingService.getMeetings(cursor, size);
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            log.warn("잘못된 회의 목록 커서: {}", cursor);
+            return ResponseEntity.badRequest().build();
         } catch (Exception e) {
             log.error("회의 목록 조회 실패", e);
             return ResponseEntity.internalServerError().build();
@@ -59,4 +65,12 @@ public class MeetingController {
         }
     }
     
+    /**
+     * 회의 분석 실행기 상태 조회 (대기열 깊이, 단계별 처리 시간)
+     * GET /api/meetings/analysis/metrics
+     */
+    @GetMapping("/analysis/metrics")
+    public ResponseEntity<Map<String, Object>> getAnalysisMetrics() {
+        return ResponseEntity.ok(meetingAnalysisExecutor.getMetrics());
+    }
 }
@@ -14,4 +14,12 @@ public class MeetingAnalysisResult {
     
     @JsonProperty("discussion_items")
     private List<String> discussionItems;
+
+    // 요약+분석 통합 모드에서만 채워짐
+    @JsonProperty("summary")
+    private String summary;
+
+    public MeetingAnalysisResult(List<String> discussionItems) {
+        this.discussionItems = discussionItems;
+    }
 }
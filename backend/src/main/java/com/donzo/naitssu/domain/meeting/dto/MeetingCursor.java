@@ -0,0 +1,42 @@
+package com.donzo.naitssu.domain.meeting.dto;
+
+import com.donzo.naitssu.domain.meeting.entity.Meeting;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 회의 목록 커서 - 마지막 행의 (sortDate, createdAt, id)를 Base64URL로 인코딩한 불투명 문자열
+ */
+public record MeetingCursor(LocalDate sortDate, LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static MeetingCursor from(Meeting meeting) {
+        return new MeetingCursor(meeting.getSortDate(), meeting.getCreatedAt(), meeting.getId());
+    }
+
+    public String encode() {
+        String raw = sortDate + SEPARATOR + createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static MeetingCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("잘못된 커서 형식입니다.");
+            }
+            return new MeetingCursor(LocalDate.parse(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서 형식입니다.", e);
+        }
+    }
+}
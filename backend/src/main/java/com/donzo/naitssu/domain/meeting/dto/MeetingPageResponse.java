@@ -18,7 +18,7 @@ public class MeetingPageResponse {
     private boolean hasNext; // 다음 페이지 존재 여부
     
     @JsonProperty("next_cursor")
-    private Long nextCursor; // 다음 페이지를 위한 커서 (마지막 회의의 ID)
+    private String nextCursor; // 다음 페이지를 위한 불투명 커서 (마지막 회의의 정렬 키)
     
     @JsonProperty("total_count")
     private Long totalCount; // 전체 회의 수 (선택적)
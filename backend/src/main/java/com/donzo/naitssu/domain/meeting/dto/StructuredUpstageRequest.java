@@ -17,35 +17,50 @@ public class StructuredUpstageRequest {
     private ResponseFormat responseFormat;
     
     public StructuredUpstageRequest(String model, List<UpstageRequest.Message> messages) {
+        this(model, messages, false);
+    }
+    
+    /**
+     * @param withSummary true면 논의사항과 함께 줄글 요약(summary)도 한 번에 받는 스키마 사용
+     */
+    public StructuredUpstageRequest(String model, List<UpstageRequest.Message> messages, boolean withSummary) {
         this.model = model;
         this.messages = messages;
-        this.responseFormat = createMeetingAnalysisFormat();
+        this.responseFormat = createMeetingAnalysisFormat(withSummary);
     }
     
-    private ResponseFormat createMeetingAnalysisFormat() {
+    private ResponseFormat createMeetingAnalysisFormat(boolean withSummary) {
         ResponseFormat format = new ResponseFormat();
         format.setType("json_schema");
         
         JsonSchema jsonSchema = new JsonSchema();
-        jsonSchema.setName("meeting_analysis");
+        jsonSchema.setName(withSummary ? "meeting_summary_analysis" : "meeting_analysis");
         jsonSchema.setStrict(true);
         
         // 스키마 정의
+        Map<String, Object> discussionItems = Map.of(
+            "type", "array",
+            "items", Map.of(
+                "type", "string",
+                "description", "주요 논의사항"
+            ),
+            "minItems", 1,
+            "maxItems", 5,
+            "description", "회의에서 논의된 주요 안건이나 이슈들 (최대 5개)"
+        );
+        Map<String, Object> properties = withSummary
+            ? Map.of(
+                "summary", Map.of(
+                    "type", "string",
+                    "description", "회의 내용을 3~4문장 줄글로 정리한 요약 (습니다. 체, 마크다운 금지)"
+                ),
+                "discussion_items", discussionItems
+            )
+            : Map.of("discussion_items", discussionItems);
         Map<String, Object> schema = Map.of(
             "type", "object",
-            "properties", Map.of(
-                "discussion_items", Map.of(
-                    "type", "array",
-                    "items", Map.of(
-                        "type", "string",
-                        "description", "주요 논의사항"
-                    ),
-                    "minItems", 1,
-                    "maxItems", 5,
-                    "description", "회의에서 논의된 주요 안건이나 이슈들 (최대 5개)"
-                )
-            ),
-            "required", List.of("discussion_items"),
+            "properties", properties,
+            "required", withSummary ? List.of("summary", "discussion_items") : List.of("discussion_items"),
             "additionalProperties", false
         );
         
@@ -7,12 +7,19 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
 @Entity
-@Table(name = "meetings")
+@Table(name = "meetings", indexes = {
+        @Index(name = "idx_meetings_sort_key", columnList = "sort_date, created_at, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Meeting extends BaseEntity {
 
+    public static final LocalDate DEFAULT_SORT_DATE = LocalDate.of(1900, 1, 1);
+
     @Column(nullable = false, unique = true, length = 50)
     private String conferNum; // 회의번호 (CONFER_NUM)
 
@@ -28,6 +35,10 @@ public class Meeting extends BaseEntity {
     @Column(length = 20)
     private String confDate; // 회의날짜 (CONF_DATE)
 
+    // 목록 정렬/커서용 정규화된 회의 날짜 (날짜가 없으면 1900-01-01, 형식이 잘못되었으면 저장 날짜)
+    @Column(name = "sort_date", nullable = false, columnDefinition = "DATE NOT NULL DEFAULT '1900-01-01'")
+    private LocalDate sortDate;
+
     @Column(columnDefinition = "TEXT")
     private String subName; // 안건명 (SUB_NAME)
 
@@ -61,6 +72,7 @@ public class Meeting extends BaseEntity {
         this.className = className;
         this.daeNum = daeNum;
         this.confDate = confDate;
+        this.sortDate = toSortDate(confDate, LocalDate.now()); // 저장 시각(createdAt)과 같은 날짜
         this.subName = subName;
         this.vodLinkUrl = vodLinkUrl;
         this.confLinkUrl = confLinkUrl;
@@ -82,4 +94,31 @@ public class Meeting extends BaseEntity {
     public void updateAnalysis(String discussionItems) {
         this.discussionItems = discussionItems;
     }
+
+    /**
+     * 회의 날짜로 정렬 날짜를 다시 계산 (형식이 잘못되었으면 생성 날짜로 대체해 다시 보정 대상이 되지 않게 함)
+     */
+    public void refreshSortDate() {
+        LocalDate fallback = getCreatedAt() != null ? getCreatedAt().toLocalDate() : LocalDate.EPOCH;
+        this.sortDate = toSortDate(confDate, fallback);
+    }
+
+    /**
+     * 회의 날짜 문자열(2024-09-10, 2024.09.10, 20240910 등)에서 숫자 8자리를 읽어 날짜로 변환
+     * 날짜가 없으면 기본값, 읽을 수 없는 형식이면 fallback을 사용한다.
+     */
+    public static LocalDate toSortDate(String confDate, LocalDate fallback) {
+        if (confDate == null) return DEFAULT_SORT_DATE;
+        String digits = confDate.replaceAll("[^0-9]", "");
+        if (digits.length() >= 8) {
+            try {
+                return LocalDate.of(Integer.parseInt(digits.substring(0, 4)),
+                        Integer.parseInt(digits.substring(4, 6)),
+                        Integer.parseInt(digits.substring(6, 8)));
+            } catch (DateTimeException e) {
+                // 잘못된 날짜는 fallback 사용
+            }
+        }
+        return fallback;
+    }
 }
@@ -0,0 +1,120 @@
+package com.donzo.naitssu.domain.meeting.entity;
+
+import com.donzo.naitssu.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "meeting_analysis_jobs", indexes = {
+        @Index(name = "idx_meeting_analysis_jobs_status_next_run", columnList = "status, next_run_at")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MeetingAnalysisJob extends BaseEntity {
+
+    public enum Status {
+        QUEUED,    // 실행 대기
+        RUNNING,   // 처리 중 (재시작 시 다시 대기열로)
+        COMPLETED, // 요약/분석 저장 완료
+        FAILED,    // 처리 실패, nextRunAt 이후 재시도
+        ABANDONED  // 최대 시도 횟수 초과
+    }
+
+    @Column(name = "meeting_id", nullable = false, unique = true)
+    private Long meetingId;
+
+    @Column(nullable = false, length = 50)
+    private String conferNum; // 회의번호
+
+    @Column(nullable = false, length = 500)
+    private String title; // 회의명
+
+    @Column(columnDefinition = "TEXT")
+    private String pdfUrl; // PDF파일 링크
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(length = 20)
+    private String stage; // 마지막으로 진입한 단계 (DOWNLOAD/PARSE/SUMMARIZE)
+
+    @Column(name = "pdf_hash", length = 64)
+    private String pdfHash; // 마지막으로 파싱한 PDF 해시 (PDF가 바뀌지 않았으면 같은 파싱 결과를 재사용)
+
+    @Column(name = "pdf_etag")
+    private String pdfEtag; // 해당 PDF 응답의 ETag (조건부 GET에 사용)
+
+    @Column(name = "pdf_last_modified", length = 64)
+    private String pdfLastModified; // 해당 PDF 응답의 Last-Modified (조건부 GET에 사용)
+
+    @Column(nullable = false)
+    private int attemptCount; // 시도 횟수
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "next_run_at")
+    private LocalDateTime nextRunAt; // 다음 실행 가능 시각
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    @Builder
+    public MeetingAnalysisJob(Long meetingId, String conferNum, String title, String pdfUrl) {
+        this.meetingId = meetingId;
+        this.conferNum = conferNum;
+        this.title = title;
+        this.pdfUrl = pdfUrl;
+        this.status = Status.QUEUED;
+        this.nextRunAt = LocalDateTime.now();
+    }
+
+    public void start() {
+        this.status = Status.RUNNING;
+        this.attemptCount++;
+        this.stage = null;
+        this.startedAt = LocalDateTime.now();
+        this.finishedAt = null;
+    }
+
+    public void enterStage(String stage) {
+        this.stage = stage;
+    }
+
+    public void recordPdf(String pdfHash, String etag, String lastModified) {
+        this.pdfHash = pdfHash;
+        this.pdfEtag = etag;
+        this.pdfLastModified = lastModified;
+    }
+
+    /**
+     * PDF 변경 여부를 조건부 GET으로 확인할 수 있는지 (서버가 ETag/Last-Modified를 준 경우)
+     */
+    public boolean hasPdfValidators() {
+        return pdfEtag != null || pdfLastModified != null;
+    }
+
+    public void complete() {
+        this.status = Status.COMPLETED;
+        this.lastError = null;
+        this.nextRunAt = null;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 실패 기록 후 재시도 시각을 지정 (null이면 더 이상 재시도하지 않음)
+     */
+    public void fail(String error, LocalDateTime nextRunAt) {
+        this.status = nextRunAt != null ? Status.FAILED : Status.ABANDONED;
+        this.lastError = error;
+        this.nextRunAt = nextRunAt;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
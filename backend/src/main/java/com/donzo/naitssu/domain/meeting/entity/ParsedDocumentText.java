@@ -0,0 +1,42 @@
+package com.donzo.naitssu.domain.meeting.entity;
+
+import com.donzo.naitssu.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Document Parse 결과(회의록 원문 텍스트) 캐시
+ * (회의번호, PDF 내용 해시)로 식별하며 본문은 GZIP으로 압축해 저장한다.
+ */
+@Entity
+@Table(name = "parsed_document_texts",
+        uniqueConstraints = @UniqueConstraint(name = "uk_parsed_document_texts_confer_hash",
+                columnNames = {"confer_num", "pdf_hash"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ParsedDocumentText extends BaseEntity {
+
+    @Column(name = "confer_num", nullable = false, length = 50)
+    private String conferNum; // 회의번호
+
+    @Column(name = "pdf_hash", nullable = false, length = 64)
+    private String pdfHash; // PDF 파일 SHA-256
+
+    @Column(nullable = false)
+    private int originalLength; // 압축 전 글자 수
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGBLOB")
+    private byte[] compressedText; // GZIP 압축된 텍스트
+
+    @Builder
+    public ParsedDocumentText(String conferNum, String pdfHash, int originalLength, byte[] compressedText) {
+        this.conferNum = conferNum;
+        this.pdfHash = pdfHash;
+        this.originalLength = originalLength;
+        this.compressedText = compressedText;
+    }
+}
@@ -0,0 +1,38 @@
+package com.donzo.naitssu.domain.meeting.repository;
+
+import com.donzo.naitssu.domain.meeting.entity.MeetingAnalysisJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MeetingAnalysisJobRepository extends JpaRepository<MeetingAnalysisJob, Long> {
+
+    long countByStatus(MeetingAnalysisJob.Status status);
+
+    /**
+     * 실행 시각이 된 대기/재시도 작업 조회 (오래 기다린 순)
+     */
+    @Query("SELECT j FROM MeetingAnalysisJob j WHERE j.status IN :statuses " +
+           "AND j.nextRunAt <= :now ORDER BY j.nextRunAt ASC, j.id ASC")
+    List<MeetingAnalysisJob> findDue(@Param("statuses") List<MeetingAnalysisJob.Status> statuses,
+                                     @Param("now") LocalDateTime now,
+                                     Pageable pageable);
+
+    /**
+     * 재시작 전에 처리 중이던 작업을 대기 상태로 되돌림
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE MeetingAnalysisJob j SET j.status = :to, j.nextRunAt = :now WHERE j.status = :from")
+    int updateStatus(@Param("from") MeetingAnalysisJob.Status from,
+                     @Param("to") MeetingAnalysisJob.Status to,
+                     @Param("now") LocalDateTime now);
+}
@@ -2,53 +2,64 @@ package com.donzo.naitssu.domain.meeting.repository;
 
 import com.donzo.naitssu.domain.meeting.entity.Meeting;
 import java.util.List;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
 public interface MeetingRepository extends JpaRepository<Meeting, Long> {
     
     Optional<Meeting> findByConferNum(String conferNum);
-    
-    boolean existsByConferNum(String conferNum);
-    
+
     /**
-     * 회의 날짜 기준 최신순으로 페이지네이션하여 조회
-     * confDate가 null이거나 빈 값인 경우 생성일시 기준으로 정렬
+     * 수정 시각만 조회 (캐시된 챗봇 프롬프트 유효성 확인용)
      */
-    @Query("SELECT m FROM Meeting m ORDER BY " +
-           "CASE WHEN m.confDate IS NOT NULL AND m.confDate != '' " +
-           "THEN m.confDate ELSE '1900-01-01' END DESC, m.createdAt DESC")
-    Page<Meeting> findAllOrderByConfDateDesc(Pageable pageable);
+    @Query("SELECT m.updatedAt FROM Meeting m WHERE m.id = :id")
+    Optional<LocalDateTime> findUpdatedAtById(@Param("id") Long id);
+    
+    boolean existsByConferNum(String conferNum);
     
     /**
      * 커서 기반 페이지네이션 - 첫 번째 페이지
-     * 최신순으로 limit개 조회
+     * (sort_date, created_at, id) 인덱스 순서 그대로 최신순 limit개 조회
      */
-    @Query("SELECT m FROM Meeting m ORDER BY " +
-           "CASE WHEN m.confDate IS NOT NULL AND m.confDate != '' " +
-           "THEN m.confDate ELSE '1900-01-01' END DESC, m.createdAt DESC, m.id DESC")
-    List<Meeting> findTopByOrderByConfDateDescCreatedAtDescIdDesc(Pageable pageable);
-    
+    @Query("SELECT m FROM Meeting m ORDER BY m.sortDate DESC, m.createdAt DESC, m.id DESC")
+    List<Meeting> findFirstPage(Pageable pageable);
+
     /**
      * 커서 기반 페이지네이션 - 다음 페이지
-     * 특정 ID보다 작은 회의들을 최신순으로 limit개 조회
+     * 이전 페이지 마지막 행의 (sortDate, createdAt, id)보다 뒤에 오는 회의를 limit개 조회
+     * sortDate <= :sortDate 조건으로 인덱스 범위 검색이 가능하도록 함
+     */
+    @Query("SELECT m FROM Meeting m WHERE m.sortDate <= :sortDate AND (" +
+           "m.sortDate < :sortDate OR m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id)) " +
+           "ORDER BY m.sortDate DESC, m.createdAt DESC, m.id DESC")
+    List<Meeting> findPageAfter(@Param("sortDate") LocalDate sortDate,
+                                @Param("createdAt") LocalDateTime createdAt,
+                                @Param("id") Long id,
+                                Pageable pageable);
+
+    /**
+     * 정렬 날짜가 기본값인 회의 조회 (sort_date 컬럼 추가 이전 데이터 보정용)
+     */
+    List<Meeting> findBySortDateAndConfDateIsNotNullAndIdGreaterThanOrderByIdAsc(LocalDate sortDate, Long id, Pageable pageable);
+
+    /**
+     * id 순 일괄 조회 (검색 색인 구성용)
      */
-    @Query("SELECT m FROM Meeting m WHERE m.id < :cursor ORDER BY " +
-           "CASE WHEN m.confDate IS NOT NULL AND m.confDate != '' " +
-           "THEN m.confDate ELSE '1900-01-01' END DESC, m.createdAt DESC, m.id DESC")
-    List<Meeting> findByCursorOrderByConfDateDescCreatedAtDescIdDesc(Long cursor, Pageable pageable);
+    List<Meeting> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 
     /**
-     * 최신 회의 1건 조회
+     * 요약이 비어있고 분석 작업도 없는 회의 조회 (작업 테이블 도입 이전에 누락된 회의 복구용)
      */
-    @Query("SELECT m FROM Meeting m ORDER BY " +
-           "CASE WHEN m.confDate IS NOT NULL AND m.confDate != '' " +
-           "THEN m.confDate ELSE '1900-01-01' END DESC, m.createdAt DESC, m.id DESC")
-    Page<Meeting> findLatest(Pageable pageable);
+    @Query("SELECT m FROM Meeting m WHERE (m.summary IS NULL OR m.summary = '') " +
+           "AND m.pdfLinkUrl IS NOT NULL AND m.pdfLinkUrl <> '' " +
+           "AND NOT EXISTS (SELECT j.id FROM MeetingAnalysisJob j WHERE j.meetingId = m.id)")
+    List<Meeting> findWithoutAnalysisJob(Pageable pageable);
 }
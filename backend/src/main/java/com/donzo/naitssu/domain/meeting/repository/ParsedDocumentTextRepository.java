@@ -0,0 +1,21 @@
+package com.donzo.naitssu.domain.meeting.repository;
+
+import com.donzo.naitssu.domain.meeting.entity.ParsedDocumentText;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ParsedDocumentTextRepository extends JpaRepository<ParsedDocumentText, Long> {
+
+    Optional<ParsedDocumentText> findByConferNumAndPdfHash(String conferNum, String pdfHash);
+
+    // 본문(LOB)을 읽지 않고 최근 파싱된 PDF 해시만 조회
+    @Query("select p.pdfHash from ParsedDocumentText p where p.conferNum = :conferNum order by p.id desc")
+    List<String> findRecentHashes(@Param("conferNum") String conferNum, Pageable pageable);
+}
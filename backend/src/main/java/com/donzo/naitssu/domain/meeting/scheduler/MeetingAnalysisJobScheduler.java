@@ -0,0 +1,26 @@
+package com.donzo.naitssu.domain.meeting.scheduler;
+
+import com.donzo.naitssu.domain.meeting.service.MeetingAnalysisExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MeetingAnalysisJobScheduler {
+
+    private final MeetingAnalysisExecutor meetingAnalysisExecutor;
+
+    // 대기 중이거나 재시도 시각이 된 회의 분석 작업을 주기적으로 실행기에 제출
+    @Scheduled(initialDelayString = "${meeting.analysis.dispatch-interval-ms:30000}",
+               fixedDelayString = "${meeting.analysis.dispatch-interval-ms:30000}")
+    public void dispatchDueJobs() {
+        try {
+            meetingAnalysisExecutor.dispatchDueJobs();
+        } catch (Exception e) {
+            log.error("회의 분석 작업 제출 중 오류 발생", e);
+        }
+    }
+}
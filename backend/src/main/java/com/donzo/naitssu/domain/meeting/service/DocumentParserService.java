@@ -1,13 +1,14 @@
 package com.donzo.naitssu.domain.meeting.service;
 
 import com.donzo.naitssu.domain.meeting.dto.DocumentParseResponse;
+import com.donzo.naitssu.global.ratelimit.UpstageRateLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.pdfbox.Loader;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.pdmodel.PDPage;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
@@ -16,18 +17,20 @@ import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class DocumentParserService {
 
-    private final WebClient webClient;
+    private final WebClient upstageParseWebClient;
+    private final UpstageRateLimiter rateLimiter;
 
     @Value("${upstage.api.key}")
     private String upstageApiKey;
@@ -35,71 +38,76 @@ public class DocumentParserService {
     @Value("${upstage.api.document.parse.url}")
     private String documentParseUrl;
 
+    @Value("${document.parse.chunk-concurrency:2}")
+    private int chunkConcurrency;
+
     private static final int MAX_PAGES_PER_REQUEST = 100;
 
-    public Mono<String> parseDocumentToText(byte[] pdfData, String filename) {
+    /**
+     * 임시 파일로 내려받은 PDF를 한 번만 열어 100페이지 단위 청크로 잘라 파싱
+     * 청크 파일은 업로드 직전에 하나씩 만들고, 동시 업로드 수를 제한하며, 결과는 페이지 순서대로 합친다.
+     */
+    public Mono<String> parseDocumentToText(Path pdfFile, String filename) {
         log.info("PDF 문서 파싱 시작: {}", filename);
 
-        try {
-            // PDF 페이지 수 확인
-            int totalPages = getPdfPageCount(pdfData);
-            log.info("PDF 총 페이지 수: {} (파일: {})", totalPages, filename);
-
-            if (totalPages <= MAX_PAGES_PER_REQUEST) {
-                // 100페이지 이하면 한 번에 처리
-                return parseDocumentChunk(pdfData, filename, 1, totalPages);
-            } else {
-                // 100페이지 초과면 분할 처리
-                return parseDocumentInChunks(pdfData, filename, totalPages);
-            }
-        } catch (Exception e) {
-            log.error("PDF 페이지 수 확인 실패: {} - {}", filename, e.getMessage());
-            // 페이지 수 확인 실패 시 원본 그대로 시도
-            return parseDocumentChunk(pdfData, filename, 1, -1);
-        }
+        return Mono.fromCallable(() -> Loader.loadPDF(pdfFile.toFile()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(Optional::of)
+                .onErrorResume(IOException.class, e -> {
+                    log.error("PDF 페이지 분할 실패: {} - {}", filename, e.getMessage());
+                    return Mono.just(Optional.empty());
+                })
+                .flatMap(loaded -> loaded
+                        .map(document -> parseLoadedDocument(document, pdfFile, filename))
+                        // 분할 실패 시 원본 그대로 시도
+                        .orElseGet(() -> parseDocumentChunk(new PdfChunk(pdfFile, filename, -1, -1))));
     }
 
-    private Mono<String> parseDocumentInChunks(byte[] pdfData, String filename, int totalPages) {
-        log.info("PDF 분할 처리 시작: {} (총 {}페이지)", filename, totalPages);
-
-        List<Mono<String>> chunkParsers = new ArrayList<>();
-        int chunkIndex = 1;
+    private Mono<String> parseLoadedDocument(PDDocument document, Path pdfFile, String filename) {
+        int totalPages = document.getNumberOfPages();
+        log.info("PDF 총 페이지 수: {} (파일: {})", totalPages, filename);
 
-        for (int startPage = 1; startPage <= totalPages; startPage += MAX_PAGES_PER_REQUEST) {
-            int endPage = Math.min(startPage + MAX_PAGES_PER_REQUEST - 1, totalPages);
-            
-            try {
-                byte[] chunkData = splitPdfPages(pdfData, startPage, endPage);
-                String chunkFilename = String.format("%s_chunk_%d_pages_%d-%d.pdf", 
-                        filename.replace(".pdf", ""), chunkIndex, startPage, endPage);
-                
-                chunkParsers.add(parseDocumentChunk(chunkData, chunkFilename, startPage, endPage)
-                        .onErrorReturn(""));
-                
-                chunkIndex++;
-            } catch (Exception e) {
-                log.error("PDF 청크 생성 실패: {} (페이지 {}-{})", filename, startPage, endPage, e);
-                // 실패한 청크는 빈 문자열로 처리
-                chunkParsers.add(Mono.just(""));
-            }
+        if (totalPages <= MAX_PAGES_PER_REQUEST) {
+            // 100페이지 이하면 원본 파일 그대로 한 번에 처리
+            closeQuietly(document);
+            return parseDocumentChunk(new PdfChunk(pdfFile, filename, 1, totalPages));
         }
 
-        return Flux.fromIterable(chunkParsers)
-                .flatMap(mono -> mono)
+        int chunkCount = (totalPages + MAX_PAGES_PER_REQUEST - 1) / MAX_PAGES_PER_REQUEST;
+        log.info("PDF 분할 처리 시작: {} (총 {}개 청크, 동시 업로드 {}개)", filename, chunkCount, chunkConcurrency);
+
+        // flatMapSequential: 최대 chunkConcurrency개만 구독(=청크 생성/업로드)하고 결과는 청크 순서대로 방출
+        return Flux.range(0, chunkCount)
+                .flatMapSequential(index -> parseChunkLazily(document, filename, index, totalPages), chunkConcurrency)
                 .collectList()
                 .map(results -> {
-                    String combinedText = String.join("\n\n", results.stream()
-                            .filter(text -> !text.trim().isEmpty())
-                            .toList());
-                    
-                    log.info("PDF 분할 파싱 완료: {} - 총 {}개 청크, 최종 텍스트 길이: {}", 
+                    String combinedText = String.join("\n\n", results);
+
+                    log.info("PDF 분할 파싱 완료: {} - 총 {}개 청크, 최종 텍스트 길이: {}",
                             filename, results.size(), combinedText.length());
-                    
+
                     return combinedText;
-                });
+                })
+                .doFinally(signal -> closeQuietly(document));
+    }
+
+    private Mono<String> parseChunkLazily(PDDocument document, String filename, int index, int totalPages) {
+        int startPage = index * MAX_PAGES_PER_REQUEST + 1;
+        int endPage = Math.min(startPage + MAX_PAGES_PER_REQUEST - 1, totalPages);
+        String chunkFilename = String.format("%s_chunk_%d_pages_%d-%d.pdf",
+                filename.replace(".pdf", ""), index + 1, startPage, endPage);
+
+        return Mono.usingWhen(
+                Mono.fromCallable(() -> writeChunkFile(document, startPage, endPage))
+                        .subscribeOn(Schedulers.boundedElastic()),
+                chunkFile -> parseDocumentChunk(new PdfChunk(chunkFile, chunkFilename, startPage, endPage)),
+                chunkFile -> Mono.fromRunnable(() -> deleteQuietly(chunkFile)));
     }
 
-    private Mono<String> parseDocumentChunk(byte[] pdfData, String filename, int startPage, int endPage) {
+    private Mono<String> parseDocumentChunk(PdfChunk chunk) {
+        String filename = chunk.filename();
+        int startPage = chunk.startPage();
+        int endPage = chunk.endPage();
         String pageInfo = (startPage > 0 && endPage > 0) ? 
                 String.format(" (페이지 %d-%d)", startPage, endPage) : "";
         log.info("PDF 청크 파싱 시작: {}{}", filename, pageInfo);
@@ -110,8 +118,8 @@ public class DocumentParserService {
         parts.add("coordinates", "false");
         parts.add("model", "document-parse");
         
-        // PDF 파일을 ByteArrayResource로 변환
-        ByteArrayResource pdfResource = new ByteArrayResource(pdfData) {
+        // 청크 파일을 메모리에 올리지 않고 파일 리소스로 업로드
+        FileSystemResource pdfResource = new FileSystemResource(chunk.file()) {
             @Override
             public String getFilename() {
                 return filename;
@@ -119,59 +127,81 @@ public class DocumentParserService {
         };
         parts.add("document", pdfResource);
 
-        return webClient.post()
+        // 문서 파싱은 토큰 예산 대신 요청 수/동시성 제한만 적용
+        // 재시도는 속도 제한기(429)와 서킷 브레이커(5xx/연결 오류)에서만 수행 (청크 단위 재시도를 겹쳐 두지 않음)
+        return rateLimiter.execute(UpstageRateLimiter.Priority.BATCH, 0, () -> upstageParseWebClient.post()
                 .uri(documentParseUrl)
                 .header("Authorization", "Bearer " + upstageApiKey)
                 .contentType(MediaType.MULTIPART_FORM_DATA)
                 .body(BodyInserters.fromMultipartData(parts))
                 .retrieve()
                 .onStatus(status -> !status.is2xxSuccessful(), 
-                         response -> response.bodyToMono(String.class)
-                                 .flatMap(errorBody -> {
+                         response -> response.createException()
+                                 .flatMap(ex -> {
+                                     // 429 여부를 속도 제한기가 판단할 수 있도록 상태 코드를 보존한 예외로 전달
                                      log.error("Document Parser API 오류 - 상태: {}, 응답: {}", 
-                                             response.statusCode(), errorBody);
-                                     return Mono.error(new RuntimeException("Document Parser API 호출 실패: " + 
-                                             response.statusCode() + " - " + errorBody));
+                                             response.statusCode(), ex.getResponseBodyAsString());
+                                     return Mono.error(ex);
                                  }))
-                .bodyToMono(DocumentParseResponse.class)
-                .map(response -> {
+                .bodyToMono(DocumentParseResponse.class))
+                .flatMap(response -> {
                     if (response != null && response.getContent() != null && 
                         response.getContent().getText() != null && 
                         !response.getContent().getText().trim().isEmpty()) {
                         log.info("PDF 청크 파싱 성공: {}{} (페이지 수: {})", filename, pageInfo,
                                 response.getUsage() != null ? response.getUsage().getPages() : "N/A");
-                        return response.getContent().getText();
-                    } else {
-                        log.warn("PDF 청크 파싱 결과가 비어있음: {}{}", filename, pageInfo);
-                        return "";
+                        return Mono.just(response.getContent().getText());
                     }
+                    // 빈 결과를 건너뛰면 회의록 일부가 빠진 채 요약되므로 파싱 실패로 처리
+                    return Mono.<String>error(new IllegalStateException("PDF 청크 파싱 결과가 비어있음: " + filename + pageInfo));
                 })
                 .doOnError(error -> log.error("PDF 청크 파싱 실패: {}{} - {}", filename, pageInfo, error.getMessage()));
     }
 
-    private int getPdfPageCount(byte[] pdfData) throws IOException {
-        try (PDDocument document = Loader.loadPDF(pdfData)) {
-            return document.getNumberOfPages();
+    private Path writeChunkFile(PDDocument document, int startPage, int endPage) throws IOException {
+        Path chunkFile = Files.createTempFile("meeting-chunk-", ".pdf");
+        try {
+            // PDDocument는 스레드 안전하지 않으므로 원본 문서 단위로 직렬화
+            synchronized (document) {
+                writePages(document, startPage, endPage, chunkFile);
+            }
+            return chunkFile;
+        } catch (IOException e) {
+            deleteQuietly(chunkFile);
+            throw e;
         }
     }
 
-    private byte[] splitPdfPages(byte[] pdfData, int startPage, int endPage) throws IOException {
-        try (PDDocument originalDocument = Loader.loadPDF(pdfData);
-             PDDocument newDocument = new PDDocument()) {
-            
+    private void writePages(PDDocument source, int startPage, int endPage, Path target) throws IOException {
+        try (PDDocument newDocument = new PDDocument()) {
             // 페이지는 0부터 시작하므로 1을 빼기
-            int startIndex = startPage - 1;
-            int endIndex = Math.min(endPage - 1, originalDocument.getNumberOfPages() - 1);
-            
-            for (int i = startIndex; i <= endIndex; i++) {
-                PDPage page = originalDocument.getPage(i);
+            for (int i = startPage - 1; i <= endPage - 1; i++) {
+                PDPage page = source.getPage(i);
                 newDocument.addPage(page);
             }
-            
-            try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-                newDocument.save(outputStream);
-                return outputStream.toByteArray();
+            newDocument.save(target.toFile());
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("PDF 청크 임시 파일 삭제 실패: {} - {}", file, e.getMessage());
+        }
+    }
+
+    private void closeQuietly(PDDocument document) {
+        // 취소 시 진행 중인 청크 기록이 끝난 뒤 닫히도록 같은 모니터 사용
+        synchronized (document) {
+            try {
+                document.close();
+            } catch (IOException e) {
+                log.warn("PDF 문서 닫기 실패: {}", e.getMessage());
             }
         }
     }
+
+    private record PdfChunk(Path file, String filename, int startPage, int endPage) {
+    }
 }
@@ -0,0 +1,150 @@
+package com.donzo.naitssu.domain.meeting.service;
+
+import com.donzo.naitssu.global.text.TokenEstimator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.ToIntFunction;
+
+/**
+ * 트리형 map-reduce 요약기
+ *
+ * 청크를 각각 요약(level 0)한 뒤, 인접한 요약을 최대 fanIn개(추정 토큰 합계 maxMergeTokens 이하)씩 묶어
+ * 다시 요약하는 과정을 하나가 남을 때까지 반복한다. 각 단계의 동시 호출 수는 concurrency로 제한하고 결과는
+ * 청크 순서대로 방출하므로, 호출 측은 중간 요약을 만들어지는 대로 받아볼 수 있다.
+ * 묶기 전에 예산의 절반을 넘는 요약은 절반 이하로 잘라, 한 번의 호출 입력이 항상 maxMergeTokens 이하이면서
+ * 매 단계 최소 2개씩 묶여 트리 깊이가 청크 수에 대해 로그로만 늘어나게 한다.
+ */
+@Component
+@Slf4j
+public class HierarchicalSummarizer {
+
+    @Value("${meeting.summary.fan-in:8}")
+    private int fanIn;
+
+    @Value("${meeting.summary.concurrency:2}")
+    private int concurrency;
+
+    @Value("${meeting.summary.max-merge-tokens:20000}")
+    private int maxMergeTokens;
+
+    /**
+     * 줄글 요약 진행 스트림 (마지막 요소가 최종 요약, 요약할 내용이 없으면 빈 스트림)
+     *
+     * @param chunks 원문 순서대로 나눈 청크
+     * @param leaf   청크 요약 (청크, 1부터 시작하는 위치, 전체 수) - 하나라도 실패하면 일부만으로
+     *               요약하지 않도록 전체를 실패시킴
+     * @param merge  인접 요약 묶음을 하나로 통합 (묶음, 단계)
+     */
+    public Flux<Partial<String>> summarize(List<String> chunks,
+                                           LeafSummarizer<String> leaf,
+                                           BiFunction<List<String>, Integer, Mono<String>> merge) {
+        return summarize(chunks, leaf, merge, text -> text.isBlank() ? 0 : TokenEstimator.estimate(text),
+                TokenEstimator::truncate);
+    }
+
+    /**
+     * 요약 진행 스트림 (요약 결과 타입 지정)
+     *
+     * @param size 묶음 크기 계산용 추정 토큰 수 (0이면 빈 결과로 보고 다음 단계에서 제외)
+     * @param fit  결과를 주어진 토큰 수 이하로 줄임 (통합 입력 예산을 넘는 결과에만 사용)
+     */
+    public <T> Flux<Partial<T>> summarize(List<String> chunks,
+                                          LeafSummarizer<T> leaf,
+                                          BiFunction<List<T>, Integer, Mono<T>> merge,
+                                          ToIntFunction<T> size,
+                                          BiFunction<T, Integer, T> fit) {
+        int total = chunks.size();
+        Flux<Partial<T>> leaves = Flux.range(0, total)
+                .flatMapSequential(i -> leaf.summarize(chunks.get(i), i + 1, total)
+                        .doOnError(e -> log.warn("청크 요약 실패 ({}/{}): {}", i + 1, total, e.getMessage()))
+                        .map(value -> new Partial<>(0, i, total, value)), Math.max(1, concurrency));
+        return withNextLevels(leaves, 0, merge, new Sizing<>(size, fit));
+    }
+
+    /**
+     * 현재 단계 결과를 그대로 흘려보낸 뒤, 둘 이상 남았으면 묶어서 다음 단계를 이어 붙임
+     */
+    private <T> Flux<Partial<T>> withNextLevels(Flux<Partial<T>> partials, int level,
+                                                BiFunction<List<T>, Integer, Mono<T>> merge,
+                                                Sizing<T> sizing) {
+        Flux<Partial<T>> shared = partials.cache();
+        return shared.concatWith(shared
+                .map(Partial::value)
+                .filter(value -> sizing.size().applyAsInt(value) > 0)
+                .collectList()
+                .flatMapMany(values -> values.size() <= 1
+                        ? Flux.empty()
+                        : withNextLevels(mergeLevel(values, level + 1, merge, sizing), level + 1, merge, sizing)));
+    }
+
+    private <T> Flux<Partial<T>> mergeLevel(List<T> values, int level,
+                                            BiFunction<List<T>, Integer, Mono<T>> merge,
+                                            Sizing<T> sizing) {
+        List<List<T>> groups = group(values, sizing);
+        if (groups.size() >= values.size()) {
+            // fit이 예산을 지키면 일어나지 않음 (무한 반복 방지)
+            return Flux.error(new IllegalStateException("요약 통합 단계에서 묶음 수가 줄지 않음: " + values.size() + "개"));
+        }
+        log.info("요약 통합 {}단계: 요약 {}개 → {}개", level, values.size(), groups.size());
+        return Flux.range(0, groups.size())
+                .flatMapSequential(i -> {
+                    List<T> group = groups.get(i);
+                    // 묶을 대상이 하나뿐이면 호출 없이 그대로 올림
+                    Mono<T> merged = group.size() == 1 ? Mono.just(group.get(0)) : merge.apply(group, level);
+                    return merged.map(value -> new Partial<>(level, i, groups.size(), value));
+                }, Math.max(1, concurrency));
+    }
+
+    /**
+     * 순서를 유지하며 인접 요약을 fanIn개, 추정 토큰 합계 maxMergeTokens 이하로 묶음
+     * 예산의 절반을 넘는 요약은 먼저 절반 이하로 줄이므로 이웃한 두 요약은 항상 한 묶음에 들어간다.
+     */
+    private <T> List<List<T>> group(List<T> values, Sizing<T> sizing) {
+        int maxGroupSize = Math.max(2, fanIn);
+        int budget = Math.max(2, maxMergeTokens);
+        List<List<T>> groups = new ArrayList<>();
+        List<T> current = new ArrayList<>();
+        int currentTokens = 0;
+        for (T value : values) {
+            T item = value;
+            int tokens = sizing.size().applyAsInt(item);
+            if (tokens > budget / 2) {
+                item = sizing.fit().apply(item, budget / 2);
+                int fitted = sizing.size().applyAsInt(item);
+                log.warn("통합 입력 예산을 넘는 요약을 줄임: 추정 {} → {} 토큰", tokens, fitted);
+                tokens = fitted;
+            }
+            boolean full = current.size() >= maxGroupSize || currentTokens + tokens > budget;
+            if (full && !current.isEmpty()) {
+                groups.add(current);
+                current = new ArrayList<>();
+                currentTokens = 0;
+            }
+            current.add(item);
+            currentTokens += tokens;
+        }
+        if (!current.isEmpty()) groups.add(current);
+        return groups;
+    }
+
+    @FunctionalInterface
+    public interface LeafSummarizer<T> {
+        Mono<T> summarize(String chunk, int position, int total);
+    }
+
+    /**
+     * 중간/최종 요약 (level 0은 청크 요약, index는 해당 단계에서의 순서)
+     */
+    public record Partial<T>(int level, int index, int count, T value) {
+    }
+
+    private record Sizing<T>(ToIntFunction<T> size, BiFunction<T, Integer, T> fit) {
+    }
+}
@@ -0,0 +1,461 @@
+package com.donzo.naitssu.domain.meeting.service;
+
+import com.donzo.naitssu.domain.meeting.entity.Meeting;
+import com.donzo.naitssu.domain.meeting.entity.MeetingAnalysisJob;
+import com.donzo.naitssu.domain.meeting.repository.MeetingAnalysisJobRepository;
+import com.donzo.naitssu.domain.meeting.repository.MeetingRepository;
+import com.donzo.naitssu.domain.search.service.SearchService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 회의 PDF 분석 전용 실행기
+ *
+ * 동시 실행 수(workers)와 대기 작업 수(queueCapacity)를 세마포어로 제한하며, 대기 자리가 없으면 enqueue 호출 스레드를 막아
+ * 회의 목록 수집 속도를 분석 처리 속도에 맞춘다(back-pressure). 가상 스레드 모드에서는 작업마다 가상 스레드를 만들고
+ * 풀 대신 workers 세마포어로 동시 실행 수를 제한한다.
+ * 다운로드/파싱/요약 단계마다 동시 실행 수를 따로 제한하고, 작업 상태는 meeting_analysis_jobs에 저장한다.
+ * 실패한 작업은 지수 백오프로 nextRunAt을 늦춰 스케줄러가 다시 실행하며,
+ * 파싱 결과는 MeetingTranscriptService에 보관하고 작업에 PDF 해시와 ETag/Last-Modified를 남겨,
+ * 재시도·재분석 시 조건부 GET으로 PDF가 바뀌지 않았으면 다운로드/파싱을 건너뛴다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MeetingAnalysisExecutor {
+
+    public enum Stage {
+        DOWNLOAD, PARSE, SUMMARIZE
+    }
+
+    private final MeetingAnalysisJobRepository jobRepository;
+    private final MeetingRepository meetingRepository;
+    private final PdfProcessingService pdfProcessingService;
+    private final DocumentParserService documentParserService;
+    private final MeetingSummaryService meetingSummaryService;
+    private final MeetingTranscriptService meetingTranscriptService;
+    private final TransactionTemplate transactionTemplate;
+    private final SearchService searchService;
+
+    @Value("${meeting.analysis.workers:4}")
+    private int workers;
+
+    @Value("${meeting.analysis.queue-capacity:20}")
+    private int queueCapacity;
+
+    @Value("${meeting.analysis.download-concurrency:2}")
+    private int downloadConcurrency;
+
+    @Value("${meeting.analysis.parse-concurrency:2}")
+    private int parseConcurrency;
+
+    @Value("${meeting.analysis.summarize-concurrency:2}")
+    private int summarizeConcurrency;
+
+    @Value("${meeting.analysis.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${meeting.analysis.retry-base-delay-seconds:60}")
+    private long retryBaseDelaySeconds;
+
+    @Value("${meeting.analysis.retry-max-delay-seconds:21600}")
+    private long retryMaxDelaySeconds;
+
+    @Value("${meeting.analysis.backfill-batch-size:100}")
+    private int backfillBatchSize;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private ExecutorService executor;
+    private Semaphore workerSlots; // 동시 실행 수 제한
+    private Semaphore admission;   // 실행 중 + 대기 중 작업 수 제한 (workers + queueCapacity)
+    private final Map<Stage, Semaphore> stagePermits = new EnumMap<>(Stage.class);
+    private final Map<Stage, StageMetrics> stageMetrics = new EnumMap<>(Stage.class);
+    private final AtomicLong completedJobs = new AtomicLong();
+    private final AtomicLong failedJobs = new AtomicLong();
+    private final AtomicLong parsedTextReused = new AtomicLong();
+    private final Set<Long> scheduledJobIds = ConcurrentHashMap.newKeySet(); // 실행기에 제출된 작업 (중복 제출 방지)
+
+    @PostConstruct
+    void init() {
+        stagePermits.put(Stage.DOWNLOAD, new Semaphore(downloadConcurrency));
+        stagePermits.put(Stage.PARSE, new Semaphore(parseConcurrency));
+        stagePermits.put(Stage.SUMMARIZE, new Semaphore(summarizeConcurrency));
+        for (Stage stage : Stage.values()) {
+            stageMetrics.put(stage, new StageMetrics());
+        }
+
+        workerSlots = new Semaphore(Math.max(1, workers));
+        admission = new Semaphore(Math.max(1, workers) + Math.max(0, queueCapacity));
+        if (virtualThreads) {
+            executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("meeting-analysis-", 1).factory());
+        } else {
+            AtomicInteger threadIndex = new AtomicInteger();
+            executor = Executors.newFixedThreadPool(Math.max(1, workers), runnable -> {
+                Thread thread = new Thread(runnable, "meeting-analysis-" + threadIndex.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        log.info("회의 분석 실행기 설정: 워커 {}개{}, 대기열 {}건, 단계별 동시 실행 (다운로드 {}, 파싱 {}, 요약 {})",
+                workers, virtualThreads ? "(가상 스레드)" : "", queueCapacity, downloadConcurrency, parseConcurrency, summarizeConcurrency);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        // 처리 중이던 작업은 DB에 RUNNING으로 남아 다음 기동 시 재실행됨
+        executor.shutdownNow();
+    }
+
+    /**
+     * 재시작 전에 처리 중이던 작업을 대기 상태로 되돌리고, 작업이 없는 미요약 회의에 작업을 생성
+     * 실제 제출은 스케줄러의 dispatchDueJobs가 담당한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recoverJobs() {
+        int requeued = jobRepository.updateStatus(
+                MeetingAnalysisJob.Status.RUNNING, MeetingAnalysisJob.Status.QUEUED, LocalDateTime.now());
+
+        int created = backfillMissingJobs();
+
+        if (requeued > 0 || created > 0) {
+            log.info("회의 분석 작업 복구: 처리 중이던 작업 {}건 재대기, 누락된 회의 {}건 작업 생성", requeued, created);
+        }
+    }
+
+    /**
+     * 작업이 없는 미요약 회의가 남지 않을 때까지 backfillBatchSize 단위로 작업 생성
+     * 작업을 만든 회의는 조회 조건에서 빠지므로 항상 첫 페이지를 다시 조회한다.
+     */
+    int backfillMissingJobs() {
+        int batchSize = Math.max(1, backfillBatchSize);
+        int total = 0;
+        while (true) {
+            List<Meeting> missing = meetingRepository.findWithoutAnalysisJob(PageRequest.of(0, batchSize));
+            int created = 0;
+            for (Meeting meeting : missing) {
+                if (createJob(meeting) != null) created++;
+            }
+            total += created;
+            // 마지막 페이지이거나, 작업을 만들 수 없는 회의만 남았으면(같은 페이지가 반복 조회됨) 종료
+            if (missing.size() < batchSize || created == 0) return total;
+        }
+    }
+
+    /**
+     * 회의에 대한 분석 작업 생성 (PDF가 없으면 null)
+     * 회의 저장과 같은 트랜잭션에서 호출해 작업이 누락되지 않도록 한다.
+     */
+    public MeetingAnalysisJob createJob(Meeting meeting) {
+        if (meeting.getPdfLinkUrl() == null || meeting.getPdfLinkUrl().trim().isEmpty()) {
+            log.debug("PDF URL이 없어 분석 생성 건너뜀: {}", meeting.getConferNum());
+            return null;
+        }
+
+        return jobRepository.save(MeetingAnalysisJob.builder()
+                .meetingId(meeting.getId())
+                .conferNum(meeting.getConferNum())
+                .title(meeting.getTitle())
+                .pdfUrl(meeting.getPdfLinkUrl())
+                .build());
+    }
+
+    /**
+     * 실행 시각이 된 대기/재시도 작업을 대기열의 남은 자리만큼 제출 (호출 스레드를 막지 않음)
+     */
+    public int dispatchDueJobs() {
+        int capacity = admission.availablePermits();
+        if (capacity <= 0) return 0;
+
+        List<MeetingAnalysisJob> due = jobRepository.findDue(
+                List.of(MeetingAnalysisJob.Status.QUEUED, MeetingAnalysisJob.Status.FAILED),
+                LocalDateTime.now(),
+                PageRequest.of(0, capacity + scheduledJobIds.size()));
+
+        int dispatched = 0;
+        for (MeetingAnalysisJob job : due) {
+            if (dispatched >= capacity) break;
+            if (scheduledJobIds.contains(job.getId())) continue;
+            enqueue(job.getId());
+            dispatched++;
+        }
+        if (dispatched > 0) {
+            log.info("회의 분석 작업 {}건 제출", dispatched);
+        }
+        return dispatched;
+    }
+
+    /**
+     * 작업을 대기열에 추가 (대기열이 가득 차 있으면 빈 자리가 생길 때까지 대기)
+     */
+    public void enqueue(Long jobId) {
+        if (!scheduledJobIds.add(jobId)) return;
+        try {
+            admission.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            scheduledJobIds.remove(jobId);
+            log.warn("회의 분석 작업 대기 중 인터럽트 (jobId: {})", jobId);
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    workerSlots.acquire();
+                    try {
+                        process(jobId);
+                    } finally {
+                        workerSlots.release();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt(); // 종료 중, 작업은 DB에 남아 다음 기동 시 재실행됨
+                } finally {
+                    admission.release();
+                    scheduledJobIds.remove(jobId);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            admission.release();
+            scheduledJobIds.remove(jobId);
+            // 작업은 QUEUED 상태로 DB에 남아 있으므로 스케줄러가 다시 제출함
+            log.warn("회의 분석 작업 제출 실패 (jobId: {}): {}", jobId, e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        int activeWorkers = Math.max(1, workers) - workerSlots.availablePermits();
+        int admitted = Math.max(1, workers) + Math.max(0, queueCapacity) - admission.availablePermits();
+        metrics.put("queueDepth", Math.max(0, admitted - activeWorkers));
+        metrics.put("queueCapacity", queueCapacity);
+        metrics.put("activeWorkers", activeWorkers);
+        metrics.put("completedJobs", completedJobs.get());
+        metrics.put("failedJobs", failedJobs.get());
+        metrics.put("parsedTextReused", parsedTextReused.get());
+        metrics.put("persistedQueued", jobRepository.countByStatus(MeetingAnalysisJob.Status.QUEUED));
+        metrics.put("persistedRetrying", jobRepository.countByStatus(MeetingAnalysisJob.Status.FAILED));
+        metrics.put("persistedAbandoned", jobRepository.countByStatus(MeetingAnalysisJob.Status.ABANDONED));
+
+        Map<String, Object> stages = new LinkedHashMap<>();
+        for (Stage stage : Stage.values()) {
+            stages.put(stage.name(), stageMetrics.get(stage).snapshot(stagePermits.get(stage)));
+        }
+        metrics.put("stages", stages);
+        return metrics;
+    }
+
+    private void process(Long jobId) {
+        MeetingAnalysisJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus() == MeetingAnalysisJob.Status.COMPLETED
+                || job.getStatus() == MeetingAnalysisJob.Status.ABANDONED) return;
+
+        job.start();
+        job = jobRepository.save(job);
+        String title = job.getTitle();
+        log.info("회의 분석 작업 시작: {} - {}", job.getConferNum(), title);
+
+        try {
+            String text = downloadAndParse(job);
+            MeetingSummaryService.MeetingAnalysisData analysisData = runStage(job, Stage.SUMMARIZE,
+                    () -> meetingSummaryService.generateSummaryAndAnalysisFromText(text, title).block());
+            if (analysisData == null || analysisData.getSummary().trim().isEmpty()) {
+                throw new IllegalStateException("요약 결과가 비어있음");
+            }
+
+            // 회의 요약 반영과 작업 완료 표시를 한 트랜잭션으로 처리
+            MeetingAnalysisJob runningJob = job;
+            Meeting updated = transactionTemplate.execute(status -> {
+                Meeting meeting = meetingRepository.findById(runningJob.getMeetingId()).orElse(null);
+                if (meeting != null) {
+                    meeting.updateSummary(analysisData.getSummary());
+                    meeting.updateGeneralSummary(analysisData.getGeneralSummary());
+                    meeting.updateAnalysis(analysisData.getDiscussionItemsJson());
+                }
+                runningJob.complete();
+                jobRepository.save(runningJob);
+                return meeting;
+            });
+            searchService.indexMeeting(updated); // 요약 내용까지 검색되도록 색인 갱신
+            completedJobs.incrementAndGet();
+            log.info("회의 요약 및 구조화된 분석 생성 완료: {} - {}", job.getConferNum(), title);
+        } catch (Exception e) {
+            failedJobs.incrementAndGet();
+            LocalDateTime nextRunAt = nextRetryAt(job.getAttemptCount());
+            if (nextRunAt != null) {
+                log.error("회의 분석 작업 실패: {} - {} (단계: {}, 시도: {}/{}, 재시도: {})",
+                        job.getConferNum(), title, job.getStage(), job.getAttemptCount(), maxAttempts, nextRunAt, e);
+            } else {
+                log.error("회의 분석 작업 최종 실패: {} - {} (단계: {}, 시도: {}회)",
+                        job.getConferNum(), title, job.getStage(), job.getAttemptCount(), e);
+            }
+            job.fail(e.getMessage(), nextRunAt);
+            jobRepository.save(job);
+        }
+    }
+
+    /**
+     * 회의록 텍스트 조회 - 이전에 파싱한 PDF가 있으면 조건부 GET으로 변경 여부만 확인해 같은 파싱 결과를 재사용
+     */
+    private String downloadAndParse(MeetingAnalysisJob job) throws Exception {
+        String conferNum = job.getConferNum();
+        String pdfUrl = job.getPdfUrl();
+        String filename = pdfProcessingService.extractFilenameFromUrl(pdfUrl);
+
+        String previousText = job.getPdfHash() != null
+                ? meetingTranscriptService.find(conferNum, job.getPdfHash()).orElse(null)
+                : null;
+        if (previousText != null && !job.hasPdfValidators()) {
+            // 서버가 ETag/Last-Modified를 주지 않아 변경 여부를 확인할 수 없으면 기록된 파싱 결과 사용
+            parsedTextReused.incrementAndGet();
+            log.info("이전 파싱 결과 재사용: {} (길이: {})", conferNum, previousText.length());
+            return previousText;
+        }
+
+        boolean conditional = previousText != null;
+        PdfProcessingService.PdfDownload download = runStage(job, Stage.DOWNLOAD, () -> pdfProcessingService.downloadPdf(pdfUrl,
+                conditional ? job.getPdfEtag() : null,
+                conditional ? job.getPdfLastModified() : null).block());
+        if (download == null) {
+            throw new IllegalStateException("PDF 다운로드 결과가 비어있음");
+        }
+        if (download.notModified()) {
+            parsedTextReused.incrementAndGet();
+            log.info("PDF 변경 없음, 이전 파싱 결과 재사용: {} (길이: {})", conferNum, previousText.length());
+            return previousText;
+        }
+
+        Path pdfFile = download.file();
+        try {
+            // 내용이 같은 PDF를 이미 파싱했다면 Document Parse 호출 생략
+            String pdfHash = meetingTranscriptService.hashFile(pdfFile);
+            String cached = meetingTranscriptService.find(conferNum, pdfHash).orElse(null);
+            if (cached != null) {
+                parsedTextReused.incrementAndGet();
+                rememberPdf(job, pdfHash, download);
+                return cached;
+            }
+
+            String parsedText = runStage(job, Stage.PARSE, () -> documentParserService.parseDocumentToText(pdfFile, filename).block());
+            if (parsedText == null || parsedText.trim().isEmpty()) {
+                throw new IllegalStateException("PDF 파싱 결과가 비어있음");
+            }
+            meetingTranscriptService.save(conferNum, pdfHash, parsedText);
+            rememberPdf(job, pdfHash, download);
+            return parsedText;
+        } finally {
+            pdfProcessingService.deleteQuietly(pdfFile);
+        }
+    }
+
+    private void rememberPdf(MeetingAnalysisJob job, String pdfHash, PdfProcessingService.PdfDownload download) {
+        job.recordPdf(pdfHash, download.etag(), download.lastModified());
+        jobRepository.save(job);
+    }
+
+    /**
+     * 지수 백오프로 다음 재시도 시각 계산 (최대 시도 횟수를 넘으면 null)
+     */
+    private LocalDateTime nextRetryAt(int attemptCount) {
+        if (attemptCount >= maxAttempts) return null;
+        long delaySeconds = retryBaseDelaySeconds << Math.min(attemptCount - 1, 20);
+        return LocalDateTime.now().plusSeconds(Math.min(delaySeconds, retryMaxDelaySeconds));
+    }
+
+    private <T> T runStage(MeetingAnalysisJob job, Stage stage, Callable<T> work) throws Exception {
+        job.enterStage(stage.name());
+        jobRepository.save(job);
+
+        Semaphore permits = stagePermits.get(stage);
+        StageMetrics metrics = stageMetrics.get(stage);
+        long waitStart = System.nanoTime();
+        permits.acquire();
+        long start = System.nanoTime();
+        metrics.begin(start - waitStart);
+        try {
+            T result = work.call();
+            metrics.recordSuccess(System.nanoTime() - start);
+            return result;
+        } catch (Exception e) {
+            metrics.recordFailure(System.nanoTime() - start);
+            throw e;
+        } finally {
+            metrics.end();
+            permits.release();
+        }
+    }
+
+    /**
+     * 단계별 처리 건수와 소요 시간 집계
+     */
+    private static class StageMetrics {
+        private final AtomicLong succeeded = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLong totalWaitNanos = new AtomicLong();
+        private final AtomicInteger running = new AtomicInteger();
+
+        private void begin(long waitNanos) {
+            running.incrementAndGet();
+            totalWaitNanos.addAndGet(waitNanos);
+        }
+
+        private void end() {
+            running.decrementAndGet();
+        }
+
+        private void recordSuccess(long nanos) {
+            succeeded.incrementAndGet();
+            record(nanos);
+        }
+
+        private void recordFailure(long nanos) {
+            failed.incrementAndGet();
+            record(nanos);
+        }
+
+        private void record(long nanos) {
+            totalNanos.addAndGet(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        private Map<String, Object> snapshot(Semaphore permits) {
+            long count = succeeded.get() + failed.get();
+            Map<String, Object> snapshot = new LinkedHashMap<>();
+            snapshot.put("running", running.get());
+            snapshot.put("waiting", permits.getQueueLength());
+            snapshot.put("succeeded", succeeded.get());
+            snapshot.put("failed", failed.get());
+            snapshot.put("avgMillis", count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalNanos.get() / count));
+            snapshot.put("maxMillis", TimeUnit.NANOSECONDS.toMillis(maxNanos.get()));
+            snapshot.put("avgWaitMillis", count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get() / count));
+            return snapshot;
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.donzo.naitssu.domain.meeting.service;
 
 import com.donzo.naitssu.domain.meeting.dto.MeetingApiResponse;
+import com.donzo.naitssu.global.resilience.ResilienceRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,8 +20,9 @@ import java.util.Map;
 @Slf4j
 public class MeetingApiService {
 
-    private final WebClient webClient;
+    private final WebClient assemblyWebClient;
     private final ObjectMapper objectMapper;
+    private final ResilienceRegistry resilienceRegistry;
 
     @Value("${assembly.api.key}")
     private String apiKey;
@@ -32,7 +34,8 @@ public class MeetingApiService {
     public Mono<MeetingApiResponse> fetchMeetingData(int pageIndex) {
         String currentYear = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy"));
         
-        return webClient.get()
+        // 법안 동기화와 같은 assembly 서킷을 공유해 장애 중에는 바로 실패
+        return resilienceRegistry.get(ResilienceRegistry.ASSEMBLY).execute(() -> assemblyWebClient.get()
                 .uri(apiUrl + "?Key=" + apiKey + 
                      "&Type=json" +
                      "&pIndex=" + pageIndex +
@@ -40,7 +43,7 @@ public class MeetingApiService {
                      "&DAE_NUM=" + CURRENT_DAE_NUM +
                      "&CONF_DATE=" + currentYear)
                 .retrieve()
-                .bodyToMono(String.class)
+                .bodyToMono(String.class))
                 .flatMap(this::parseJsonResponse)
                 .doOnSuccess(response -> {
                     if (response != null && response.getHeads() != null && !response.getHeads().isEmpty()) {
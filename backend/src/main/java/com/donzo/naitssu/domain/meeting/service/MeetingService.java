@@ -1,15 +1,20 @@
 package com.donzo.naitssu.domain.meeting.service;
 
+import com.donzo.naitssu.domain.meeting.dto.MeetingCursor;
 import com.donzo.naitssu.domain.meeting.dto.MeetingPageResponse;
 import com.donzo.naitssu.domain.meeting.dto.MeetingResponse;
 import com.donzo.naitssu.domain.meeting.entity.Meeting;
 import com.donzo.naitssu.domain.meeting.repository.MeetingRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,16 +25,20 @@ import java.util.Optional;
 @Transactional(readOnly = true)
 public class MeetingService {
     
+    private static final int SORT_DATE_BACKFILL_BATCH_SIZE = 500;
+
     private final MeetingRepository meetingRepository;
+    private final TransactionTemplate transactionTemplate;
     
     /**
      * 회의 목록을 커서 기반 페이지네이션으로 조회 (최신순)
      * 
-     * @param cursor 커서 (이전 페이지의 마지막 회의 ID, null이면 첫 페이지)
+     * @param cursor 커서 (이전 응답의 next_cursor, null이면 첫 페이지)
      * @param size 페이지 크기 (기본값: 10)
      * @return 커서 기반 페이지네이션된 회의 목록
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
      */
-    public MeetingPageResponse getMeetings(Long cursor, int size) {
+    public MeetingPageResponse getMeetings(String cursor, int size) {
         // 페이지 크기 제한 (최대 50개)
         if (size > 50) {
             size = 50;
@@ -41,14 +50,15 @@ public class MeetingService {
         Pageable pageable = PageRequest.of(0, size + 1); // +1로 다음 페이지 존재 여부 확인
         List<Meeting> meetings;
         
-        if (cursor == null) {
+        if (cursor == null || cursor.isBlank()) {
             // 첫 번째 페이지
-            meetings = meetingRepository.findTopByOrderByConfDateDescCreatedAtDescIdDesc(pageable);
+            meetings = meetingRepository.findFirstPage(pageable);
             log.info("회의 목록 조회 (첫 페이지) - 크기: {}", size);
         } else {
-            // 다음 페이지
-            meetings = meetingRepository.findByCursorOrderByConfDateDescCreatedAtDescIdDesc(cursor, pageable);
-            log.info("회의 목록 조회 (커서: {}) - 크기: {}", cursor, size);
+            // 다음 페이지 (마지막 행의 정렬 키 이후부터)
+            MeetingCursor after = MeetingCursor.decode(cursor);
+            meetings = meetingRepository.findPageAfter(after.sortDate(), after.createdAt(), after.id(), pageable);
+            log.info("회의 목록 조회 (커서: {}) - 크기: {}", after, size);
         }
         
         // 다음 페이지 존재 여부 확인
@@ -61,10 +71,10 @@ public class MeetingService {
                 .map(MeetingResponse::from)
                 .toList();
         
-        // 다음 커서 설정 (마지막 회의의 ID)
-        Long nextCursor = null;
+        // 다음 커서 설정 (마지막 회의의 정렬 키)
+        String nextCursor = null;
         if (hasNext && !meetings.isEmpty()) {
-            nextCursor = meetings.get(meetings.size() - 1).getId();
+            nextCursor = MeetingCursor.from(meetings.get(meetings.size() - 1)).encode();
         }
         
         log.info("회의 목록 조회 완료 - 반환: {}개, 다음페이지: {}, 다음커서: {}", 
@@ -82,12 +92,45 @@ public class MeetingService {
      * 최신 회의 1건 조회
      */
     public Optional<MeetingResponse> getLatestMeeting() {
-        Pageable pageable = PageRequest.of(0, 1);
-        var page = meetingRepository.findLatest(pageable);
-        if (page.hasContent()) {
-            return Optional.of(MeetingResponse.from(page.getContent().get(0)));
+        return meetingRepository.findFirstPage(PageRequest.of(0, 1)).stream()
+                .findFirst()
+                .map(MeetingResponse::from);
+    }
+
+    /**
+     * sort_date 컬럼 추가 이전에 저장된 회의의 정렬 날짜를 회의 날짜로 보정
+     * 배치마다 따로 커밋해 기동 시 긴 트랜잭션을 잡지 않으며, 날짜를 읽을 수 없는 회의는 생성 날짜로 채워
+     * 다음 기동 때 다시 조회되지 않게 한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void backfillSortDates() {
+        int updated = 0;
+        int fallback = 0;
+        long lastId = 0L;
+        while (true) {
+            long afterId = lastId;
+            List<Meeting> batch = transactionTemplate.execute(status -> {
+                List<Meeting> meetings = meetingRepository.findBySortDateAndConfDateIsNotNullAndIdGreaterThanOrderByIdAsc(
+                        Meeting.DEFAULT_SORT_DATE, afterId, PageRequest.of(0, SORT_DATE_BACKFILL_BATCH_SIZE));
+                meetings.forEach(Meeting::refreshSortDate);
+                return meetings;
+            });
+            if (batch == null || batch.isEmpty()) break;
+
+            for (Meeting meeting : batch) {
+                if (Meeting.toSortDate(meeting.getConfDate(), null) == null) {
+                    fallback++;
+                } else {
+                    updated++;
+                }
+            }
+            lastId = batch.get(batch.size() - 1).getId();
+        }
+
+        if (updated + fallback > 0) {
+            log.info("회의 정렬 날짜 보정 완료: {}건 (날짜를 읽을 수 없어 생성 날짜 사용: {}건)", updated + fallback, fallback);
         }
-        return Optional.empty();
     }
     
 }
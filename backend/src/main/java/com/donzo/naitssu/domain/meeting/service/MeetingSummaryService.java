@@ -3,93 +3,54 @@ package com.donzo.naitssu.domain.meeting.service;
 import com.donzo.naitssu.domain.chatbot.dto.UpstageRequest;
 import com.donzo.naitssu.domain.chatbot.service.UpstageApiService;
 import com.donzo.naitssu.domain.meeting.dto.MeetingAnalysisResult;
+import com.donzo.naitssu.global.cache.LlmResponseCache;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
-import reactor.core.publisher.Flux;
 
 import java.util.List;
-import java.util.ArrayList;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class MeetingSummaryService {
 
-    private final DocumentParserService documentParserService;
-    private final PdfProcessingService pdfProcessingService;
     private final UpstageApiService upstageApiService;
     private final StructuredMeetingAnalysisService structuredMeetingAnalysisService;
     private final ObjectMapper objectMapper;
+    private final LlmResponseCache llmResponseCache;
+    private final HierarchicalSummarizer hierarchicalSummarizer;
+    private final TranscriptChunker transcriptChunker;
 
-    public Mono<String> generateSummaryFromPdf(String pdfUrl, String meetingTitle) {
-        if (pdfUrl == null || pdfUrl.trim().isEmpty()) {
-            log.warn("PDF URL이 비어있어 요약 생성 불가: {}", meetingTitle);
-            return Mono.just("");
-        }
-
-        log.info("회의 PDF 요약 생성 시작: {} - {}", meetingTitle, pdfUrl);
-
-        String filename = pdfProcessingService.extractFilenameFromUrl(pdfUrl);
-
-        return pdfProcessingService.downloadPdf(pdfUrl)
-                .filter(pdfData -> pdfData.length > 0)
-                .flatMap(pdfData -> documentParserService.parseDocumentToText(pdfData, filename))
-                .filter(text -> !text.trim().isEmpty())
-                .flatMap(parsedText -> generateSummaryWithSolar(parsedText, meetingTitle))
-                .doOnSuccess(summary -> {
-                    if (summary != null && !summary.trim().isEmpty()) {
-                        log.info("회의 PDF 요약 생성 완료: {} (길이: {})", meetingTitle, summary.length());
-                    } else {
-                        log.warn("회의 PDF 요약이 비어있음: {}", meetingTitle);
-                    }
-                })
-                .doOnError(error -> log.error("회의 PDF 요약 생성 실패: {} - {}", meetingTitle, error.getMessage()))
-                .onErrorReturn(""); // 오류 시 빈 문자열 반환
-    }
+    @Value("${meeting.summary.combined-analysis:true}")
+    private boolean combinedAnalysis;
 
     private Mono<String> generateSummaryWithSolar(String text, String meetingTitle) {
-        // 텍스트가 너무 긴 경우 청크로 분할 (약 25,000 토큰 = 대략 80,000 글자)
-        int maxChunkLength = 80000; // 매우 안전한 청크 크기 (한국어 토큰 밀도 고려)
+        // 토큰 예산에 맞춰 발언자/안건 경계에서 분할
+        List<String> chunks = transcriptChunker.split(text);
 
-        if (text.length() <= maxChunkLength) {
+        if (chunks.size() <= 1) {
             return generateSummaryChunk(text, meetingTitle, 1, 1);
         } else {
-            return generateSummaryFromChunks(text, meetingTitle, maxChunkLength);
+            return generateSummaryFromChunks(chunks, meetingTitle);
         }
     }
 
-    private Mono<String> generateSummaryFromChunks(String text, String meetingTitle, int maxChunkLength) {
-        log.info("긴 텍스트 청크 분할 요약 시작: {} (길이: {})", meetingTitle, text.length());
-
-        List<String> chunks = splitTextIntoChunks(text, maxChunkLength);
-        List<Mono<String>> summaryMonos = new ArrayList<>();
-
-        for (int i = 0; i < chunks.size(); i++) {
-            String chunk = chunks.get(i);
-            summaryMonos.add(generateSummaryChunk(chunk, meetingTitle, i + 1, chunks.size())
-                    .onErrorReturn(""));
-        }
-
-        return Flux.fromIterable(summaryMonos)
-                .flatMap(mono -> mono)
-                .collectList()
-                .flatMap(summaries -> {
-                    // 각 청크의 요약을 하나로 통합
-                    String combinedSummaries = summaries.stream()
-                            .filter(summary -> !summary.trim().isEmpty())
-                            .reduce("", (a, b) -> a + "\n\n" + b)
-                            .trim();
-
-                    if (combinedSummaries.isEmpty()) {
-                        return Mono.just("");
-                    }
-
-                    // 통합된 요약을 다시 한 번 요약 (최종 정리)
-                    return generateFinalSummary(combinedSummaries, meetingTitle);
-                });
+    private Mono<String> generateSummaryFromChunks(List<String> chunks, String meetingTitle) {
+        log.info("긴 텍스트 청크 분할 요약 시작: {} ({}개 청크)", meetingTitle, chunks.size());
+
+        // 청크 요약 → 인접 요약끼리 묶어 통합하는 과정을 트리 형태로 반복 (단계별 동시 호출 수 제한)
+        return hierarchicalSummarizer.summarize(chunks,
+                        (chunk, position, total) -> generateSummaryChunk(chunk, meetingTitle, position, total),
+                        (summaries, level) -> generateFinalSummary(String.join("\n\n", summaries), meetingTitle))
+                .doOnNext(partial -> log.debug("회의 요약 진행: {} - {}단계 {}/{}",
+                        meetingTitle, partial.level(), partial.index() + 1, partial.count()))
+                .map(HierarchicalSummarizer.Partial::value)
+                .filter(summary -> !summary.isBlank())
+                .last("");
     }
 
     private Mono<String> generateSummaryChunk(String text, String meetingTitle, int chunkIndex, int totalChunks) {
@@ -115,14 +76,11 @@ public class MeetingSummaryService {
                 new UpstageRequest.Message("user", userPrompt)
         );
 
-        return upstageApiService.chat(messages)
-                .map(response -> {
-                    // 응답이 기본 오류 메시지인 경우 빈 문자열 반환
-                    if (response.startsWith("죄송합니다")) {
-                        return "";
-                    }
-                    return response;
-                });
+        // 빈 부분 요약은 건너뛰지 않고 실패시킴 (일부 청크가 빠진 요약이 저장되지 않도록)
+        return cachedChat(systemPrompt, userPrompt, messages)
+                .filter(response -> !response.isBlank())
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException(
+                        String.format("회의 요약 결과가 비어있음: %s%s", meetingTitle, chunkInfo))));
     }
 
     private Mono<String> generateFinalSummary(String combinedSummaries, String meetingTitle) {
@@ -149,88 +107,47 @@ public class MeetingSummaryService {
                 new UpstageRequest.Message("user", userPrompt)
         );
 
-        return upstageApiService.chat(messages)
-                .map(response -> {
-                    if (response.startsWith("죄송합니다")) {
-                        return combinedSummaries; // 통합 실패 시 원본 반환
-                    }
-                    return response;
-                });
+        // 통합 결과가 비면 부분 요약을 이어 붙여 넘기지 않고 실패시킴 (다음 단계 입력이 예산을 넘지 않도록)
+        return cachedChat(systemPrompt, userPrompt, messages)
+                .filter(response -> !response.isBlank())
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("회의 요약 통합 결과가 비어있음: " + meetingTitle)));
     }
 
-    private List<String> splitTextIntoChunks(String text, int maxChunkLength) {
-        List<String> chunks = new ArrayList<>();
-        int start = 0;
-        
-        while (start < text.length()) {
-            int end = Math.min(start + maxChunkLength, text.length());
-            
-            // 문장 중간에서 자르지 않도록 조정
-            if (end < text.length()) {
-                int lastPeriod = text.lastIndexOf('.', end);
-                int lastNewline = text.lastIndexOf('\n', end);
-                int lastSpace = text.lastIndexOf(' ', end);
-                
-                int cutPoint = Math.max(Math.max(lastPeriod, lastNewline), lastSpace);
-                if (cutPoint > start + maxChunkLength / 2) { // 너무 뒤로 가지 않도록
-                    end = cutPoint + 1;
-                }
-            }
-            
-            chunks.add(text.substring(start, end).trim());
-            start = end;
-        }
-        
-        log.info("텍스트 분할 완료: 총 {}개 청크 (평균 길이: {})", 
-                chunks.size(), chunks.stream().mapToInt(String::length).average().orElse(0));
-        
-        return chunks;
+    // 동일한 프롬프트면 캐시된 응답 재사용 (호출 실패는 오류로 전달되어 캐시되지 않음)
+    private Mono<String> cachedChat(String systemPrompt, String userPrompt, List<UpstageRequest.Message> messages) {
+        return llmResponseCache.getOrCompute(UpstageApiService.CHAT_MODEL, systemPrompt, userPrompt, null,
+                () -> upstageApiService.chat(messages));
     }
 
-    public Mono<MeetingAnalysisData> generateSummaryAndAnalysisFromPdf(String pdfUrl, String meetingTitle) {
-        if (pdfUrl == null || pdfUrl.trim().isEmpty()) {
-            log.warn("PDF URL이 비어있어 분석 생성 불가: {}", meetingTitle);
-            return Mono.just(new MeetingAnalysisData("", "", "[]"));
+    /**
+     * 이미 파싱된 회의록 텍스트로 줄글 요약과 구조화된 분석을 생성
+     * 오류는 호출 측에서 처리할 수 있도록 그대로 전달한다.
+     */
+    public Mono<MeetingAnalysisData> generateSummaryAndAnalysisFromText(String parsedText, String meetingTitle) {
+        if (combinedAnalysis) {
+            // 청크당 한 번의 호출로 줄글 요약과 논의사항을 함께 생성
+            return structuredMeetingAnalysisService.analyzeWithSummary(parsedText, meetingTitle)
+                    .map(result -> toAnalysisData(result.getSummary() != null ? result.getSummary() : "", result));
         }
 
-        log.info("회의 PDF 요약 및 구조화된 분석 생성 시작: {} - {}", meetingTitle, pdfUrl);
-
-        String filename = pdfProcessingService.extractFilenameFromUrl(pdfUrl);
-
-        return pdfProcessingService.downloadPdf(pdfUrl)
-                .filter(pdfData -> pdfData.length > 0)
-                .flatMap(pdfData -> documentParserService.parseDocumentToText(pdfData, filename))
-                .filter(text -> !text.trim().isEmpty())
-                .flatMap(parsedText -> {
-                    // 줄글 요약과 구조화된 분석을 병렬로 실행
-                    Mono<String> summaryMono = generateSummaryWithSolar(parsedText, meetingTitle);
-                    Mono<MeetingAnalysisResult> analysisMono = structuredMeetingAnalysisService.analyzeWithStructuredOutput(parsedText, meetingTitle);
-
-                    return Mono.zip(summaryMono, analysisMono)
-                            .map(tuple -> {
-                                String summary = tuple.getT1();
-                                MeetingAnalysisResult analysis = tuple.getT2();
-                                
-                                try {
-                                    String discussionJson = analysis.getDiscussionItems() != null ? 
-                                            objectMapper.writeValueAsString(analysis.getDiscussionItems()) : "[]";
-                                    
-                                    return new MeetingAnalysisData(summary, "", discussionJson); // 일반 요약은 빈 문자열
-                                } catch (Exception e) {
-                                    log.error("JSON 변환 실패: {}", e.getMessage());
-                                    return new MeetingAnalysisData(summary, "", "[]");
-                                }
-                            });
-                })
-                .doOnSuccess(result -> {
-                    if (result != null && !result.getSummary().trim().isEmpty()) {
-                        log.info("회의 PDF 요약 및 분석 생성 완료: {}", meetingTitle);
-                    } else {
-                        log.warn("회의 PDF 요약 및 분석이 비어있음: {}", meetingTitle);
-                    }
-                })
-                .doOnError(error -> log.error("회의 PDF 요약 및 분석 생성 실패: {} - {}", meetingTitle, error.getMessage()))
-                .onErrorReturn(new MeetingAnalysisData("", "", "[]")); // 오류 시 빈 데이터 반환
+        // 줄글 요약과 구조화된 분석을 병렬로 실행
+        Mono<String> summaryMono = generateSummaryWithSolar(parsedText, meetingTitle);
+        Mono<MeetingAnalysisResult> analysisMono = structuredMeetingAnalysisService.analyzeWithStructuredOutput(parsedText, meetingTitle);
+
+        return Mono.zip(summaryMono, analysisMono)
+                .map(tuple -> toAnalysisData(tuple.getT1(), tuple.getT2()));
+    }
+
+    private MeetingAnalysisData toAnalysisData(String summary, MeetingAnalysisResult analysis) {
+        try {
+            String discussionJson = analysis.getDiscussionItems() != null ?
+                    objectMapper.writeValueAsString(analysis.getDiscussionItems()) : "[]";
+
+            return new MeetingAnalysisData(summary, "", discussionJson); // 일반 요약은 빈 문자열
+        } catch (Exception e) {
+            log.error("JSON 변환 실패: {}", e.getMessage());
+            return new MeetingAnalysisData(summary, "", "[]");
+        }
     }
 
     // 분석 결과를 담는 데이터 클래스
@@ -0,0 +1,109 @@
+package com.donzo.naitssu.domain.meeting.service;
+
+import com.donzo.naitssu.domain.meeting.entity.ParsedDocumentText;
+import com.donzo.naitssu.domain.meeting.repository.ParsedDocumentTextRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 회의록 원문 텍스트 저장소 (Document Parse 결과 캐시)
+ *
+ * Document Parse 결과를 (회의번호, PDF 해시) 단위로 압축 저장하고, 항상 이 키로만 재사용한다.
+ * 내용 해시가 같으면 파싱을 건너뛰고, 정정된 PDF처럼 해시가 다르면 새로 파싱한다.
+ * 분석 작업은 작업에 기록된 해시로, 챗봇 검색은 최근 해시로 같은 저장소를 조회한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class MeetingTranscriptService {
+
+    private final ParsedDocumentTextRepository parsedTextRepository;
+
+    /**
+     * 해당 회의에서 가장 최근에 파싱된 PDF 해시
+     */
+    public Optional<String> findLatestHash(String conferNum) {
+        if (conferNum == null) return Optional.empty();
+        return parsedTextRepository.findRecentHashes(conferNum, PageRequest.of(0, 1)).stream().findFirst();
+    }
+
+    /**
+     * 같은 내용의 PDF에 대한 파싱 결과
+     */
+    public Optional<String> find(String conferNum, String pdfHash) {
+        return parsedTextRepository.findByConferNumAndPdfHash(conferNum, pdfHash)
+                .map(entry -> decompress(entry.getCompressedText()));
+    }
+
+    public void save(String conferNum, String pdfHash, String text) {
+        if (text == null || text.trim().isEmpty()) return;
+        if (parsedTextRepository.findByConferNumAndPdfHash(conferNum, pdfHash).isPresent()) return;
+
+        byte[] compressed = compress(text);
+        try {
+            parsedTextRepository.save(ParsedDocumentText.builder()
+                    .conferNum(conferNum)
+                    .pdfHash(pdfHash)
+                    .originalLength(text.length())
+                    .compressedText(compressed)
+                    .build());
+            log.info("회의록 텍스트 저장: {} (원문 {}자 → 압축 {} bytes)", conferNum, text.length(), compressed.length);
+        } catch (DataIntegrityViolationException e) {
+            // 동시에 같은 PDF를 파싱한 경우 먼저 저장된 결과를 유지
+            log.debug("회의록 텍스트 중복 저장 무시: {}", conferNum);
+        }
+    }
+
+    /**
+     * 파일 내용의 SHA-256 (스트리밍으로 계산)
+     */
+    public String hashFile(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[64 * 1024];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private static byte[] compress(String text) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(text.length() / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(text.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String decompress(byte[] compressed) {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(gzip.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -2,11 +2,13 @@ package com.donzo.naitssu.domain.meeting.service;
 
 import com.donzo.naitssu.domain.meeting.dto.MeetingApiResponse;
 import com.donzo.naitssu.domain.meeting.entity.Meeting;
+import com.donzo.naitssu.domain.meeting.entity.MeetingAnalysisJob;
 import com.donzo.naitssu.domain.meeting.repository.MeetingRepository;
+import com.donzo.naitssu.domain.search.service.SearchService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
@@ -21,9 +23,11 @@ public class MeetingUpdateService {
 
     private final MeetingApiService meetingApiService;
     private final MeetingRepository meetingRepository;
-    private final MeetingSummaryService meetingSummaryService;
+    private final MeetingAnalysisExecutor analysisExecutor;
+    private final SearchService searchService;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // 분석 대기열이 가득 차면 enqueue에서 대기하므로 전체를 하나의 트랜잭션으로 묶지 않음
     public void updateMeetingData() {
         log.info("회의 정보 업데이트 시작");
         
@@ -101,12 +105,19 @@ public class MeetingUpdateService {
                                     .discussionItems("[]") // 초기에는 빈 배열
                                     .build();
                             
-                            Meeting savedMeeting = meetingRepository.save(meeting);
+                            // 회의와 분석 작업을 함께 저장해 작업이 누락되지 않도록 함
+                            MeetingAnalysisJob job = transactionTemplate.execute(status -> {
+                                Meeting savedMeeting = meetingRepository.save(meeting);
+                                return analysisExecutor.createJob(savedMeeting);
+                            });
+                            searchService.indexMeeting(meeting);
                             totalNew.incrementAndGet();
                             log.debug("새 회의 정보 저장: {}", meetingData.getConferNum());
                             
-                            // PDF 요약 및 구조화된 분석 비동기 생성 (백그라운드에서 처리)
-                            generateAnalysisAsync(savedMeeting, meetingData.getPdfLinkUrl(), meetingData.getTitle());
+                            // PDF 요약 및 구조화된 분석은 분석 실행기에서 처리 (대기열이 가득 차면 여기서 대기)
+                            if (job != null) {
+                                analysisExecutor.enqueue(job.getId());
+                            }
                         }
                         totalProcessed.incrementAndGet();
                     }
@@ -136,41 +147,4 @@ public class MeetingUpdateService {
         log.info("회의 정보 업데이트 완료 - 총 처리: {}, 신규 추가: {}", 
                 totalProcessed.get(), totalNew.get());
     }
-
-    private void generateAnalysisAsync(Meeting meeting, String pdfUrl, String meetingTitle) {
-        if (pdfUrl == null || pdfUrl.trim().isEmpty()) {
-            log.debug("PDF URL이 없어 분석 생성 건너뜀: {}", meeting.getConferNum());
-            return;
-        }
-
-        // 별도 스레드에서 요약 및 구조화된 분석 생성 (메인 스케줄러 블로킹 방지)
-        Thread.startVirtualThread(() -> {
-            try {
-                MeetingSummaryService.MeetingAnalysisData analysisData = 
-                        meetingSummaryService.generateSummaryAndAnalysisFromPdf(pdfUrl, meetingTitle)
-                                .block(); // 비동기 처리를 위해 block 사용
-
-                if (analysisData != null && !analysisData.getSummary().trim().isEmpty()) {
-                    // 요약 및 분석 업데이트 (별도 트랜잭션)
-                    updateMeetingAnalysis(meeting.getId(), analysisData);
-                    log.info("회의 요약 및 구조화된 분석 생성 완료: {} - {}", meeting.getConferNum(), meetingTitle);
-                } else {
-                    log.warn("회의 요약 및 분석 생성 실패 또는 빈 결과: {} - {}", meeting.getConferNum(), meetingTitle);
-                }
-            } catch (Exception e) {
-                log.error("회의 요약 및 분석 생성 중 오류: {} - {}", meeting.getConferNum(), meetingTitle, e);
-            }
-        });
-    }
-
-    @Transactional
-    public void updateMeetingAnalysis(Long meetingId, MeetingSummaryService.MeetingAnalysisData analysisData) {
-        meetingRepository.findById(meetingId)
-                .ifPresent(meeting -> {
-                    meeting.updateSummary(analysisData.getSummary());
-                    meeting.updateGeneralSummary(analysisData.getGeneralSummary());
-                    meeting.updateAnalysis(analysisData.getDiscussionItemsJson());
-                    meetingRepository.save(meeting);
-                });
-    }
 }
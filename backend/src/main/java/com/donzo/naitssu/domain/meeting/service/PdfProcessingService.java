@@ -2,37 +2,90 @@ package com.donzo.naitssu.domain.meeting.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PdfProcessingService {
 
-    private final WebClient webClient;
+    private final WebClient pdfWebClient;
 
-    public Mono<byte[]> downloadPdf(String pdfUrl) {
+    /**
+     * PDF를 메모리에 모으지 않고 DataBuffer 스트림으로 임시 파일에 바로 기록
+     * 이전 응답의 ETag/Last-Modified를 넘기면 조건부 GET으로 요청해, 바뀌지 않았으면(304) 본문을 받지 않고
+     * {@link PdfDownload#notModified()}를 반환한다.
+     * 받은 파일은 호출 측에서 사용 후 {@link #deleteQuietly(Path)}로 삭제해야 한다.
+     */
+    public Mono<PdfDownload> downloadPdf(String pdfUrl, String etag, String lastModified) {
         if (pdfUrl == null || pdfUrl.trim().isEmpty()) {
             log.warn("PDF URL이 비어있음");
             return Mono.empty();
         }
 
-        log.info("PDF 다운로드 시작: {}", pdfUrl);
+        log.info("PDF 다운로드 시작: {}{}", pdfUrl, etag != null || lastModified != null ? " (변경 여부 확인)" : "");
 
-        return webClient.get()
+        return pdfWebClient.get()
                 .uri(pdfUrl)
-                .retrieve()
-                .bodyToMono(byte[].class)
-                .timeout(java.time.Duration.ofMinutes(5)) // 5분 타임아웃
-                .doOnSuccess(data -> {
-                    if (data != null) {
-                        log.info("PDF 다운로드 완료: {} bytes ({} MB)", data.length, data.length / (1024.0 * 1024.0));
+                .headers(headers -> {
+                    if (etag != null) headers.set(HttpHeaders.IF_NONE_MATCH, etag);
+                    if (lastModified != null) headers.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+                })
+                .exchangeToMono(response -> {
+                    if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                        log.info("PDF 변경 없음: {}", pdfUrl);
+                        return response.releaseBody().thenReturn(PdfDownload.unchanged(etag, lastModified));
                     }
+                    if (!response.statusCode().is2xxSuccessful()) {
+                        return response.createError();
+                    }
+                    HttpHeaders headers = response.headers().asHttpHeaders();
+                    String newEtag = headers.getETag();
+                    String newLastModified = headers.getFirst(HttpHeaders.LAST_MODIFIED);
+                    return writeToTempFile(response.bodyToFlux(DataBuffer.class), pdfUrl)
+                            .map(file -> new PdfDownload(file, newEtag, newLastModified));
                 })
                 .doOnError(error -> log.error("PDF 다운로드 실패: {} - {}", pdfUrl, error.getMessage()))
-                .onErrorReturn(new byte[0]); // 오류 시 빈 배열 반환
+                .onErrorResume(error -> Mono.empty()); // 오류 시 빈 결과
+    }
+
+    private Mono<Path> writeToTempFile(Flux<DataBuffer> body, String pdfUrl) {
+        return Mono.fromCallable(() -> Files.createTempFile("meeting-", ".pdf"))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(tempFile -> DataBufferUtils.write(body, tempFile)
+                        .timeout(java.time.Duration.ofMinutes(5)) // 5분 타임아웃
+                        .then(Mono.fromCallable(() -> Files.size(tempFile)))
+                        .flatMap(size -> {
+                            if (size == 0) {
+                                log.warn("PDF 다운로드 결과가 비어있음: {}", pdfUrl);
+                                deleteQuietly(tempFile);
+                                return Mono.<Path>empty();
+                            }
+                            log.info("PDF 다운로드 완료: {} bytes ({} MB)", size, size / (1024.0 * 1024.0));
+                            return Mono.just(tempFile);
+                        })
+                        .doOnError(error -> deleteQuietly(tempFile)));
+    }
+
+    public void deleteQuietly(Path file) {
+        if (file == null) return;
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패: {} - {}", file, e.getMessage());
+        }
     }
 
     public String extractFilenameFromUrl(String url) {
@@ -60,4 +113,18 @@ public class PdfProcessingService {
             return "document.pdf";
         }
     }
+
+    /**
+     * PDF 다운로드 결과 (file이 null이면 이전에 받은 PDF에서 바뀌지 않음)
+     */
+    public record PdfDownload(Path file, String etag, String lastModified) {
+
+        static PdfDownload unchanged(String etag, String lastModified) {
+            return new PdfDownload(null, etag, lastModified);
+        }
+
+        public boolean notModified() {
+            return file == null;
+        }
+    }
 }
@@ -3,6 +3,10 @@ package com.donzo.naitssu.domain.meeting.service;
 import com.donzo.naitssu.domain.chatbot.dto.UpstageRequest;
 import com.donzo.naitssu.domain.meeting.dto.MeetingAnalysisResult;
 import com.donzo.naitssu.domain.meeting.dto.StructuredUpstageRequest;
+import com.donzo.naitssu.global.cache.LlmResponseCache;
+import com.donzo.naitssu.global.ratelimit.UpstageRateLimiter;
+import com.donzo.naitssu.global.text.TokenEstimator;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -22,8 +26,36 @@ import java.util.ArrayList;
 @Slf4j
 public class StructuredMeetingAnalysisService {
 
-    private final WebClient webClient;
+    private final WebClient upstageChatWebClient;
     private final ObjectMapper objectMapper;
+    private final UpstageRateLimiter rateLimiter;
+    private final HierarchicalSummarizer hierarchicalSummarizer;
+    private final TranscriptChunker transcriptChunker;
+    private final LlmResponseCache llmResponseCache;
+
+    private static final String STRUCTURED_MODEL = "solar-pro2";
+
+    private static final String SUMMARY_ANALYSIS_PROMPT = """
+            당신은 대한민국 국회 본회의 회의록을 분석해 법에 무지한 사람에게 잘 설명하는 AI입니다.
+            
+            summary 작성 지침:
+            1. 3 ~ 4줄 이내의 줄글로 간결하게 작성
+            2. 마크다운 문법 사용 금지
+            3. 습니다. 체 사용 존댓말 사용
+            
+            discussion_items 작성 지침:
+            1. 회의에서 논의된 핵심 안건, 이슈, 쟁점사항들을 최소 1개, 최대 5개 추출
+            2. 각 10글자 내외로 작성하고 서로 중복되지 않게 구성
+            3. 추상적인 내용보다 실제 논의된 구체적인 안건 위주로, 중요도 순으로 정렬
+            """;
+
+    private static final String MERGE_PROMPT = """
+            당신은 여러 부분으로 나뉜 국회 본회의 회의록의 부분별 요약과 논의사항을 하나로 통합해 법에 무지한 사람에게 잘 설명하는 AI입니다.
+            
+            통합 지침:
+            1. summary: 3 ~ 4줄 이내의 줄글, 중복된 내용은 제거하고 핵심만 유지, 마크다운 금지, 습니다. 체 사용
+            2. discussion_items: 부분별 논의사항 중 중요도 순으로 최대 5개, 각 10글자 내외, 중복 없이
+            """;
 
     @Value("${upstage.api.key}")
     private String apiKey;
@@ -31,33 +63,36 @@ public class StructuredMeetingAnalysisService {
     @Value("${upstage.api.url}")
     private String apiUrl;
 
+    @Value("${meeting.summary.concurrency:2}")
+    private int concurrency;
+
     public Mono<MeetingAnalysisResult> analyzeWithStructuredOutput(String parsedText, String meetingTitle) {
         log.info("구조화된 회의 분석 시작: {}", meetingTitle);
 
-        // 텍스트가 너무 긴 경우 청크로 분할 (약 25,000 토큰 = 대략 80,000 글자)
-        int maxChunkLength = 80000; // 매우 안전한 청크 크기 (한국어 토큰 밀도 고려)
+        // 토큰 예산에 맞춰 발언자/안건 경계에서 분할
+        List<String> chunks = transcriptChunker.split(parsedText);
         
-        if (parsedText.length() <= maxChunkLength) {
+        if (chunks.size() <= 1) {
             return analyzeChunkWithStructuredOutput(parsedText, meetingTitle, 1, 1);
         } else {
-            return analyzeChunksWithStructuredOutput(parsedText, meetingTitle, maxChunkLength);
+            return analyzeChunksWithStructuredOutput(chunks, meetingTitle);
         }
     }
 
-    private Mono<MeetingAnalysisResult> analyzeChunksWithStructuredOutput(String text, String meetingTitle, int maxChunkLength) {
-        log.info("긴 텍스트 청크 분할 분석 시작: {} (길이: {})", meetingTitle, text.length());
+    private Mono<MeetingAnalysisResult> analyzeChunksWithStructuredOutput(List<String> chunks, String meetingTitle) {
+        log.info("긴 텍스트 청크 분할 분석 시작: {} ({}개 청크)", meetingTitle, chunks.size());
         
-        List<String> chunks = splitTextIntoChunks(text, maxChunkLength);
         List<Mono<MeetingAnalysisResult>> analysisMonos = new ArrayList<>();
         
         for (int i = 0; i < chunks.size(); i++) {
             String chunk = chunks.get(i);
-            analysisMonos.add(analyzeChunkWithStructuredOutput(chunk, meetingTitle, i + 1, chunks.size())
-                    .onErrorReturn(new MeetingAnalysisResult(List.of())));
+            // 청크 하나라도 실패하면 전체 분석을 실패시킴 (일부 청크가 빠진 결과가 저장되지 않도록)
+            analysisMonos.add(analyzeChunkWithStructuredOutput(chunk, meetingTitle, i + 1, chunks.size()));
         }
         
+        // 청크 분석도 요약 단계와 같은 동시 호출 수로 제한하고, 논의사항 선택이 청크 순서를 따르도록 순서 유지
         return Flux.fromIterable(analysisMonos)
-                .flatMap(mono -> mono)
+                .flatMapSequential(mono -> mono, Math.max(1, concurrency))
                 .collectList()
                 .map(results -> {
                     // 모든 청크의 분석 결과를 통합
@@ -107,99 +142,176 @@ public class StructuredMeetingAnalysisService {
                 %s
                 """, meetingTitle, chunkInfo, parsedText);
 
+        return requestStructured(systemPrompt, userPrompt, false)
+                .doOnSuccess(result -> {
+                    if (result != null) {
+                        log.info("구조화된 분석 완료{}: {} - 논의사항 {}개", 
+                                chunkInfo, meetingTitle, 
+                                result.getDiscussionItems() != null ? result.getDiscussionItems().size() : 0);
+                    }
+                })
+                .doOnError(error -> log.error("구조화된 분석 실패{}: {} - {}", chunkInfo, meetingTitle, error.getMessage()));
+    }
+
+    /**
+     * 줄글 요약과 논의사항을 청크당 한 번의 호출로 함께 생성
+     * 긴 회의록은 부분별 결과를 트리 형태로 묶어 요약과 논의사항을 함께 통합한다.
+     */
+    public Mono<MeetingAnalysisResult> analyzeWithSummary(String parsedText, String meetingTitle) {
+        log.info("회의 요약+분석 통합 생성 시작: {}", meetingTitle);
+
+        List<String> chunks = transcriptChunker.split(parsedText);
+        if (chunks.size() <= 1) {
+            return analyzeChunkWithSummary(parsedText, meetingTitle, 1, 1);
+        }
+
+        return hierarchicalSummarizer.summarize(chunks,
+                        (chunk, position, total) -> analyzeChunkWithSummary(chunk, meetingTitle, position, total),
+                        (results, level) -> mergeWithSummary(results, meetingTitle, level),
+                        StructuredMeetingAnalysisService::sizeOf,
+                        StructuredMeetingAnalysisService::fit)
+                .doOnNext(partial -> log.debug("회의 요약+분석 진행: {} - {}단계 {}/{}",
+                        meetingTitle, partial.level(), partial.index() + 1, partial.count()))
+                .map(HierarchicalSummarizer.Partial::value)
+                .filter(result -> sizeOf(result) > 0)
+                .last(new MeetingAnalysisResult(List.of(), ""));
+    }
+
+    private Mono<MeetingAnalysisResult> analyzeChunkWithSummary(String text, String meetingTitle, int chunkIndex, int totalChunks) {
+        String chunkInfo = totalChunks > 1 ? String.format(" (부분 %d/%d)", chunkIndex, totalChunks) : "";
+        String userPrompt = String.format("""
+                다음은 "%s"%s 회의록 내용입니다.
+                회의 내용을 줄글로 요약하고, 논의된 주요 사항들을 구조화된 형태로 추출해주세요:
+                
+                %s
+                """, meetingTitle, chunkInfo, text);
+
+        return requestStructured(SUMMARY_ANALYSIS_PROMPT, userPrompt, true)
+                .doOnSuccess(result -> log.info("회의 요약+분석 완료{}: {}", chunkInfo, meetingTitle))
+                .doOnError(error -> log.error("회의 요약+분석 실패{}: {} - {}", chunkInfo, meetingTitle, error.getMessage()));
+    }
+
+    /**
+     * 인접한 부분별 결과를 하나로 통합 (실패하면 이어 붙인 결과로 대신하지 않고 오류 그대로 전달)
+     */
+    private Mono<MeetingAnalysisResult> mergeWithSummary(List<MeetingAnalysisResult> parts, String meetingTitle, int level) {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < parts.size(); i++) {
+            MeetingAnalysisResult part = parts.get(i);
+            body.append("[부분 ").append(i + 1).append("]\n")
+                    .append("요약: ").append(part.getSummary() != null ? part.getSummary() : "").append('\n')
+                    .append("논의사항: ").append(part.getDiscussionItems() != null ? String.join(", ", part.getDiscussionItems()) : "")
+                    .append("\n\n");
+        }
+        String userPrompt = String.format("""
+                다음은 "%s" 회의록의 부분별 요약과 논의사항입니다. 이를 하나의 요약(반드시 줄글, 3~4문장)과 논의사항 목록으로 통합해주세요:
+                
+                %s
+                """, meetingTitle, body.toString().trim());
+
+        return requestStructured(MERGE_PROMPT, userPrompt, true)
+                .filter(result -> result.getSummary() != null && !result.getSummary().isBlank())
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("회의 요약+분석 통합 결과의 요약이 비어있음: " + meetingTitle)))
+                .doOnError(e -> log.warn("회의 요약+분석 통합 실패 ({}단계): {} - {}", level, meetingTitle, e.getMessage()));
+    }
+
+    // 통합 입력 크기 (추정 토큰 수)
+    private static int sizeOf(MeetingAnalysisResult result) {
+        int size = TokenEstimator.estimate(result.getSummary());
+        if (result.getDiscussionItems() != null) {
+            for (String item : result.getDiscussionItems()) size += TokenEstimator.estimate(item);
+        }
+        return size;
+    }
+
+    /**
+     * 추정 토큰 수가 maxTokens 이하가 되도록 논의사항은 앞에서부터 담을 수 있는 만큼 유지하고 요약은 남는 만큼 자름
+     */
+    private static MeetingAnalysisResult fit(MeetingAnalysisResult result, int maxTokens) {
+        List<String> items = new ArrayList<>();
+        int used = 0;
+        if (result.getDiscussionItems() != null) {
+            for (String item : result.getDiscussionItems()) {
+                int tokens = TokenEstimator.estimate(item);
+                if (used + tokens > maxTokens / 2) break;
+                items.add(item);
+                used += tokens;
+            }
+        }
+        return new MeetingAnalysisResult(items, TokenEstimator.truncate(result.getSummary(), maxTokens - used));
+    }
+
+    private Mono<MeetingAnalysisResult> requestStructured(String systemPrompt, String userPrompt, boolean withSummary) {
         List<UpstageRequest.Message> messages = List.of(
                 new UpstageRequest.Message("system", systemPrompt),
                 new UpstageRequest.Message("user", userPrompt)
         );
 
-        StructuredUpstageRequest request = new StructuredUpstageRequest("solar-pro2", messages);
+        StructuredUpstageRequest request = new StructuredUpstageRequest(STRUCTURED_MODEL, messages, withSummary);
+
+        // 같은 프롬프트와 응답 스키마면 캐시된 응답을 재사용 (재시도/재분석 시 LLM 호출 생략)
+        // 분석 결과로 파싱되는 응답만 캐시하고, 아니면 실패시켜 작업 재시도 때 새로 생성하게 함
+        String cacheModel = STRUCTURED_MODEL + ":" + request.getResponseFormat().getJsonSchema().getName();
+        return llmResponseCache.getOrCompute(cacheModel, systemPrompt, userPrompt, null,
+                        () -> requestContent(request, systemPrompt.length() + userPrompt.length()),
+                        content -> parseContent(content) != null)
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("구조화된 응답이 비어있음")))
+                .flatMap(content -> {
+                    MeetingAnalysisResult result = parseContent(content);
+                    if (result == null) {
+                        log.error("구조화된 응답 파싱 실패: {}", content);
+                        return Mono.error(new IllegalStateException("구조화된 응답 파싱 실패"));
+                    }
+                    return Mono.just(result);
+                });
+    }
 
-        return webClient.post()
+    private Mono<String> requestContent(StructuredUpstageRequest request, int promptChars) {
+        long estimatedTokens = UpstageRateLimiter.estimateTokens(promptChars, 1000);
+        return rateLimiter.execute(UpstageRateLimiter.Priority.BATCH, estimatedTokens, () -> upstageChatWebClient.post()
                 .uri(apiUrl)
                 .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
                 .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .bodyValue(request)
                 .retrieve()
                 .onStatus(status -> !status.is2xxSuccessful(), 
-                         response -> response.bodyToMono(String.class)
-                                 .flatMap(errorBody -> {
+                         response -> response.createException()
+                                 .flatMap(ex -> {
+                                     // 429 여부를 속도 제한기가 판단할 수 있도록 상태 코드를 보존한 예외로 전달
                                      log.error("Structured Output API 오류 - 상태: {}, 응답: {}", 
-                                             response.statusCode(), errorBody);
-                                     return Mono.error(new RuntimeException("Structured Output API 호출 실패: " + 
-                                             response.statusCode() + " - " + errorBody));
+                                             response.statusCode(), ex.getResponseBodyAsString());
+                                     return Mono.error(ex);
                                  }))
-                .bodyToMono(String.class)
-                .flatMap(this::parseStructuredResponse)
-                .doOnSuccess(result -> {
-                    if (result != null) {
-                        log.info("구조화된 분석 완료{}: {} - 논의사항 {}개", 
-                                chunkInfo, meetingTitle, 
-                                result.getDiscussionItems() != null ? result.getDiscussionItems().size() : 0);
+                .bodyToMono(JsonNode.class),
+                        response -> response.path("usage").path("total_tokens").asLong(-1))
+                .flatMap(response -> {
+                    // Upstage API 응답에서 content 추출
+                    JsonNode content = response.path("choices").path(0).path("message").path("content");
+                    if (!content.isTextual()) {
+                        log.error("Upstage API 응답에서 choices를 찾을 수 없음: {}", response);
+                        return Mono.error(new IllegalStateException("Invalid API response structure"));
                     }
-                })
-                .doOnError(error -> log.error("구조화된 분석 실패{}: {} - {}", chunkInfo, meetingTitle, error.getMessage()));
-    }
-
-    private List<String> splitTextIntoChunks(String text, int maxChunkLength) {
-        List<String> chunks = new ArrayList<>();
-        int start = 0;
-        
-        while (start < text.length()) {
-            int end = Math.min(start + maxChunkLength, text.length());
-            
-            // 문장 중간에서 자르지 않도록 조정
-            if (end < text.length()) {
-                int lastPeriod = text.lastIndexOf('.', end);
-                int lastNewline = text.lastIndexOf('\n', end);
-                int lastSpace = text.lastIndexOf(' ', end);
-                
-                int cutPoint = Math.max(Math.max(lastPeriod, lastNewline), lastSpace);
-                if (cutPoint > start + maxChunkLength / 2) { // 너무 뒤로 가지 않도록
-                    end = cutPoint + 1;
-                }
-            }
-            
-            chunks.add(text.substring(start, end).trim());
-            start = end;
-        }
-        
-        log.info("구조화된 분석용 텍스트 분할 완료: 총 {}개 청크 (평균 길이: {})", 
-                chunks.size(), chunks.stream().mapToInt(String::length).average().orElse(0));
-        
-        return chunks;
+                    return Mono.just(content.asText());
+                });
     }
 
-    private Mono<MeetingAnalysisResult> parseStructuredResponse(String responseBody) {
+    /**
+     * 응답 JSON을 분석 결과로 변환 (형식이 맞지 않으면 null)
+     * 논의사항이 없으면 임의 문구로 채우지 않고 빈 목록으로 둔다.
+     */
+    MeetingAnalysisResult parseContent(String content) {
         try {
-            log.debug("Structured API 응답: {}", responseBody.length() > 200 ? 
-                     responseBody.substring(0, 200) + "..." : responseBody);
-
-            // Upstage API 응답에서 content 추출
-            var jsonNode = objectMapper.readTree(responseBody);
-            var choices = jsonNode.get("choices");
-            
-            if (choices != null && choices.isArray() && choices.size() > 0) {
-                var content = choices.get(0).get("message").get("content").asText();
-                
-                // JSON 문자열을 MeetingAnalysisResult로 파싱
-                MeetingAnalysisResult result = objectMapper.readValue(content, MeetingAnalysisResult.class);
-                
-                // 최소 요구사항 검증
-                if (result.getDiscussionItems() == null || result.getDiscussionItems().isEmpty()) {
-                    log.warn("논의사항이 없음, 기본값 추가");
-                    result.setDiscussionItems(List.of("회의 진행 및 안건 논의"));
-                }
-                
-                return Mono.just(result);
-            } else {
-                log.error("Upstage API 응답에서 choices를 찾을 수 없음");
-                return Mono.error(new RuntimeException("Invalid API response structure"));
+            MeetingAnalysisResult result = objectMapper.readValue(content, MeetingAnalysisResult.class);
+            if (result == null) return null;
+            if (result.getDiscussionItems() == null) {
+                result.setDiscussionItems(List.of());
             }
-            
+            if (result.getDiscussionItems().isEmpty()) {
+                log.warn("구조화된 응답에 논의사항이 없음");
+            }
+            return result;
         } catch (Exception e) {
-            log.error("구조화된 응답 파싱 실패: {}", e.getMessage());
-            log.error("응답 내용: {}", responseBody);
-            return Mono.error(new RuntimeException("구조화된 응답 파싱 실패: " + e.getMessage()));
+            return null;
         }
     }
 }
@@ -0,0 +1,110 @@
+package com.donzo.naitssu.domain.meeting.service;
+
+import com.donzo.naitssu.global.text.TokenEstimator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 회의록 청크 분할기 (요약/분석 공용)
+ *
+ * 추정 토큰 수로 청크를 토큰 예산까지 채우고, 자를 때는 발언자 전환(○ 의장 …)·안건/시각 표기 줄 →
+ * 줄바꿈 → 문장 끝 → 공백 순으로 경계를 찾는다. 청크가 예산의 minFill 이상 찬 위치에서만 자르므로
+ * 경계가 드문 구간에서도 호출 수가 불필요하게 늘지 않고, 경계가 전혀 없으면 예산 위치에서 자른다.
+ */
+@Component
+@Slf4j
+public class TranscriptChunker {
+
+    // 발언자(○/◯), 안건(의사일정 제1항, 1. …), 시각 표기((10시05분 개의)) 줄
+    private static final Pattern SECTION_START = Pattern.compile(
+            "[ \\t]*(?:[○◯◎●]|의사일정\\s*제\\s*\\d|\\d{1,3}\\.\\s|\\(\\d{1,2}시\\s*\\d{1,2}분)");
+    private static final int SECTION_LOOKAHEAD = 24;
+
+    private static final int SECTION = 3;
+    private static final int LINE = 2;
+    private static final int SENTENCE = 1;
+    private static final int WORD = 0;
+
+    @Value("${meeting.summary.chunk-token-budget:25000}")
+    private int tokenBudget;
+
+    @Value("${meeting.summary.chunk-min-fill:0.6}")
+    private double minFill;
+
+    public int getTokenBudget() {
+        return tokenBudget;
+    }
+
+    public List<String> split(String text) {
+        return split(text, tokenBudget);
+    }
+
+    /**
+     * 원문 순서대로 토큰 예산 이하의 청크로 분할 (빈 청크 제외)
+     */
+    public List<String> split(String text, int budget) {
+        List<String> chunks = new ArrayList<>();
+        if (text == null || text.isBlank()) return chunks;
+
+        long limit = Math.max(1, budget) * 100L;
+        long minCut = (long) (limit * Math.min(Math.max(minFill, 0.0), 1.0));
+        Matcher section = SECTION_START.matcher(text);
+        int length = text.length();
+
+        int start = 0;
+        while (start < length) {
+            int[] boundary = {-1, -1, -1, -1};
+            long weight = 0;
+            int cut = length;
+            for (int i = start; i < length; i++) {
+                if (i > start) {
+                    int kind = boundaryBefore(text, i, section);
+                    if (kind >= 0 && weight >= minCut) boundary[kind] = i;
+                }
+                weight += TokenEstimator.weight(text.charAt(i));
+                if (weight > limit) {
+                    cut = i > start ? i : i + 1; // 경계가 없으면 예산 위치에서 자름
+                    for (int kind = SECTION; kind >= WORD; kind--) {
+                        if (boundary[kind] > start) {
+                            cut = boundary[kind];
+                            break;
+                        }
+                    }
+                    break;
+                }
+            }
+
+            String chunk = text.substring(start, cut).trim();
+            if (!chunk.isEmpty()) chunks.add(chunk);
+            start = cut;
+        }
+
+        if (chunks.size() > 1) {
+            log.info("회의록 분할 완료: 총 {}개 청크 (예산 {} 토큰, 평균 추정 {} 토큰)", chunks.size(), budget,
+                    (int) chunks.stream().mapToInt(TokenEstimator::estimate).average().orElse(0));
+        }
+        return chunks;
+    }
+
+    /**
+     * i 위치 앞에서 자를 수 있는 경계 종류 (없으면 -1)
+     */
+    private static int boundaryBefore(String text, int i, Matcher section) {
+        char previous = text.charAt(i - 1);
+        if (previous == '\n') {
+            section.region(i, Math.min(text.length(), i + SECTION_LOOKAHEAD));
+            return section.lookingAt() ? SECTION : LINE;
+        }
+        char current = text.charAt(i);
+        if (Character.isWhitespace(current)) {
+            return previous == '.' || previous == '?' || previous == '!' ? SENTENCE : WORD;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,62 @@
+package com.donzo.naitssu.domain.search.controller;
+
+import com.donzo.naitssu.domain.search.dto.SearchResponse;
+import com.donzo.naitssu.domain.search.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+@Slf4j
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /**
+     * 법안 전문 검색 (법안명, 한 줄 요약, 핵심 요지, 주요 내용)
+     * GET /api/search/bills?q=임대차&tag=주거&page=0&size=10
+     */
+    @GetMapping("/bills")
+    public ResponseEntity<SearchResponse> searchBills(
+            @RequestParam String q,
+            @RequestParam(required = false) String tag,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        if (q.isBlank()) return ResponseEntity.badRequest().build();
+        if (!searchService.isReady()) return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        try {
+            String tagFilter = (tag == null || tag.isBlank() || tag.trim().equals("전체")) ? null : tag.trim();
+            return ResponseEntity.ok(searchService.searchBills(q, tagFilter, Math.max(page, 0), clampPageSize(size)));
+        } catch (Exception e) {
+            log.error("법안 검색 실패: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    /**
+     * 회의 전문 검색 (회의명, 안건명, 회의 요약)
+     * GET /api/search/meetings?q=예산&page=0&size=10
+     */
+    @GetMapping("/meetings")
+    public ResponseEntity<SearchResponse> searchMeetings(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        if (q.isBlank()) return ResponseEntity.badRequest().build();
+        if (!searchService.isReady()) return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        try {
+            return ResponseEntity.ok(searchService.searchMeetings(q, Math.max(page, 0), clampPageSize(size)));
+        } catch (Exception e) {
+            log.error("회의 검색 실패: {}", e.getMessage(), e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    private int clampPageSize(int size) {
+        return Math.min(Math.max(size, 1), 50);
+    }
+}
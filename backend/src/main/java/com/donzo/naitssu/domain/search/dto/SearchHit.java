@@ -0,0 +1,25 @@
+package com.donzo.naitssu.domain.search.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@Builder
+public class SearchHit {
+
+    private String type; // bill 또는 meeting
+
+    private Long id;
+
+    private String title; // 법안명 또는 회의명
+
+    private String tag; // 법안 분류 태그 (회의는 null)
+
+    private String date; // 발의일 또는 회의날짜
+
+    private double score; // 검색 점수 (높을수록 관련도 높음)
+
+    private Map<String, String> highlights; // 필드명 -> <em>으로 강조한 발췌문
+}
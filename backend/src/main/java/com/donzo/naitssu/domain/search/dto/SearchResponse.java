@@ -0,0 +1,21 @@
+package com.donzo.naitssu.domain.search.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class SearchResponse {
+
+    private String query; // 검색어
+
+    private int page; // 요청한 페이지 (0부터)
+
+    private int size; // 요청한 크기
+
+    private int totalCount; // 전체 일치 문서 수
+
+    private List<SearchHit> hits; // 관련도순 결과
+}
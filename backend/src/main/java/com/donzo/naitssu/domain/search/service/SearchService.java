@@ -0,0 +1,223 @@
+package com.donzo.naitssu.domain.search.service;
+
+import com.donzo.naitssu.domain.bill.entity.Bill;
+import com.donzo.naitssu.domain.bill.repository.BillRepository;
+import com.donzo.naitssu.domain.meeting.entity.Meeting;
+import com.donzo.naitssu.domain.meeting.repository.MeetingRepository;
+import com.donzo.naitssu.domain.search.dto.SearchHit;
+import com.donzo.naitssu.domain.search.dto.SearchResponse;
+import com.donzo.naitssu.global.search.NgramIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 법안/회의 전문 검색
+ *
+ * 법안명·요약, 회의명·안건명·회의 요약을 bigram 역색인에 올려 두고 관련도순으로 조회한다.
+ * 기동 시 전체를 한 번 색인하고, 이후에는 동기화/분석 단계에서 저장된 문서만 증분 반영한다.
+ * 전체 색인은 별도 색인에 만든 뒤 교체하며, 그동안 들어온 증분 반영은 교체 직전에 새 색인에 다시 적용해
+ * 먼저 읽은 스냅샷이 더 새로운 문서를 덮어쓰지 않게 한다.
+ * 결과 페이지에 해당하는 행만 DB에서 읽어 강조 발췌문을 만든다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SearchService {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+    private static final int SNIPPET_LENGTH = 120;
+
+    private final BillRepository billRepository;
+    private final MeetingRepository meetingRepository;
+
+    private final Object indexLock = new Object();
+    private volatile NgramIndex billIndex = new NgramIndex();
+    private volatile NgramIndex meetingIndex = new NgramIndex();
+    private List<Bill> billsDuringRebuild;       // 전체 색인 중에만 non-null (indexLock 보호)
+    private List<Meeting> meetingsDuringRebuild;
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        synchronized (indexLock) {
+            billsDuringRebuild = new ArrayList<>();
+            meetingsDuringRebuild = new ArrayList<>();
+        }
+
+        NgramIndex bills = new NgramIndex();
+        long lastId = 0L;
+        List<Bill> billPage;
+        do {
+            billPage = billRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            billPage.forEach(bill -> putBill(bills, bill));
+            if (!billPage.isEmpty()) lastId = billPage.get(billPage.size() - 1).getId();
+        } while (billPage.size() == REBUILD_BATCH_SIZE);
+
+        NgramIndex meetings = new NgramIndex();
+        lastId = 0L;
+        List<Meeting> meetingPage;
+        do {
+            meetingPage = meetingRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            meetingPage.forEach(meeting -> putMeeting(meetings, meeting));
+            if (!meetingPage.isEmpty()) lastId = meetingPage.get(meetingPage.size() - 1).getId();
+        } while (meetingPage.size() == REBUILD_BATCH_SIZE);
+
+        int replayed;
+        synchronized (indexLock) {
+            // 색인하는 동안 저장된 문서는 스냅샷보다 새로우므로 마지막에 덮어씀
+            billsDuringRebuild.forEach(bill -> putBill(bills, bill));
+            meetingsDuringRebuild.forEach(meeting -> putMeeting(meetings, meeting));
+            replayed = billsDuringRebuild.size() + meetingsDuringRebuild.size();
+            billsDuringRebuild = null;
+            meetingsDuringRebuild = null;
+            billIndex = bills;
+            meetingIndex = meetings;
+        }
+
+        ready = true;
+        log.info("검색 색인 구성 완료: 법안 {}개, 회의 {}개, 색인 중 갱신 {}건 재적용 ({}ms)",
+                bills.size(), meetings.size(), replayed, System.currentTimeMillis() - started);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 법안 색인 추가/갱신
+     */
+    public void indexBill(Bill bill) {
+        if (bill == null || bill.getId() == null) return;
+        synchronized (indexLock) {
+            putBill(billIndex, bill);
+            if (billsDuringRebuild != null) billsDuringRebuild.add(bill);
+        }
+    }
+
+    /**
+     * 회의 색인 추가/갱신 (요약 생성 후 다시 호출하면 요약 내용까지 반영)
+     */
+    public void indexMeeting(Meeting meeting) {
+        if (meeting == null || meeting.getId() == null) return;
+        synchronized (indexLock) {
+            putMeeting(meetingIndex, meeting);
+            if (meetingsDuringRebuild != null) meetingsDuringRebuild.add(meeting);
+        }
+    }
+
+    private static void putBill(NgramIndex index, Bill bill) {
+        index.put(bill.getId(), bill.getTag(), List.of(
+                new NgramIndex.Field(bill.getBillName(), 4),
+                new NgramIndex.Field(bill.getSummaryLine(), 2),
+                new NgramIndex.Field(bill.getSummaryHighlight(), 2),
+                new NgramIndex.Field(bill.getSummaryContent(), 1),
+                new NgramIndex.Field(bill.getProposer(), 1)));
+    }
+
+    private static void putMeeting(NgramIndex index, Meeting meeting) {
+        index.put(meeting.getId(), null, List.of(
+                new NgramIndex.Field(meeting.getTitle(), 4),
+                new NgramIndex.Field(meeting.getSubName(), 3),
+                new NgramIndex.Field(meeting.getSummary(), 1),
+                new NgramIndex.Field(meeting.getDiscussionItems(), 1)));
+    }
+
+    /**
+     * 관련도순 법안 id (페이지 단위)
+     */
+    public NgramIndex.Result rankBills(String query, String tag, int page, int size) {
+        return billIndex.search(query, tag, page * size, size);
+    }
+
+    @Transactional(readOnly = true)
+    public SearchResponse searchBills(String query, String tag, int page, int size) {
+        NgramIndex.Result result = rankBills(query, tag, page, size);
+        Map<Long, Bill> bills = billRepository.findAllById(ids(result)).stream()
+                .collect(Collectors.toMap(Bill::getId, Function.identity()));
+
+        List<SearchHit> hits = result.hits().stream()
+                .filter(hit -> bills.containsKey(hit.id()))
+                .map(hit -> {
+                    Bill bill = bills.get(hit.id());
+                    return SearchHit.builder()
+                            .type("bill")
+                            .id(bill.getId())
+                            .title(bill.getBillName())
+                            .tag(bill.getTag())
+                            .date(bill.getProposeDate() != null ? bill.getProposeDate().toString() : null)
+                            .score(hit.score())
+                            .highlights(highlights(query,
+                                    "billName", bill.getBillName(),
+                                    "summaryLine", bill.getSummaryLine(),
+                                    "summaryHighlight", bill.getSummaryHighlight()))
+                            .build();
+                })
+                .toList();
+        return toResponse(query, page, size, result, hits);
+    }
+
+    @Transactional(readOnly = true)
+    public SearchResponse searchMeetings(String query, int page, int size) {
+        NgramIndex.Result result = meetingIndex.search(query, null, page * size, size);
+        Map<Long, Meeting> meetings = meetingRepository.findAllById(ids(result)).stream()
+                .collect(Collectors.toMap(Meeting::getId, Function.identity()));
+
+        List<SearchHit> hits = result.hits().stream()
+                .filter(hit -> meetings.containsKey(hit.id()))
+                .map(hit -> {
+                    Meeting meeting = meetings.get(hit.id());
+                    return SearchHit.builder()
+                            .type("meeting")
+                            .id(meeting.getId())
+                            .title(meeting.getTitle())
+                            .date(meeting.getConfDate())
+                            .score(hit.score())
+                            .highlights(highlights(query,
+                                    "title", meeting.getTitle(),
+                                    "subName", meeting.getSubName(),
+                                    "summary", meeting.getSummary()))
+                            .build();
+                })
+                .toList();
+        return toResponse(query, page, size, result, hits);
+    }
+
+    /**
+     * (필드명, 원문) 쌍 순서대로 일치하는 필드의 발췌문만 담음
+     */
+    private static Map<String, String> highlights(String query, String... namesAndTexts) {
+        Map<String, String> highlights = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < namesAndTexts.length; i += 2) {
+            String snippet = NgramIndex.highlight(namesAndTexts[i + 1], query, SNIPPET_LENGTH);
+            if (snippet != null) highlights.put(namesAndTexts[i], snippet);
+        }
+        return highlights;
+    }
+
+    private static List<Long> ids(NgramIndex.Result result) {
+        return result.hits().stream().map(NgramIndex.Hit::id).toList();
+    }
+
+    private static SearchResponse toResponse(String query, int page, int size, NgramIndex.Result result, List<SearchHit> hits) {
+        return SearchResponse.builder()
+                .query(query)
+                .page(page)
+                .size(size)
+                .totalCount(result.total())
+                .hits(hits)
+                .build();
+    }
+}
@@ -2,8 +2,32 @@ package com.donzo.naitssu.domain.vote.repository;
 
 import com.donzo.naitssu.domain.vote.entity.Vote;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface VoteRepository extends JpaRepository<Vote, Long> {
+
+    /**
+     * 찬성 수 원자적 증가 (엔티티 조회 없이 단일 UPSERT, 행이 없으면 생성)
+     * 법안 총 투표 수 증가와 함께 호출 측 트랜잭션 안에서 실행해야 한다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO votes (bill_id, agree_count, disagree_count, total_count, created_at, updated_at) " +
+                   "VALUES (:billId, :n, 0, :n, NOW(), NOW()) " +
+                   "ON DUPLICATE KEY UPDATE agree_count = agree_count + :n, total_count = total_count + :n, updated_at = NOW()",
+           nativeQuery = true)
+    int incrementAgree(@Param("billId") Long billId, @Param("n") int n);
+
+    /**
+     * 반대 수 원자적 증가 (엔티티 조회 없이 단일 UPSERT, 행이 없으면 생성)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "INSERT INTO votes (bill_id, agree_count, disagree_count, total_count, created_at, updated_at) " +
+                   "VALUES (:billId, 0, :n, :n, NOW(), NOW()) " +
+                   "ON DUPLICATE KEY UPDATE disagree_count = disagree_count + :n, total_count = total_count + :n, updated_at = NOW()",
+           nativeQuery = true)
+    int incrementDisagree(@Param("billId") Long billId, @Param("n") int n);
 }
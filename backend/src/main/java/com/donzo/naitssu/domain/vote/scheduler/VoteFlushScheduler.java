@@ -0,0 +1,21 @@
+package com.donzo.naitssu.domain.vote.scheduler;
+
+import com.donzo.naitssu.domain.vote.service.VoteCounterService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VoteFlushScheduler {
+
+    private final VoteCounterService voteCounterService;
+
+    // 메모리에 누적된 투표 증분을 주기적으로 DB에 반영
+    @Scheduled(fixedDelayString = "${vote.counter.flush-interval-ms:1000}")
+    public void flushVotes() {
+        voteCounterService.flush();
+    }
+}
@@ -0,0 +1,254 @@
+package com.donzo.naitssu.domain.vote.service;
+
+import com.donzo.naitssu.domain.bill.repository.BillRepository;
+import com.donzo.naitssu.domain.vote.entity.Vote;
+import com.donzo.naitssu.domain.vote.repository.VoteRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 법안별 투표 수를 메모리에서 누적하고 주기적으로 DB에 일괄 반영하는 write-behind 카운터
+ *
+ * 투표 요청은 DB를 거치지 않고 LongAdder 셀에만 더해지며,
+ * {@link #flush()}가 셀별 증분을 모아 agree_count = agree_count + ? 형태의 배치 UPSERT로 반영한다.
+ * 존재하지 않는 법안은 셀을 만들 때 거절하고, 배치가 실패하면 법안별로 나눠 반영해 한 법안의 오류가 다른 법안의 반영을 막지 않는다.
+ * 모두 반영된 뒤 한 주기 동안 새 투표가 없는 셀은 제거해 맵이 투표된 적 있는 모든 법안으로 늘어나지 않게 한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VoteCounterService {
+
+    // votes 행이 없는 법안도 함께 처리되도록 UPSERT 사용 (VoteRepository의 원자적 증가와 동일한 방식)
+    private static final String FLUSH_SQL =
+            "INSERT INTO votes (bill_id, agree_count, disagree_count, total_count, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE agree_count = agree_count + VALUES(agree_count), " +
+            "disagree_count = disagree_count + VALUES(disagree_count), " +
+            "total_count = total_count + VALUES(total_count), updated_at = VALUES(updated_at)";
+
+    // 투표순 정렬용 비정규화 컬럼도 같은 트랜잭션에서 증가
+    // votes UPSERT보다 먼저 실행해 bills 행 배타 잠금을 먼저 잡는다 (외래 키 공유 잠금과의 교착 방지, BillService와 같은 순서)
+    private static final String BILL_TOTAL_SQL = "UPDATE bills SET vote_total = vote_total + ? WHERE id = ?";
+
+    private final VoteRepository voteRepository;
+    private final BillRepository billRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${vote.counter.max-pending:500}")
+    private long maxPending; // 미반영 투표가 이 값을 넘으면 주기와 무관하게 즉시 반영 (내구성 창)
+
+    private final Map<Long, Cell> cells = new ConcurrentHashMap<>();
+    private final LongAdder pendingTotal = new LongAdder();
+    private final AtomicBoolean flushing = new AtomicBoolean(false);
+
+    public Vote addAgree(Long billId, int n) {
+        return add(billId, n, true);
+    }
+
+    public Vote addDisagree(Long billId, int n) {
+        return add(billId, n, false);
+    }
+
+    /**
+     * 누적된 증분을 배치 UPSERT로 반영
+     * 동시에 여러 번 호출되더라도 한 번에 하나의 flush만 수행된다.
+     */
+    public void flush() {
+        if (!flushing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            List<Pending> batch = new ArrayList<>();
+            for (Map.Entry<Long, Cell> entry : cells.entrySet()) {
+                Cell cell = entry.getValue();
+                long agreeSnapshot = cell.agreeAdded.sum();
+                long disagreeSnapshot = cell.disagreeAdded.sum();
+                long agreeDelta = agreeSnapshot - cell.agreeFlushed.get();
+                long disagreeDelta = disagreeSnapshot - cell.disagreeFlushed.get();
+                if (agreeDelta == 0 && disagreeDelta == 0) {
+                    // 지난 flush 이후 새 투표가 없는 셀은 제거 (다음 투표 때 DB의 반영된 값으로 다시 불러옴)
+                    cells.computeIfPresent(entry.getKey(), (id, current) -> current == cell && cell.isIdle() ? null : current);
+                    continue;
+                }
+                batch.add(new Pending(entry.getKey(), cell, agreeSnapshot, disagreeSnapshot, agreeDelta, disagreeDelta));
+            }
+
+            if (batch.isEmpty()) return;
+            // 여러 법안 행을 잠그므로 항상 id 순으로 잠가 다른 트랜잭션과 잠금 순서를 맞춤
+            batch.sort(Comparator.comparing(Pending::billId));
+
+            try {
+                write(batch);
+                batch.forEach(this::markFlushed);
+                log.debug("투표 카운터 반영 완료: {}개 법안", batch.size());
+            } catch (Exception e) {
+                // 배치 전체가 롤백되므로 법안별로 나눠 다시 반영
+                log.warn("투표 카운터 일괄 반영 실패, 법안별로 재시도: {}", e.getMessage());
+                batch.forEach(this::flushOne);
+            }
+        } finally {
+            flushing.set(false);
+        }
+    }
+
+    public long getPendingCount() {
+        return pendingTotal.sum();
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("종료 전 투표 카운터 반영: 미반영 {}건", getPendingCount());
+        flush();
+    }
+
+    private Vote add(Long billId, int n, boolean agree) {
+        int add = Math.max(0, n);
+        while (true) {
+            Cell cell = cellOf(billId);
+            if (add == 0) return cell.toVote(billId);
+            // 유휴 셀 제거와 겹치지 않도록 맵 잠금 안에서 더함 (그 사이 제거된 셀이면 다시 불러와 재시도)
+            if (cells.computeIfPresent(billId, (id, current) -> current == cell ? cell.add(agree, add) : current) == cell) {
+                afterAdd(add);
+                return cell.toVote(billId);
+            }
+        }
+    }
+
+    private void afterAdd(int add) {
+        pendingTotal.add(add);
+        if (pendingTotal.sum() >= maxPending && !flushing.get()) {
+            Thread.startVirtualThread(this::flush);
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(batch.size());
+        List<Object[]> billTotalArgs = new ArrayList<>(batch.size());
+        for (Pending p : batch) {
+            long total = p.agreeDelta() + p.disagreeDelta();
+            batchArgs.add(new Object[]{p.billId(), p.agreeDelta(), p.disagreeDelta(), total, now, now});
+            billTotalArgs.add(new Object[]{total, p.billId()});
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(BILL_TOTAL_SQL, billTotalArgs);
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs);
+        });
+    }
+
+    private void flushOne(Pending pending) {
+        try {
+            write(List.of(pending));
+            markFlushed(pending);
+        } catch (DataIntegrityViolationException e) {
+            // 셀 생성 이후 법안이 삭제된 경우: 재시도해도 계속 실패하므로 셀을 버림
+            log.warn("투표 카운터 반영 불가, 법안 {} 셀 제거: {}", pending.billId(), e.getMessage());
+            evict(pending.billId(), pending.cell());
+        } catch (Exception e) {
+            // 일시적 오류는 증분을 그대로 두고 다음 주기에 재시도
+            log.error("투표 카운터 반영 실패: 법안 {}: {}", pending.billId(), e.getMessage(), e);
+        }
+    }
+
+    private void markFlushed(Pending pending) {
+        pending.cell().agreeFlushed.set(pending.agreeSnapshot());
+        pending.cell().disagreeFlushed.set(pending.disagreeSnapshot());
+        pendingTotal.add(-(pending.agreeDelta() + pending.disagreeDelta()));
+    }
+
+    private void evict(Long billId, Cell cell) {
+        if (!cells.remove(billId, cell)) return;
+        long unflushed = cell.agreeAdded.sum() - cell.agreeFlushed.get()
+                + cell.disagreeAdded.sum() - cell.disagreeFlushed.get();
+        pendingTotal.add(-unflushed);
+    }
+
+    private Cell cellOf(Long billId) {
+        Cell cell = cells.get(billId);
+        if (cell != null) return cell;
+
+        // DB 조회는 맵 잠금 밖에서 수행하고, 동시에 만들어진 셀이 있으면 먼저 등록된 쪽을 사용
+        Cell loaded = load(billId);
+        Cell existing = cells.putIfAbsent(billId, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    /**
+     * 최초 접근 시 DB의 현재 값을 기준값으로 사용
+     */
+    private Cell load(Long billId) {
+        Vote current = voteRepository.findById(billId).orElse(null);
+        if (current == null && !billRepository.existsById(billId)) {
+            throw new NoSuchElementException("존재하지 않는 법안: " + billId);
+        }
+        long agree = current != null ? current.getAgreeCount() : 0;
+        long disagree = current != null ? current.getDisagreeCount() : 0;
+        return new Cell(agree, disagree);
+    }
+
+    /**
+     * flush 시점의 셀별 누적값 스냅샷과 반영할 증분
+     */
+    private record Pending(Long billId, Cell cell, long agreeSnapshot, long disagreeSnapshot,
+                           long agreeDelta, long disagreeDelta) {
+    }
+
+    /**
+     * 법안 하나의 카운터 셀
+     * 표시값 = 기준값 + 누적값, 미반영분 = 누적값 - 반영된 누적값
+     */
+    private static class Cell {
+        private final long agreeBase;
+        private final long disagreeBase;
+        private final LongAdder agreeAdded = new LongAdder();
+        private final LongAdder disagreeAdded = new LongAdder();
+        private final AtomicLong agreeFlushed = new AtomicLong();
+        private final AtomicLong disagreeFlushed = new AtomicLong();
+
+        private Cell(long agreeBase, long disagreeBase) {
+            this.agreeBase = agreeBase;
+            this.disagreeBase = disagreeBase;
+        }
+
+        private Cell add(boolean agree, int n) {
+            (agree ? agreeAdded : disagreeAdded).add(n);
+            return this;
+        }
+
+        private boolean isIdle() {
+            return agreeAdded.sum() == agreeFlushed.get() && disagreeAdded.sum() == disagreeFlushed.get();
+        }
+
+        private Vote toVote(Long billId) {
+            // 엔티티 컬럼이 int이므로 넘치면 잘못된 값 대신 예외
+            int agree = Math.toIntExact(agreeBase + agreeAdded.sum());
+            int disagree = Math.toIntExact(disagreeBase + disagreeAdded.sum());
+            return Vote.builder()
+                    .billId(billId)
+                    .agreeCount(agree)
+                    .disagreeCount(disagree)
+                    .totalCount(Math.addExact(agree, disagree))
+                    .build();
+        }
+    }
+}
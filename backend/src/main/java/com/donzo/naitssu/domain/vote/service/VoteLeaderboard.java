@@ -0,0 +1,179 @@
+package com.donzo.naitssu.domain.vote.service;
+
+import com.donzo.naitssu.domain.bill.entity.Bill;
+import com.donzo.naitssu.domain.bill.repository.BillRepository;
+import com.donzo.naitssu.domain.vote.entity.Vote;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 투표 수 기준 법안 순위를 메모리에 유지하는 리더보드
+ *
+ * 기동 시 DB에서 한 번 구성한 뒤 투표 경로에서 증분 갱신하며,
+ * 전체/태그별 정렬 집합(skip list)을 앞에서부터 N개 읽어 상위 N개를 DB 조회 없이 반환한다.
+ * 법안 엔티티는 처음 노출될 때 한 번만 읽어 캐시한다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class VoteLeaderboard {
+
+    // 총 투표 수 내림차순, 같으면 최신(id 큰) 법안 우선 - findAllOrderByVotesDesc와 같은 순서
+    private static final Comparator<Rank> ORDER = Comparator.comparingInt(Rank::total).reversed()
+            .thenComparing(Comparator.comparingLong(Rank::billId).reversed());
+
+    private final BillRepository billRepository;
+
+    private final NavigableSet<Rank> overall = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<String, NavigableSet<Rank>> byTag = new ConcurrentHashMap<>();
+    private final Map<Long, Standing> standings = new ConcurrentHashMap<>();
+    private final Map<Long, Bill> billCache = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<Object[]> rows = billRepository.findAllVoteStandings();
+        for (Object[] row : rows) {
+            Long billId = ((Number) row[0]).longValue();
+            String tag = (String) row[1];
+            int agree = ((Number) row[2]).intValue();
+            int disagree = ((Number) row[3]).intValue();
+            apply(billId, tag, agree, disagree, true);
+        }
+        ready = true;
+        log.info("투표 리더보드 구성 완료: 법안 {}개", standings.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 새 법안 등록 또는 법안 정보 변경 반영 (캐시된 엔티티 교체)
+     */
+    public void register(Bill bill) {
+        billCache.remove(bill.getId());
+        Standing current = standings.get(bill.getId());
+        int agree = current != null ? current.agree() : 0;
+        int disagree = current != null ? current.disagree() : 0;
+        apply(bill.getId(), bill.getTag(), agree, disagree, true);
+    }
+
+    /**
+     * 투표 반영 후 최신 누적 값으로 순위 갱신
+     * 투표 수는 증가만 하므로 동시 요청 중 더 작은(오래된) 값은 무시한다.
+     */
+    public void update(Vote vote) {
+        if (vote == null || vote.getBillId() == null) return;
+        apply(vote.getBillId(), null, vote.getAgreeCount(), vote.getDisagreeCount(), false);
+    }
+
+    /**
+     * 상위 N개 법안과 투표 수 (tag가 null이면 전체)
+     */
+    public List<RankedBill> top(String tag, int n) {
+        NavigableSet<Rank> ranks = tag == null ? overall : byTag.get(tag);
+        if (ranks == null || n <= 0) return List.of();
+
+        // 갱신 중에는 같은 법안의 이전/새 순위가 잠시 함께 보일 수 있어 id로 중복 제거
+        List<Standing> selected = new ArrayList<>(Math.min(n, ranks.size()));
+        Set<Long> seen = new HashSet<>();
+        Iterator<Rank> iterator = ranks.iterator();
+        while (iterator.hasNext() && selected.size() < n) {
+            long billId = iterator.next().billId();
+            Standing standing = standings.get(billId);
+            if (standing != null && seen.add(billId)) selected.add(standing);
+        }
+
+        loadMissingBills(selected);
+
+        List<RankedBill> result = new ArrayList<>(selected.size());
+        for (Standing standing : selected) {
+            Bill bill = billCache.get(standing.billId());
+            if (bill == null) continue; // 삭제된 법안
+            result.add(new RankedBill(bill, standing.toVote()));
+        }
+        return result;
+    }
+
+    /**
+     * 순위 반영 (replaceTag면 태그도 교체)
+     * 재구성/등록 시에도 투표 수는 더 큰 값만 반영해, 재구성 중에 들어온 투표가 이전 스냅샷으로 덮이지 않게 한다.
+     */
+    private void apply(Long billId, String tag, int agree, int disagree, boolean replaceTag) {
+        standings.compute(billId, (id, old) -> {
+            String newTag = replaceTag || old == null ? tag : old.tag();
+            boolean newer = old == null || agree + disagree > old.total();
+            if (!newer && Objects.equals(newTag, old.tag())) {
+                return old;
+            }
+            return newer
+                    ? reindex(old, new Standing(id, newTag, agree, disagree))
+                    : reindex(old, new Standing(id, newTag, old.agree(), old.disagree()));
+        });
+    }
+
+    // standings.compute 안에서만 호출 (같은 법안의 순위 교체가 겹치지 않도록)
+    private Standing reindex(Standing old, Standing next) {
+        if (old != null) {
+            overall.remove(old.rank());
+            if (old.tag() != null) {
+                NavigableSet<Rank> oldTagRanks = byTag.get(old.tag());
+                if (oldTagRanks != null) oldTagRanks.remove(old.rank());
+            }
+        }
+        overall.add(next.rank());
+        if (next.tag() != null) {
+            byTag.computeIfAbsent(next.tag(), key -> new ConcurrentSkipListSet<>(ORDER)).add(next.rank());
+        }
+        return next;
+    }
+
+    private void loadMissingBills(List<Standing> selected) {
+        List<Long> missing = selected.stream()
+                .map(Standing::billId)
+                .filter(id -> !billCache.containsKey(id))
+                .toList();
+        if (missing.isEmpty()) return;
+        billRepository.findAllById(missing).forEach(bill -> billCache.put(bill.getId(), bill));
+    }
+
+    private record Rank(int total, long billId) {
+    }
+
+    private record Standing(long billId, String tag, int agree, int disagree) {
+        int total() {
+            return agree + disagree;
+        }
+
+        Rank rank() {
+            return new Rank(total(), billId);
+        }
+
+        Vote toVote() {
+            return Vote.builder()
+                    .billId(billId)
+                    .agreeCount(agree)
+                    .disagreeCount(disagree)
+                    .build();
+        }
+    }
+
+    public record RankedBill(Bill bill, Vote vote) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.donzo.naitssu.global.cache;
+
+import com.donzo.naitssu.global.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "llm_response_cache",
+       indexes = @Index(name = "idx_llm_cache_expires_at", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LlmCacheEntry extends BaseEntity {
+
+    @Column(name = "cache_key", nullable = false, unique = true, length = 64)
+    private String cacheKey; // (모델, 시스템 프롬프트, 사용자 프롬프트, temperature)의 SHA-256
+
+    @Column(name = "model", length = 50)
+    private String model;
+
+    @Column(name = "response", nullable = false, columnDefinition = "TEXT")
+    private String response;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Builder
+    public LlmCacheEntry(String cacheKey, String model, String response, LocalDateTime expiresAt) {
+        this.cacheKey = cacheKey;
+        this.model = model;
+        this.response = response;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isExpired() {
+        return expiresAt.isBefore(LocalDateTime.now());
+    }
+
+    public void refresh(String response, LocalDateTime expiresAt) {
+        this.response = response;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,27 @@
+package com.donzo.naitssu.global.cache;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface LlmCacheEntryRepository extends JpaRepository<LlmCacheEntry, Long> {
+
+    Optional<LlmCacheEntry> findByCacheKey(String cacheKey);
+
+    @Transactional
+    @Modifying
+    @Query("delete from LlmCacheEntry e where e.expiresAt < :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from LlmCacheEntry e where e.cacheKey = :cacheKey")
+    int deleteByCacheKey(@Param("cacheKey") String cacheKey);
+}
@@ -0,0 +1,227 @@
+package com.donzo.naitssu.global.cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 입력 내용 기반(content-addressed) LLM 응답 캐시
+ *
+ * 키는 (모델, 시스템 프롬프트, 사용자 프롬프트, temperature)의 SHA-256 해시이며,
+ * 크기 제한이 있는 메모리 LRU 계층과 TTL이 있는 DB 계층(llm_response_cache)으로 구성된다.
+ * 재동기화나 재시도 시 입력이 동일하면 LLM을 다시 호출하지 않는다.
+ * 호출 측 검증(파싱 등)을 통과한 응답만 저장하므로 잘못된 응답 하나가 TTL 동안 굳어지지 않는다.
+ * 계층별 적중/미스 수와 적중률은 /api/metrics/llm-cache 로 조회할 수 있다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LlmResponseCache {
+
+    private final LlmCacheEntryRepository cacheEntryRepository;
+
+    @Value("${llm.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${llm.cache.memory-max-entries:500}")
+    private int memoryMaxEntries;
+
+    @Value("${llm.cache.ttl-hours:720}")
+    private long ttlHours;
+
+    private final Map<String, MemoryEntry> memory = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, MemoryEntry> eldest) {
+            return size() > memoryMaxEntries;
+        }
+    };
+
+    private final AtomicLong memoryHits = new AtomicLong();
+    private final AtomicLong dbHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong storeFailures = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * 캐시에 있으면 저장된 응답을, 없으면 compute 결과를 캐시에 저장 후 반환
+     * 비어있는 응답(호출 실패 등)은 캐시하지 않는다.
+     */
+    public Mono<String> getOrCompute(String model, String systemPrompt, String userPrompt, Double temperature,
+                                     Supplier<Mono<String>> compute) {
+        return getOrCompute(model, systemPrompt, userPrompt, temperature, compute, response -> true);
+    }
+
+    /**
+     * 캐시에 있으면 저장된 응답을, 없으면 compute 결과를 캐시에 저장 후 반환
+     * valid를 통과하지 못한 응답(호출 측 파싱 실패 등)은 저장하지 않고 그대로 반환해 호출 측이 실패로 처리하게 하며,
+     * 이미 저장된 응답이 통과하지 못하면 지우고 다시 계산한다.
+     */
+    public Mono<String> getOrCompute(String model, String systemPrompt, String userPrompt, Double temperature,
+                                     Supplier<Mono<String>> compute, Predicate<String> valid) {
+        if (!enabled) {
+            return compute.get();
+        }
+        String key = cacheKey(model, systemPrompt, userPrompt, temperature);
+        Predicate<String> cacheable = response -> response != null && !response.isBlank() && valid.test(response);
+
+        String cached = getFromMemory(key);
+        if (cached != null) {
+            if (cacheable.test(cached)) {
+                memoryHits.incrementAndGet();
+                return Mono.just(cached);
+            }
+            removeFromMemory(key); // DB 항목은 아래 조회에서 함께 제거
+        }
+
+        return Mono.fromCallable(() -> cacheEntryRepository.findByCacheKey(key)
+                        .filter(entry -> !entry.isExpired())
+                        .map(LlmCacheEntry::getResponse))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(found -> {
+                    if (found.isPresent()) {
+                        if (cacheable.test(found.get())) {
+                            dbHits.incrementAndGet();
+                            putInMemory(key, found.get());
+                            return Mono.just(found.get());
+                        }
+                        evict(key);
+                    }
+                    misses.incrementAndGet();
+                    return compute.get()
+                            .flatMap(response -> {
+                                if (cacheable.test(response)) {
+                                    return store(key, model, response).thenReturn(response);
+                                }
+                                rejected.incrementAndGet();
+                                return Mono.just(response);
+                            });
+                });
+    }
+
+    /**
+     * 계층별 적중/미스 수, 적중률(%), 메모리 계층 크기, DB 저장 실패 수
+     */
+    public Map<String, Object> snapshot() {
+        long memory = memoryHits.get();
+        long db = dbHits.get();
+        long miss = misses.get();
+        long lookups = memory + db + miss;
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("enabled", enabled);
+        snapshot.put("memoryHits", memory);
+        snapshot.put("dbHits", db);
+        snapshot.put("misses", miss);
+        snapshot.put("hitRate", lookups == 0 ? 0 : (memory + db) * 100 / lookups);
+        snapshot.put("memoryEntries", memorySize());
+        snapshot.put("memoryMaxEntries", memoryMaxEntries);
+        snapshot.put("storeFailures", storeFailures.get());
+        snapshot.put("rejected", rejected.get());
+        return snapshot;
+    }
+
+    @Scheduled(fixedDelayString = "${llm.cache.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        if (!enabled) return;
+        int deleted = cacheEntryRepository.deleteExpired(LocalDateTime.now());
+        log.info("LLM 캐시 정리: 만료 {}건 삭제, 통계={}", deleted, snapshot());
+    }
+
+    private Mono<Void> store(String key, String model, String response) {
+        putInMemory(key, response);
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(ttlHours);
+        return Mono.fromRunnable(() -> {
+                    try {
+                        LlmCacheEntry entry = cacheEntryRepository.findByCacheKey(key)
+                                .orElseGet(() -> LlmCacheEntry.builder()
+                                        .cacheKey(key)
+                                        .model(model)
+                                        .response(response)
+                                        .expiresAt(expiresAt)
+                                        .build());
+                        entry.refresh(response, expiresAt);
+                        cacheEntryRepository.save(entry);
+                    } catch (Exception e) {
+                        // 동시 저장 등으로 실패해도 응답 자체는 정상 반환
+                        storeFailures.incrementAndGet();
+                        log.warn("LLM 캐시 저장 실패: {}", e.getMessage());
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    /**
+     * 검증을 통과하지 못한 저장 항목 제거 (다음 호출이 다시 계산하도록)
+     */
+    private void evict(String key) {
+        removeFromMemory(key);
+        try {
+            cacheEntryRepository.deleteByCacheKey(key);
+        } catch (Exception e) {
+            log.warn("LLM 캐시 항목 삭제 실패: {}", e.getMessage());
+        }
+        log.info("검증에 실패한 LLM 캐시 항목 제거: {}", key);
+    }
+
+    private String getFromMemory(String key) {
+        synchronized (memory) {
+            MemoryEntry entry = memory.get(key);
+            if (entry == null) return null;
+            if (entry.expiresAt.isBefore(LocalDateTime.now())) {
+                memory.remove(key);
+                return null;
+            }
+            return entry.response;
+        }
+    }
+
+    private void removeFromMemory(String key) {
+        synchronized (memory) {
+            memory.remove(key);
+        }
+    }
+
+    private int memorySize() {
+        synchronized (memory) {
+            return memory.size();
+        }
+    }
+
+    private void putInMemory(String key, String response) {
+        synchronized (memory) {
+            memory.put(key, new MemoryEntry(response, LocalDateTime.now().plusHours(ttlHours)));
+        }
+    }
+
+    static String cacheKey(String model, String systemPrompt, String userPrompt, Double temperature) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            // 구분자를 넣어 필드 경계가 섞이지 않도록 함
+            for (String part : new String[]{model, systemPrompt, userPrompt, String.valueOf(temperature)}) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record MemoryEntry(String response, LocalDateTime expiresAt) {
+    }
+}
@@ -1,16 +1,94 @@
 package com.donzo.naitssu.global.config;
 
+import com.donzo.naitssu.global.http.HttpPoolMetrics;
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 외부 API별 WebClient 프로필
+ *
+ * 트래픽 성격이 다른 호출(국회 API JSON, PDF 다운로드, Upstage 채팅/스트리밍/문서 파싱)이 커넥션 풀을 나눠 쓰도록
+ * 프로필마다 별도 ConnectionProvider와 타임아웃, 압축, 메모리 버퍼 한도를 둔다. 느린 PDF 다운로드가 풀을 점유해도
+ * 챗봇 스트림은 영향을 받지 않는다. 값은 WebClientProperties(webclient.{프로필}.*)에서 읽는다.
+ */
 @Configuration
-public class WebClientConfig {
+@EnableConfigurationProperties(WebClientProperties.class)
+@RequiredArgsConstructor
+@Slf4j
+public class WebClientConfig implements DisposableBean {
+
+    private final WebClientProperties properties;
+    private final HttpPoolMetrics httpPoolMetrics;
+    private final List<ConnectionProvider> providers = new CopyOnWriteArrayList<>();
+
+    @Bean
+    public WebClient assemblyWebClient() {
+        return build("assembly", properties.assembly());
+    }
+
+    @Bean
+    public WebClient pdfWebClient() {
+        return build("pdf", properties.pdf());
+    }
+
+    @Bean
+    public WebClient upstageChatWebClient() {
+        return build("upstage-chat", properties.upstageChat());
+    }
 
     @Bean
-    public WebClient webClient() {
+    public WebClient upstageStreamWebClient() {
+        return build("upstage-stream", properties.upstageStream());
+    }
+
+    @Bean
+    public WebClient upstageParseWebClient() {
+        return build("upstage-parse", properties.upstageParse());
+    }
+
+    @Override
+    public void destroy() {
+        providers.forEach(ConnectionProvider::dispose);
+    }
+
+    private WebClient build(String name, WebClientProperties.Profile profile) {
+        if (profile == null) {
+            throw new IllegalStateException("WebClient 프로필 설정 없음: webclient." + name + ".*");
+        }
+
+        ConnectionProvider provider = ConnectionProvider.builder(name)
+                .maxConnections(profile.maxConnections())
+                .pendingAcquireMaxCount(profile.maxConnections() * 4)
+                .pendingAcquireTimeout(Duration.ofMillis(profile.connectTimeoutMs() + profile.responseTimeoutMs()))
+                .maxIdleTime(Duration.ofMillis(profile.maxIdleMs()))
+                .maxLifeTime(Duration.ofMillis(profile.maxLifeMs()))
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true, () -> httpPoolMetrics)
+                .build();
+        providers.add(provider);
+
+        HttpClient httpClient = HttpClient.create(provider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, profile.connectTimeoutMs())
+                .responseTimeout(Duration.ofMillis(profile.responseTimeoutMs()))
+                .compress(profile.compress());
+
+        log.info("WebClient 프로필 {}: {}", name, profile);
         return WebClient.builder()
-                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(50 * 1024 * 1024)) // 50MB로 증가
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(profile.maxInMemoryKb() * 1024))
                 .build();
     }
 }
@@ -0,0 +1,32 @@
+package com.donzo.naitssu.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * WebClient 프로필 설정 (webclient.{프로필}.*)
+ *
+ * 값은 application.properties 한 곳에서만 정하고 코드에는 기본값을 두지 않는다.
+ * 프로필이 빠졌거나 값이 잘못되면 애플리케이션 시작 시 실패한다.
+ */
+@ConfigurationProperties(prefix = "webclient")
+public record WebClientProperties(Profile assembly,
+                                  Profile pdf,
+                                  Profile upstageChat,
+                                  Profile upstageStream,
+                                  Profile upstageParse) {
+
+    /**
+     * @param responseTimeoutMs 응답을 읽는 동안 데이터 없이 지날 수 있는 최대 시간 (스트림 전체 길이 제한 아님)
+     * @param maxLifeMs         커넥션 최대 수명 (사용 중인 커넥션은 반납될 때 닫음)
+     */
+    public record Profile(int maxConnections, int connectTimeoutMs, long responseTimeoutMs,
+                          long maxIdleMs, long maxLifeMs, int maxInMemoryKb, boolean compress) {
+
+        public Profile {
+            if (maxConnections <= 0 || connectTimeoutMs <= 0 || responseTimeoutMs <= 0
+                    || maxIdleMs <= 0 || maxLifeMs <= 0 || maxInMemoryKb <= 0) {
+                throw new IllegalArgumentException("WebClient 프로필 설정은 모두 0보다 커야 함: " + this);
+            }
+        }
+    }
+}
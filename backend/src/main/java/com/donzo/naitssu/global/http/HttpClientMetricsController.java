@@ -0,0 +1,48 @@
+package com.donzo.naitssu.global.http;
+
+import com.donzo.naitssu.global.cache.LlmResponseCache;
+import com.donzo.naitssu.global.resilience.ResilienceRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/metrics")
+@RequiredArgsConstructor
+public class HttpClientMetricsController {
+
+    private final HttpPoolMetrics httpPoolMetrics;
+    private final ResilienceRegistry resilienceRegistry;
+    private final LlmResponseCache llmResponseCache;
+
+    /**
+     * 외부 API 클라이언트 프로필별 커넥션 풀 상태 (사용 중/유휴/획득 대기)
+     * GET /api/metrics/http-clients
+     */
+    @GetMapping("/http-clients")
+    public ResponseEntity<Map<String, Object>> getHttpClientMetrics() {
+        return ResponseEntity.ok(httpPoolMetrics.snapshot());
+    }
+
+    /**
+     * 외부 의존성별 서킷 상태와 실패율, 동시 호출 수, 거절 횟수
+     * GET /api/metrics/circuit-breakers
+     */
+    @GetMapping("/circuit-breakers")
+    public ResponseEntity<Map<String, Object>> getCircuitBreakerMetrics() {
+        return ResponseEntity.ok(resilienceRegistry.snapshot());
+    }
+
+    /**
+     * LLM 응답 캐시 계층별 적중/미스 수와 적중률
+     * GET /api/metrics/llm-cache
+     */
+    @GetMapping("/llm-cache")
+    public ResponseEntity<Map<String, Object>> getLlmCacheMetrics() {
+        return ResponseEntity.ok(llmResponseCache.snapshot());
+    }
+}
@@ -0,0 +1,69 @@
+package com.donzo.naitssu.global.http;
+
+import org.springframework.stereotype.Component;
+import reactor.netty.resources.ConnectionPoolMetrics;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * WebClient 커넥션 풀 지표 수집 (Micrometer 없이 Reactor Netty 풀 상태를 직접 조회)
+ *
+ * 프로필별 ConnectionProvider가 원격 주소마다 만드는 풀을 등록받아, 조회 시점의 사용 중/유휴/대기 수를 합산한다.
+ */
+@Component
+public class HttpPoolMetrics implements ConnectionProvider.MeterRegistrar {
+
+    private final Map<String, Registered> pools = new ConcurrentHashMap<>();
+
+    @Override
+    public void registerMetrics(String poolName, String id, SocketAddress remoteAddress, ConnectionPoolMetrics metrics) {
+        pools.put(key(poolName, id, remoteAddress), new Registered(poolName, remoteAddress.toString(), metrics));
+    }
+
+    @Override
+    public void deRegisterMetrics(String poolName, String id, SocketAddress remoteAddress) {
+        pools.remove(key(poolName, id, remoteAddress));
+    }
+
+    /**
+     * 프로필별 풀 상태 (원격 주소별 상세 포함)
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Map<String, Object>> byProfile = new TreeMap<>();
+        for (Registered pool : pools.values()) {
+            ConnectionPoolMetrics metrics = pool.metrics();
+            Map<String, Object> profile = byProfile.computeIfAbsent(pool.poolName(), name -> {
+                Map<String, Object> summary = new LinkedHashMap<>();
+                summary.put("acquired", 0);
+                summary.put("idle", 0);
+                summary.put("pendingAcquire", 0);
+                summary.put("maxConnections", metrics.maxAllocatedSize());
+                summary.put("remotes", new TreeMap<String, Object>());
+                return summary;
+            });
+            profile.merge("acquired", metrics.acquiredSize(), (a, b) -> (int) a + (int) b);
+            profile.merge("idle", metrics.idleSize(), (a, b) -> (int) a + (int) b);
+            profile.merge("pendingAcquire", metrics.pendingAcquireSize(), (a, b) -> (int) a + (int) b);
+
+            @SuppressWarnings("unchecked")
+            Map<String, Object> remotes = (Map<String, Object>) profile.get("remotes");
+            remotes.put(pool.remoteAddress(), Map.of(
+                    "acquired", metrics.acquiredSize(),
+                    "idle", metrics.idleSize(),
+                    "pendingAcquire", metrics.pendingAcquireSize()));
+        }
+        return new LinkedHashMap<>(byProfile);
+    }
+
+    private static String key(String poolName, String id, SocketAddress remoteAddress) {
+        return poolName + "|" + id + "|" + remoteAddress;
+    }
+
+    private record Registered(String poolName, String remoteAddress, ConnectionPoolMetrics metrics) {
+    }
+}
@@ -0,0 +1,345 @@
+package com.donzo.naitssu.global.ratelimit;
+
+import com.donzo.naitssu.global.resilience.CircuitBreaker;
+import com.donzo.naitssu.global.resilience.DependencyUnavailableException;
+import com.donzo.naitssu.global.resilience.ResilienceRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.util.retry.Retry;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * 모든 Upstage 호출 앞단의 공용 속도 제한기
+ *
+ * 초당 요청 수 / 분당 토큰 수 토큰 버킷과 동시 요청 수 제한을 함께 적용한다.
+ * 동시 요청 슬롯은 우선순위별로 따로 두어 열린 챗봇 스트림이 배치 작업을 막거나 느린 배치 호출이 챗봇을 막지 않고,
+ * 버킷은 공유하되 챗봇(INTERACTIVE) 요청이 배치 요약(BATCH)보다 먼저 처리된다.
+ * 스트림은 첫 응답 조각을 받을 때까지만 슬롯을 잡고, 토큰 버킷은 호출 후 실제 사용량(없으면 추정치)으로 정산한다.
+ * 429 응답을 받으면 Retry-After(없으면 지수 백오프)만큼 전체 호출을 멈추고 속도를 낮춘 뒤 재시도한다.
+ * upstage 서킷 브레이커/벌크헤드 허가는 대기열을 통과한 뒤 실제 HTTP 호출 동안만 잡으므로,
+ * 대기 중인 배치 요청이 벌크헤드를 차지하지 않고 대기 시간이 서킷 통계에 섞이지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UpstageRateLimiter {
+
+    public enum Priority {
+        INTERACTIVE, // 사용자 대화 (챗봇)
+        BATCH        // 법안/회의 요약 등 백그라운드 작업
+    }
+
+    private static final long MAX_BACKOFF_MILLIS = 60_000;
+
+    @Value("${upstage.rate.requests-per-second:2}")
+    private double requestsPerSecond;
+
+    @Value("${upstage.rate.tokens-per-minute:100000}")
+    private long tokensPerMinute;
+
+    @Value("${upstage.rate.interactive-concurrency:4}")
+    private int interactiveConcurrency;
+
+    @Value("${upstage.rate.batch-concurrency:4}")
+    private int batchConcurrency;
+
+    @Value("${upstage.rate.max-retries:3}")
+    private int maxRetries;
+
+    private final ResilienceRegistry resilienceRegistry;
+
+    private final Deque<Waiter> interactiveQueue = new ArrayDeque<>();
+    private final Deque<Waiter> batchQueue = new ArrayDeque<>();
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "upstage-rate-limiter");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private CircuitBreaker circuitBreaker;
+    private TokenBucket requestBucket;
+    private TokenBucket tokenBucket;
+    private int interactiveInFlight;
+    private int batchInFlight;
+    private long pausedUntilNanos;
+    private int consecutiveThrottles;
+    private double rateFactor = 1.0; // 429 발생 시 감소, 성공 시 서서히 회복
+    private boolean drainScheduled;
+
+    @PostConstruct
+    void init() {
+        circuitBreaker = resilienceRegistry.get(ResilienceRegistry.UPSTAGE);
+        requestBucket = new TokenBucket(Math.max(1, requestsPerSecond), requestsPerSecond);
+        tokenBucket = new TokenBucket(tokensPerMinute, tokensPerMinute / 60.0);
+        log.info("Upstage 속도 제한 설정: {} req/s, {} tokens/min, 동시 챗봇 {}건 / 배치 {}건",
+                requestsPerSecond, tokensPerMinute, interactiveConcurrency, batchConcurrency);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        timer.shutdownNow();
+    }
+
+    /**
+     * 단건 응답 호출을 속도 제한 하에 실행 (토큰은 추정치로만 차감)
+     */
+    public <T> Mono<T> execute(Priority priority, long estimatedTokens, Supplier<Mono<T>> call) {
+        return execute(priority, estimatedTokens, call, response -> -1);
+    }
+
+    /**
+     * 단건 응답 호출을 속도 제한 하에 실행하고, 응답의 실제 토큰 사용량으로 토큰 버킷을 정산
+     *
+     * @param usedTokens 응답에서 실제 사용 토큰 수 추출 (알 수 없으면 음수)
+     */
+    public <T> Mono<T> execute(Priority priority, long estimatedTokens, Supplier<Mono<T>> call,
+                               ToLongFunction<? super T> usedTokens) {
+        // 서킷/벌크헤드 허가는 대기열을 통과한 뒤 실제 HTTP 호출에만 잡음 (재시도도 매번 대기열을 다시 거침)
+        return Mono.defer(() -> acquire(priority, estimatedTokens)
+                        .flatMap(permit -> circuitBreaker.executeOnce(call)
+                                .doOnNext(response -> settle(permit, usedTokens.applyAsLong(response)))
+                                .doFinally(signal -> release(permit))))
+                .doOnError(this::onFailure)
+                .retryWhen(throttleRetry())
+                .retryWhen(circuitBreaker.retry())
+                .doOnSuccess(value -> onSuccess());
+    }
+
+    /**
+     * 스트리밍 응답 호출을 속도 제한 하에 실행
+     * 동시 요청 슬롯은 첫 응답 조각을 받을 때까지만 잡는다 (이후 토큰을 기다리는 시간은 슬롯을 차지하지 않음).
+     * 스트림이 끝나면 프롬프트 토큰과 받은 조각별 토큰의 합으로 토큰 버킷을 정산한다.
+     *
+     * @param promptTokens  프롬프트 추정 토큰 수
+     * @param elementTokens 응답 조각 하나의 토큰 수
+     */
+    public <T> Flux<T> executeMany(Priority priority, long estimatedTokens, Supplier<Flux<T>> call,
+                                   long promptTokens, ToLongFunction<? super T> elementTokens) {
+        return Flux.defer(() -> acquire(priority, estimatedTokens)
+                        .flatMapMany(permit -> {
+                            AtomicBoolean received = new AtomicBoolean();
+                            AtomicLong outputTokens = new AtomicLong();
+                            return circuitBreaker.executeMany(call)
+                                    .doOnNext(element -> {
+                                        outputTokens.addAndGet(elementTokens.applyAsLong(element));
+                                        if (received.compareAndSet(false, true)) release(permit);
+                                    })
+                                    .doFinally(signal -> {
+                                        release(permit);
+                                        if (received.get()) settle(permit, promptTokens + outputTokens.get());
+                                    });
+                        }))
+                .doOnError(this::onFailure)
+                .retryWhen(throttleRetry())
+                .doOnComplete(this::onSuccess);
+    }
+
+    /**
+     * 프롬프트 길이 기반 토큰 추정 (한국어는 대략 2글자당 1토큰) + 응답 최대 토큰
+     */
+    public static long estimateTokens(int promptChars, int maxOutputTokens) {
+        return promptChars / 2L + Math.max(0, maxOutputTokens);
+    }
+
+    private Retry throttleRetry() {
+        return Retry.max(maxRetries)
+                .filter(UpstageRateLimiter::isThrottled)
+                .doBeforeRetry(signal -> log.warn("Upstage 429 응답, 재시도 {}회차", signal.totalRetries() + 1))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure()); // 429 그대로 전달해 일시적 오류 재시도와 겹치지 않게 함
+    }
+
+    private Mono<Waiter> acquire(Priority priority, long estimatedTokens) {
+        if (circuitBreaker.isOpen()) {
+            // 장애 중에는 대기열에 들어가지 않고 바로 실패 (대기 후 실제 호출 직전에도 서킷이 다시 판단)
+            return Mono.error(new DependencyUnavailableException(circuitBreaker.getName(), "서킷 열림"));
+        }
+        return Mono.create(sink -> {
+            Waiter waiter = new Waiter(sink, priority, Math.min(estimatedTokens, tokensPerMinute));
+            synchronized (this) {
+                (priority == Priority.INTERACTIVE ? interactiveQueue : batchQueue).addLast(waiter);
+            }
+            sink.onCancel(() -> {
+                synchronized (this) {
+                    interactiveQueue.remove(waiter);
+                    batchQueue.remove(waiter);
+                }
+                release(waiter); // 허가 직후 취소된 경우 슬롯 반환
+            });
+            drain();
+        });
+    }
+
+    private void release(Waiter waiter) {
+        synchronized (this) {
+            if (!waiter.granted || waiter.released) return;
+            waiter.released = true;
+            if (waiter.priority == Priority.INTERACTIVE) {
+                interactiveInFlight--;
+            } else {
+                batchInFlight--;
+            }
+        }
+        drain();
+    }
+
+    private void drain() {
+        while (true) {
+            Waiter next;
+            long waitNanos;
+            synchronized (this) {
+                // 챗봇 슬롯에 여유가 있으면 챗봇 대기열부터, 아니면 배치 대기열 (슬롯은 우선순위별로 따로 셈)
+                Deque<Waiter> queue;
+                if (!interactiveQueue.isEmpty() && interactiveInFlight < interactiveConcurrency) {
+                    queue = interactiveQueue;
+                } else if (!batchQueue.isEmpty() && batchInFlight < batchConcurrency) {
+                    queue = batchQueue;
+                } else {
+                    return;
+                }
+                next = queue.peekFirst();
+
+                long now = System.nanoTime();
+                waitNanos = Math.max(0, pausedUntilNanos - now);
+                if (waitNanos == 0) {
+                    waitNanos = Math.max(requestBucket.nanosUntil(1, rateFactor), tokenBucket.nanosUntil(next.tokens, rateFactor));
+                }
+                if (waitNanos == 0) {
+                    requestBucket.consume(1);
+                    tokenBucket.consume(next.tokens);
+                    queue.pollFirst();
+                    if (next.priority == Priority.INTERACTIVE) {
+                        interactiveInFlight++;
+                    } else {
+                        batchInFlight++;
+                    }
+                    next.granted = true;
+                } else {
+                    if (!drainScheduled) {
+                        drainScheduled = true;
+                        timer.schedule(() -> {
+                            synchronized (this) {
+                                drainScheduled = false;
+                            }
+                            drain();
+                        }, waitNanos, TimeUnit.NANOSECONDS);
+                    }
+                    return;
+                }
+            }
+            next.sink.success(next);
+        }
+    }
+
+    /**
+     * 허가 시 차감한 추정 토큰과 실제 사용량의 차이를 토큰 버킷에 반영 (사용량을 모르면 추정치 유지)
+     */
+    private void settle(Waiter permit, long usedTokens) {
+        if (usedTokens < 0) return;
+        long difference = Math.min(usedTokens, tokensPerMinute) - permit.tokens;
+        if (difference == 0) return;
+        synchronized (this) {
+            tokenBucket.consume(difference);
+        }
+        if (difference < 0) drain(); // 돌려받은 토큰으로 대기 중인 요청 처리
+    }
+
+    private void onFailure(Throwable error) {
+        if (!isThrottled(error)) return;
+        WebClientResponseException ex = (WebClientResponseException) error;
+        long backoffMillis = retryAfterMillis(ex);
+        synchronized (this) {
+            consecutiveThrottles++;
+            if (backoffMillis <= 0) {
+                backoffMillis = Math.min(MAX_BACKOFF_MILLIS, 1000L << Math.min(consecutiveThrottles - 1, 6));
+            }
+            pausedUntilNanos = Math.max(pausedUntilNanos, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMillis));
+            rateFactor = Math.max(0.1, rateFactor / 2);
+        }
+        log.warn("Upstage 호출 제한(429): {}ms 동안 호출 중지, 속도 계수 {}", backoffMillis, rateFactor);
+    }
+
+    private synchronized void onSuccess() {
+        consecutiveThrottles = 0;
+        rateFactor = Math.min(1.0, rateFactor + 0.05);
+    }
+
+    private static boolean isThrottled(Throwable error) {
+        return error instanceof WebClientResponseException ex && ex.getStatusCode().value() == 429;
+    }
+
+    private static long retryAfterMillis(WebClientResponseException ex) {
+        String retryAfter = ex.getHeaders().getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter == null) return -1;
+        try {
+            return (long) (Double.parseDouble(retryAfter.trim()) * 1000);
+        } catch (NumberFormatException e) {
+            return -1; // HTTP-date 형식은 지수 백오프로 대체
+        }
+    }
+
+    private static class Waiter {
+        private final MonoSink<Waiter> sink;
+        private final Priority priority;
+        private final long tokens;
+        private boolean granted;
+        private boolean released;
+
+        private Waiter(MonoSink<Waiter> sink, Priority priority, long tokens) {
+            this.sink = sink;
+            this.priority = priority;
+            this.tokens = tokens;
+        }
+    }
+
+    /**
+     * 단순 토큰 버킷 (호출 측에서 동기화)
+     */
+    private static class TokenBucket {
+        private final double capacity;
+        private final double refillPerSecond;
+        private double available;
+        private long lastRefillNanos = System.nanoTime();
+
+        private TokenBucket(double capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+            this.available = capacity;
+        }
+
+        private long nanosUntil(double amount, double rateFactor) {
+            refill(rateFactor);
+            if (available >= amount) return 0;
+            double rate = refillPerSecond * rateFactor;
+            return (long) ((amount - available) / rate * 1_000_000_000L) + 1;
+        }
+
+        // 음수면 반환 (정산 시 추정보다 적게 쓴 만큼, 버킷 크기를 넘지 않게)
+        private void consume(double amount) {
+            available = Math.min(capacity, available - amount);
+        }
+
+        private void refill(double rateFactor) {
+            long now = System.nanoTime();
+            available = Math.min(capacity, available + (now - lastRefillNanos) / 1_000_000_000.0 * refillPerSecond * rateFactor);
+            lastRefillNanos = now;
+        }
+    }
+}
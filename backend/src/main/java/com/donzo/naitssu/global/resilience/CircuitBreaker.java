@@ -0,0 +1,277 @@
+package com.donzo.naitssu.global.resilience;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 외부 의존성 하나에 대한 서킷 브레이커 + 벌크헤드 + 재시도 정책
+ *
+ * 최근 windowSize건 중 실패율이 임계값 이상이면 서킷을 열어 openDuration 동안 호출 없이 바로 실패시키고,
+ * 이후 halfOpenCalls건을 시험 호출해 모두 성공하면 다시 닫는다(하나라도 실패하면 다시 연다).
+ * 동시 호출 수는 벌크헤드로 제한하며 한도를 넘는 호출은 기다리지 않고 바로 거절한다.
+ * 일시적 오류(연결 실패, 타임아웃, 5xx)만 지터를 준 지수 백오프로 재시도하고, 거절된 호출은 재시도하지 않는다.
+ */
+@Slf4j
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    enum Outcome {
+        SUCCESS,
+        FAILURE,
+        IGNORED // 취소, 429처럼 의존성 장애로 판단하지 않는 경우
+    }
+
+    private static final long REJECTED_BY_CIRCUIT = -1;
+    private static final long REJECTED_BY_BULKHEAD = -2;
+
+    private final String name;
+    private final Settings settings;
+    private final Semaphore bulkhead;
+
+    // 최근 호출 결과 링 버퍼 (true = 실패)
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long generation; // 상태가 바뀔 때마다 증가, 이전 상태에서 시작된 호출 결과는 무시
+    private long openUntilNanos;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    private final AtomicLong rejectedByCircuit = new AtomicLong();
+    private final AtomicLong rejectedByBulkhead = new AtomicLong();
+    private final AtomicLong openedCount = new AtomicLong();
+
+    CircuitBreaker(String name, Settings settings) {
+        this.name = name;
+        this.settings = settings;
+        this.bulkhead = new Semaphore(Math.max(1, settings.maxConcurrentCalls()));
+        this.window = new boolean[Math.max(1, settings.windowSize())];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 단건 호출을 서킷/벌크헤드 보호 하에 실행하고 일시적 오류는 백오프 후 재시도
+     */
+    public <T> Mono<T> execute(Supplier<Mono<T>> call) {
+        return executeOnce(call).retryWhen(retry());
+    }
+
+    /**
+     * 단건 호출 한 번만 서킷/벌크헤드 보호 하에 실행 (재시도는 호출 측이 retry()로 바깥에서 적용)
+     * 호출 전 대기열이 따로 있는 경우 대기가 끝난 뒤 실제 호출에만 허가를 잡기 위해 사용한다.
+     */
+    public <T> Mono<T> executeOnce(Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            long permit = acquire();
+            if (permit < 0) return Mono.error(rejection(permit));
+            AtomicBoolean finished = new AtomicBoolean();
+            return Mono.defer(call)
+                    .doOnSuccess(value -> finish(permit, Outcome.SUCCESS, finished))
+                    .doOnError(error -> finish(permit, outcomeOf(error), finished))
+                    .doFinally(signal -> finish(permit, Outcome.IGNORED, finished));
+        });
+    }
+
+    /**
+     * 스트리밍 호출을 서킷/벌크헤드 보호 하에 실행 (이미 방출된 데이터가 중복되지 않도록 재시도하지 않음)
+     */
+    public <T> Flux<T> executeMany(Supplier<Flux<T>> call) {
+        return Flux.defer(() -> {
+            long permit = acquire();
+            if (permit < 0) return Flux.error(rejection(permit));
+            AtomicBoolean finished = new AtomicBoolean();
+            return Flux.defer(call)
+                    .doOnComplete(() -> finish(permit, Outcome.SUCCESS, finished))
+                    .doOnError(error -> finish(permit, outcomeOf(error), finished))
+                    .doFinally(signal -> finish(permit, Outcome.IGNORED, finished));
+        });
+    }
+
+    public synchronized boolean isOpen() {
+        return state == State.OPEN && System.nanoTime() - openUntilNanos < 0;
+    }
+
+    public synchronized Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("state", state.name());
+        snapshot.put("failureRate", windowCount == 0 ? 0 : windowFailures * 100 / windowCount);
+        snapshot.put("bufferedCalls", windowCount);
+        snapshot.put("activeCalls", Math.max(1, settings.maxConcurrentCalls()) - bulkhead.availablePermits());
+        snapshot.put("maxConcurrentCalls", settings.maxConcurrentCalls());
+        snapshot.put("rejectedByCircuit", rejectedByCircuit.get());
+        snapshot.put("rejectedByBulkhead", rejectedByBulkhead.get());
+        snapshot.put("openedCount", openedCount.get());
+        return snapshot;
+    }
+
+    /**
+     * 일시적 오류 재시도 정책 (서킷/벌크헤드 거절과 4xx는 재시도하지 않음)
+     */
+    public Retry retry() {
+        return Retry.backoff(settings.maxRetries(), settings.retryBackoff())
+                .maxBackoff(settings.retryMaxBackoff())
+                .jitter(0.5)
+                .filter(CircuitBreaker::isTransient)
+                .doBeforeRetry(signal -> log.warn("{} 호출 재시도 {}회차: {}",
+                        name, signal.totalRetries() + 1, signal.failure().getMessage()))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    /**
+     * 호출 허가 (허가 시 현재 세대, 거절 시 음수)
+     */
+    private long acquire() {
+        if (!bulkhead.tryAcquire()) {
+            rejectedByBulkhead.incrementAndGet();
+            return REJECTED_BY_BULKHEAD;
+        }
+        synchronized (this) {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openUntilNanos < 0) {
+                    bulkhead.release();
+                    rejectedByCircuit.incrementAndGet();
+                    return REJECTED_BY_CIRCUIT;
+                }
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (halfOpenInFlight + halfOpenSuccesses >= Math.max(1, settings.halfOpenCalls())) {
+                    bulkhead.release();
+                    rejectedByCircuit.incrementAndGet();
+                    return REJECTED_BY_CIRCUIT;
+                }
+                halfOpenInFlight++;
+            }
+            return generation;
+        }
+    }
+
+    /**
+     * 호출 결과 기록 후 벌크헤드 허가 반환 (한 번만)
+     * 종료 신호를 아래로 넘기기 전에 반환해야 호출 측이 결과를 받은 직전에 시작한 다음 호출이 거절되지 않는다.
+     */
+    private void finish(long permit, Outcome outcome, AtomicBoolean finished) {
+        if (!finished.compareAndSet(false, true)) return;
+        record(permit, outcome);
+        bulkhead.release();
+    }
+
+    private void record(long permit, Outcome outcome) {
+        synchronized (this) {
+            if (permit != generation) return;
+            if (state == State.HALF_OPEN) {
+                halfOpenInFlight--;
+                if (outcome == Outcome.FAILURE) {
+                    transitionTo(State.OPEN);
+                } else if (outcome == Outcome.SUCCESS && ++halfOpenSuccesses >= Math.max(1, settings.halfOpenCalls())) {
+                    transitionTo(State.CLOSED);
+                }
+            } else if (state == State.CLOSED && outcome != Outcome.IGNORED) {
+                push(outcome == Outcome.FAILURE);
+                if (windowCount >= settings.minimumCalls()
+                        && windowFailures * 100 >= settings.failureRateThreshold() * windowCount) {
+                    transitionTo(State.OPEN);
+                }
+            }
+        }
+    }
+
+    private void push(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) windowFailures--;
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) windowFailures++;
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        State previous = state;
+        state = next;
+        generation++;
+        halfOpenInFlight = 0;
+        halfOpenSuccesses = 0;
+        if (next == State.OPEN) {
+            openUntilNanos = System.nanoTime() + settings.openDuration().toNanos();
+            openedCount.incrementAndGet();
+            if (previous == State.HALF_OPEN) {
+                log.warn("{} 서킷 다시 열림: 시험 호출 실패, {}ms 동안 호출 차단", name, settings.openDuration().toMillis());
+            } else {
+                log.warn("{} 서킷 열림: 최근 {}건 중 실패 {}건, {}ms 동안 호출 차단",
+                        name, windowCount, windowFailures, settings.openDuration().toMillis());
+            }
+        } else {
+            log.info("{} 서킷 상태 변경: {} → {}", name, previous, next);
+        }
+        if (next == State.CLOSED) {
+            windowIndex = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+    }
+
+    private DependencyUnavailableException rejection(long permit) {
+        return new DependencyUnavailableException(name,
+                permit == REJECTED_BY_BULKHEAD ? "동시 호출 한도 초과" : "서킷 열림");
+    }
+
+    static Outcome outcomeOf(Throwable error) {
+        if (error instanceof DependencyUnavailableException) return Outcome.IGNORED;
+        if (error instanceof WebClientResponseException ex) {
+            // 429는 사용량 제한이므로 장애로 세지 않고 속도 제한기의 백오프에 맡김
+            if (ex.getStatusCode().value() == 429) return Outcome.IGNORED;
+            // 요청 자체가 잘못된 4xx는 의존성이 응답한 것이므로 장애로 보지 않음
+            return ex.getStatusCode().is5xxServerError() ? Outcome.FAILURE : Outcome.SUCCESS;
+        }
+        return Outcome.FAILURE; // 연결 실패, 타임아웃, 비정상 응답 등
+    }
+
+    /**
+     * 재시도할 오류인지 (5xx, 연결/읽기 I/O 오류, 타임아웃만 재시도하고 파싱 오류 등 나머지는 바로 전달)
+     */
+    static boolean isTransient(Throwable error) {
+        if (error instanceof DependencyUnavailableException) return false;
+        if (error instanceof WebClientResponseException ex) return ex.getStatusCode().is5xxServerError();
+        if (error instanceof WebClientRequestException) return true; // 요청 전송 중 연결 실패
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException || cause instanceof TimeoutException
+                    || cause instanceof io.netty.handler.timeout.TimeoutException) return true;
+        }
+        return false;
+    }
+
+    /**
+     * 의존성별 설정 (failureRateThreshold는 % 단위)
+     */
+    public record Settings(int windowSize, int minimumCalls, int failureRateThreshold, Duration openDuration,
+                           int halfOpenCalls, int maxConcurrentCalls,
+                           int maxRetries, Duration retryBackoff, Duration retryMaxBackoff) {
+    }
+}
@@ -0,0 +1,18 @@
+package com.donzo.naitssu.global.resilience;
+
+/**
+ * 서킷이 열려 있거나 동시 호출 한도를 넘어 외부 호출을 시도하지 않고 거절한 경우
+ */
+public class DependencyUnavailableException extends RuntimeException {
+
+    private final String dependency;
+
+    public DependencyUnavailableException(String dependency, String reason) {
+        super(dependency + " 호출 거절: " + reason);
+        this.dependency = dependency;
+    }
+
+    public String getDependency() {
+        return dependency;
+    }
+}
@@ -0,0 +1,53 @@
+package com.donzo.naitssu.global.resilience;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 외부 의존성별 서킷 브레이커 설정 (resilience.{의존성}.*)
+ *
+ * 값은 application.properties 한 곳에서만 정하고 코드에는 기본값을 두지 않는다.
+ * 의존성 설정이 빠졌거나 값이 잘못되면 애플리케이션 시작 시 실패한다.
+ */
+@ConfigurationProperties(prefix = "resilience")
+public record ResilienceProperties(Breaker assembly, Breaker upstage) {
+
+    public ResilienceProperties {
+        if (assembly == null || upstage == null) {
+            throw new IllegalArgumentException("resilience.assembly.*, resilience.upstage.* 설정이 필요함");
+        }
+    }
+
+    public Breaker of(String name) {
+        return switch (name) {
+            case ResilienceRegistry.ASSEMBLY -> assembly;
+            case ResilienceRegistry.UPSTAGE -> upstage;
+            default -> throw new IllegalArgumentException("서킷 브레이커 설정이 없는 의존성: " + name);
+        };
+    }
+
+    /**
+     * @param failureRateThreshold 서킷을 여는 실패율 (%)
+     * @param halfOpenCalls        반열림 상태에서 허용하는 시험 호출 수
+     * @param maxConcurrentCalls   벌크헤드 (동시에 진행할 수 있는 호출 수)
+     */
+    public record Breaker(int windowSize, int minimumCalls, int failureRateThreshold, long openDurationMs,
+                          int halfOpenCalls, int maxConcurrentCalls,
+                          int maxRetries, long retryBackoffMs, long retryMaxBackoffMs) {
+
+        public Breaker {
+            if (windowSize <= 0 || minimumCalls <= 0 || failureRateThreshold <= 0 || failureRateThreshold > 100
+                    || openDurationMs <= 0 || halfOpenCalls <= 0 || maxConcurrentCalls <= 0
+                    || maxRetries < 0 || retryBackoffMs <= 0 || retryMaxBackoffMs < retryBackoffMs) {
+                throw new IllegalArgumentException("서킷 브레이커 설정이 잘못됨: " + this);
+            }
+        }
+
+        public CircuitBreaker.Settings toSettings() {
+            return new CircuitBreaker.Settings(windowSize, minimumCalls, failureRateThreshold,
+                    Duration.ofMillis(openDurationMs), halfOpenCalls, maxConcurrentCalls,
+                    maxRetries, Duration.ofMillis(retryBackoffMs), Duration.ofMillis(retryMaxBackoffMs));
+        }
+    }
+}
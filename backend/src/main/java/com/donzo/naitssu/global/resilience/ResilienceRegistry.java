@@ -0,0 +1,52 @@
+package com.donzo.naitssu.global.resilience;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 외부 의존성별 서킷 브레이커 저장소
+ *
+ * 같은 의존성을 호출하는 모든 서비스가 하나의 서킷과 벌크헤드를 공유하므로, 장애가 감지되면
+ * 호출 측마다 따로 재시도하며 두드리지 않고 함께 빠르게 실패한다. 설정은 {@link ResilienceProperties}로 읽는다.
+ */
+@Component
+@EnableConfigurationProperties(ResilienceProperties.class)
+@RequiredArgsConstructor
+@Slf4j
+public class ResilienceRegistry {
+
+    public static final String ASSEMBLY = "assembly";
+    public static final String UPSTAGE = "upstage";
+
+    private final ResilienceProperties properties;
+    private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+    public CircuitBreaker get(String name) {
+        return breakers.computeIfAbsent(name, this::create);
+    }
+
+    /**
+     * 서킷이 열려 호출이 차단된 의존성이 있는지
+     */
+    public boolean anyOpen() {
+        return breakers.values().stream().anyMatch(CircuitBreaker::isOpen);
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new TreeMap<>();
+        breakers.forEach((name, breaker) -> snapshot.put(name, breaker.snapshot()));
+        return snapshot;
+    }
+
+    private CircuitBreaker create(String name) {
+        CircuitBreaker.Settings settings = properties.of(name).toSettings();
+        log.info("{} 서킷 브레이커 설정: {}", name, settings);
+        return new CircuitBreaker(name, settings);
+    }
+}
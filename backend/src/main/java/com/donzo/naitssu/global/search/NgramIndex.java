@@ -0,0 +1,368 @@
+package com.donzo.naitssu.global.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 한국어용 bigram 역색인 (메모리)
+ *
+ * 형태소 분석 없이 토큰을 2글자 단위로 잘라 색인하므로 조사가 붙은 어절("주택임대차법은")에서도
+ * 부분 검색이 된다. 질의의 모든 bigram을 포함한 문서(또는 문장형 질문이면 하나라도 포함한 문서)를
+ * 후보로 삼고, 필드 가중치를 반영한 BM25 점수로 정렬한다. 문서 단위로 교체/삭제할 수 있어 증분 갱신이 가능하다.
+ */
+public class NgramIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>(); // gram -> (문서 id -> 가중 빈도)
+    private final Map<Long, Doc> docs = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private long totalLength;
+
+    /**
+     * 문서 색인 (같은 id가 있으면 교체)
+     */
+    public void put(long id, String tag, List<Field> fields) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        for (Field field : fields) {
+            if (field.text() == null || field.text().isBlank()) continue;
+            for (String gram : grams(field.text())) {
+                frequencies.merge(gram, field.weight(), Integer::sum);
+                length += field.weight();
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), key -> new HashMap<>()).put(id, entry.getValue());
+            }
+            docs.put(id, new Doc(tag, length, frequencies.keySet()));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 순위 검색 (질의의 모든 bigram을 포함한 문서만)
+     *
+     * @param tag    null이 아니면 해당 태그 문서만
+     * @param offset 건너뛸 결과 수
+     * @param limit  반환할 결과 수
+     */
+    public Result search(String query, String tag, int offset, int limit) {
+        return rank(query, tag, offset, limit, true);
+    }
+
+    /**
+     * 순위 검색 (질의 bigram 중 하나라도 포함한 문서) - 문장형 질문처럼 모든 단어가 함께 나오기 어려운 경우
+     */
+    public Result searchAny(String query, int limit) {
+        return rank(query, null, 0, limit, false);
+    }
+
+    private Result rank(String query, String tag, int offset, int limit, boolean matchAll) {
+        Set<String> queryGrams = queryGrams(query);
+        if (queryGrams.isEmpty() || limit <= 0) return new Result(List.of(), 0);
+
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> lists = new ArrayList<>(queryGrams.size());
+            for (String gram : queryGrams) {
+                Map<Long, Integer> posting = postings.get(gram);
+                if (posting != null) {
+                    lists.add(posting);
+                } else if (matchAll) {
+                    return new Result(List.of(), 0);
+                }
+            }
+            if (lists.isEmpty()) return new Result(List.of(), 0);
+            lists.sort(Comparator.comparingInt(Map::size));
+
+            int docCount = docs.size();
+            double avgLength = docCount == 0 ? 1.0 : Math.max(1.0, (double) totalLength / docCount);
+            double[] idf = new double[lists.size()];
+            for (int i = 0; i < lists.size(); i++) {
+                int df = lists.get(i).size();
+                idf[i] = Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+            }
+
+            int keep = offset + limit;
+            // 가장 낮은 순위가 먼저 나오는 힙으로 상위 offset+limit개만 유지
+            PriorityQueue<Hit> top = new PriorityQueue<>(Comparator.comparingDouble(Hit::score)
+                    .thenComparingLong(Hit::id));
+            int total = 0;
+
+            if (matchAll) {
+                // 가장 짧은 posting의 문서만 후보로 삼고 나머지 posting에서 빈도를 조회
+                candidates:
+                for (Map.Entry<Long, Integer> entry : lists.get(0).entrySet()) {
+                    Doc doc = docs.get(entry.getKey());
+                    if (doc == null || (tag != null && !tag.equals(doc.tag()))) continue;
+
+                    double norm = norm(doc, avgLength);
+                    double score = bm25(idf[0], entry.getValue(), norm);
+                    for (int i = 1; i < lists.size(); i++) {
+                        Integer tf = lists.get(i).get(entry.getKey());
+                        if (tf == null) continue candidates;
+                        score += bm25(idf[i], tf, norm);
+                    }
+                    total++;
+                    offer(top, new Hit(entry.getKey(), score), keep);
+                }
+            } else {
+                // posting을 차례로 훑으며 문서별 점수를 누적 (후보 합집합을 따로 만들지 않음)
+                Map<Long, Double> scores = new HashMap<>();
+                for (int i = 0; i < lists.size(); i++) {
+                    for (Map.Entry<Long, Integer> entry : lists.get(i).entrySet()) {
+                        Doc doc = docs.get(entry.getKey());
+                        if (doc == null || (tag != null && !tag.equals(doc.tag()))) continue;
+                        scores.merge(entry.getKey(), bm25(idf[i], entry.getValue(), norm(doc, avgLength)), Double::sum);
+                    }
+                }
+                total = scores.size();
+                for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                    offer(top, new Hit(entry.getKey(), entry.getValue()), keep);
+                }
+            }
+
+            List<Hit> ranked = new ArrayList<>(top);
+            ranked.sort(Comparator.comparingDouble(Hit::score).thenComparingLong(Hit::id).reversed());
+            List<Hit> page = offset >= ranked.size() ? List.of() : ranked.subList(offset, ranked.size());
+            return new Result(List.copyOf(page), total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static double norm(Doc doc, double avgLength) {
+        return K1 * (1 - B + B * doc.length() / avgLength);
+    }
+
+    private static double bm25(double idf, int tf, double norm) {
+        return idf * (tf * (K1 + 1)) / (tf + norm);
+    }
+
+    private static void offer(PriorityQueue<Hit> top, Hit hit, int keep) {
+        top.offer(hit);
+        if (top.size() > keep) top.poll();
+    }
+
+    /**
+     * 질의어가 나타나는 부분을 &lt;em&gt;으로 감싼 발췌문 (일치하는 부분이 없으면 null)
+     * 원문은 HTML 이스케이프한다.
+     */
+    public static String highlight(String text, String query, int maxLength) {
+        if (text == null || text.isBlank() || query == null) return null;
+        List<String> terms = tokens(query);
+        if (terms.isEmpty()) return null;
+
+        // 색인과 같은 방식으로 정규화한 문자열에서 찾고, 일치 구간은 원문 위치로 되돌림
+        Normalized normalized = normalizeWithOffsets(text);
+        List<int[]> ranges = new ArrayList<>();
+        for (String term : terms) {
+            int from = 0;
+            int index;
+            while ((index = normalized.text().indexOf(term, from)) >= 0) {
+                int end = index + term.length();
+                ranges.add(new int[]{normalized.starts()[index], normalized.ends()[end - 1]});
+                from = end;
+            }
+        }
+        if (ranges.isEmpty()) return null;
+        ranges.sort(Comparator.comparingInt(range -> range[0]));
+
+        int start = Math.max(0, ranges.get(0)[0] - maxLength / 4);
+        int end = Math.min(text.length(), start + maxLength);
+
+        StringBuilder snippet = new StringBuilder(maxLength + 32);
+        if (start > 0) snippet.append("…");
+        int cursor = start;
+        for (int[] range : ranges) {
+            if (range[0] >= end) break;
+            if (range[1] <= cursor) continue;
+            int matchStart = Math.max(range[0], cursor);
+            int matchEnd = Math.min(range[1], end);
+            appendEscaped(snippet, text, cursor, matchStart);
+            snippet.append("<em>");
+            appendEscaped(snippet, text, matchStart, matchEnd);
+            snippet.append("</em>");
+            cursor = matchEnd;
+        }
+        appendEscaped(snippet, text, cursor, end);
+        if (end < text.length()) snippet.append("…");
+        return snippet.toString();
+    }
+
+    private void removeLocked(long id) {
+        Doc old = docs.remove(id);
+        if (old == null) return;
+        for (String gram : old.grams()) {
+            Map<Long, Integer> posting = postings.get(gram);
+            if (posting == null) continue;
+            posting.remove(id);
+            if (posting.isEmpty()) postings.remove(gram);
+        }
+        totalLength -= old.length();
+    }
+
+    /**
+     * 질의 bigram (1글자 토큰은 다른 토큰이 없을 때만 사용)
+     */
+    private static Set<String> queryGrams(String query) {
+        if (query == null) return Collections.emptySet();
+        List<String> tokens = tokens(query);
+        boolean hasLongToken = tokens.stream().anyMatch(token -> token.length() > 1);
+        Set<String> grams = new LinkedHashSet<>();
+        for (String token : tokens) {
+            if (hasLongToken && token.length() == 1) continue;
+            addGrams(token, grams);
+        }
+        return grams;
+    }
+
+    private static List<String> grams(String text) {
+        List<String> grams = new ArrayList<>();
+        for (String token : tokens(text)) {
+            addGrams(token, grams);
+        }
+        return grams;
+    }
+
+    private static void addGrams(String token, java.util.Collection<String> out) {
+        if (token.length() == 1) {
+            out.add(token);
+            return;
+        }
+        for (int i = 0; i + 2 <= token.length(); i++) {
+            out.add(token.substring(i, i + 2));
+        }
+    }
+
+    /**
+     * NFKC 정규화 + 소문자화 후 글자/숫자 연속 구간으로 분리
+     */
+    private static List<String> tokens(String text) {
+        String normalized = normalize(text);
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))) {
+                if (start < 0) start = i;
+            } else if (start >= 0) {
+                tokens.add(normalized.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) tokens.add(normalized.substring(start));
+        return tokens;
+    }
+
+    private static String normalize(String text) {
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 글자 단위(결합 문자 포함)로 정규화하며 정규화된 각 문자의 원문 시작/끝 위치를 기록
+     * 정규화로 길이가 바뀌어도(전각 → 반각, 합자 분해 등) 일치 구간을 원문에 정확히 표시하기 위함
+     */
+    private static Normalized normalizeWithOffsets(String text) {
+        StringBuilder out = new StringBuilder(text.length());
+        int[] starts = new int[text.length() + 8];
+        int[] ends = new int[text.length() + 8];
+        int i = 0;
+        while (i < text.length()) {
+            int start = i;
+            i += Character.charCount(text.codePointAt(i));
+            while (i < text.length() && isCombining(text.codePointAt(i))) {
+                i += Character.charCount(text.codePointAt(i));
+            }
+            String piece = normalize(text.substring(start, i));
+            if (out.length() + piece.length() > starts.length) {
+                int capacity = Math.max(starts.length * 2, out.length() + piece.length());
+                starts = Arrays.copyOf(starts, capacity);
+                ends = Arrays.copyOf(ends, capacity);
+            }
+            for (int k = 0; k < piece.length(); k++) {
+                starts[out.length() + k] = start;
+                ends[out.length() + k] = i;
+            }
+            out.append(piece);
+        }
+        return new Normalized(out.toString(), starts, ends);
+    }
+
+    // 앞 글자와 합쳐 정규화해야 하는 문자 (결합 부호, 한글 조합형 중성/종성)
+    private static boolean isCombining(int codePoint) {
+        int type = Character.getType(codePoint);
+        return type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK
+                || type == Character.ENCLOSING_MARK
+                || (codePoint >= 0x1160 && codePoint <= 0x11FF)
+                || (codePoint >= 0xD7B0 && codePoint <= 0xD7FF);
+    }
+
+    private static void appendEscaped(StringBuilder out, String text, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '&' -> out.append("&amp;");
+                case '"' -> out.append("&quot;");
+                default -> out.append(c);
+            }
+        }
+    }
+
+    /**
+     * 색인 필드 (weight는 해당 필드 bigram의 빈도 가중치)
+     */
+    public record Field(String text, int weight) {
+    }
+
+    public record Hit(long id, double score) {
+    }
+
+    public record Result(List<Hit> hits, int total) {
+    }
+
+    private record Doc(String tag, int length, Set<String> grams) {
+    }
+
+    private record Normalized(String text, int[] starts, int[] ends) {
+    }
+}
@@ -0,0 +1,64 @@
+package com.donzo.naitssu.global.text;
+
+/**
+ * 토크나이저 없이 쓰는 토큰 수 근사치 (한국어 위주 텍스트 기준)
+ *
+ * 글자 종류별로 토큰 가중치를 달리 준다. 한글 음절은 자주 쓰는 음절끼리 합쳐지는 경우가 많아 1보다 작게,
+ * 한자/기호는 글자마다 토큰이 되는 경우가 많아 1로, 영문/숫자는 여러 글자가 한 토큰으로 묶이므로 작게 본다.
+ * 문맥 한도를 넘지 않도록 실제보다 약간 크게 잡는다.
+ */
+public final class TokenEstimator {
+
+    // 글자당 토큰 가중치 (1/100 토큰 단위)
+    private static final int HANGUL = 60;
+    private static final int HANGUL_JAMO = 100;
+    private static final int CJK = 100;
+    private static final int LATIN = 28;
+    private static final int DIGIT = 35;
+    private static final int SPACE = 0;
+    private static final int NEWLINE = 50;
+    private static final int OTHER = 100;
+
+    private TokenEstimator() {
+    }
+
+    public static int estimate(CharSequence text) {
+        if (text == null) return 0;
+        long hundredths = 0;
+        for (int i = 0; i < text.length(); i++) {
+            hundredths += weight(text.charAt(i));
+        }
+        return (int) ((hundredths + 99) / 100);
+    }
+
+    /**
+     * 추정 토큰 수가 maxTokens 이하가 되도록 앞에서부터 자름 (이미 이하면 그대로 반환)
+     */
+    public static String truncate(String text, int maxTokens) {
+        if (text == null) return null;
+        long limit = Math.max(0, maxTokens) * 100L;
+        long hundredths = 0;
+        for (int i = 0; i < text.length(); i++) {
+            hundredths += weight(text.charAt(i));
+            if (hundredths > limit) {
+                int end = i > 0 && Character.isHighSurrogate(text.charAt(i - 1)) ? i - 1 : i;
+                return text.substring(0, end);
+            }
+        }
+        return text;
+    }
+
+    /**
+     * 글자 하나의 토큰 가중치 (1/100 토큰 단위)
+     */
+    public static int weight(char c) {
+        if (c >= '가' && c <= '힣') return HANGUL;
+        if ((c >= 'ᄀ' && c <= 'ᇿ') || (c >= '㄰' && c <= '㆏')) return HANGUL_JAMO;
+        if (c >= '一' && c <= '鿿') return CJK;
+        if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) return LATIN;
+        if (c >= '0' && c <= '9') return DIGIT;
+        if (c == '\n') return NEWLINE;
+        if (Character.isWhitespace(c)) return SPACE;
+        return OTHER;
+    }
+}
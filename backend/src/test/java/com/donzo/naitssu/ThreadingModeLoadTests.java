@@ -0,0 +1,136 @@
+package com.donzo.naitssu;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드 / 가상 스레드 모드 처리량 비교 부하 테스트 (DB 필요, ./gradlew loadTest 로 실행)
+ *
+ * 같은 설정으로 애플리케이션을 모드별로 한 번씩 띄우고, 법안/회의 목록 API를 고정된 수의 클라이언트로 호출해
+ * 초당 처리 건수와 지연 시간(p50/p99)을 비교한다. Tomcat 스레드 수보다 클라이언트가 많을 때 차이가 드러나므로
+ * 기본값은 Tomcat 스레드 50개, 클라이언트 200개이며 -Dload.* 시스템 프로퍼티로 바꿀 수 있다.
+ */
+@Tag("load")
+class ThreadingModeLoadTests {
+
+    private static final List<String> ENDPOINTS = List.of("/api/bills/page?page=0", "/api/meetings?size=10");
+
+    private final int clients = Integer.getInteger("load.clients", 200);
+    private final int tomcatThreads = Integer.getInteger("load.tomcat-threads", 50);
+    private final Duration warmup = Duration.ofSeconds(Long.getLong("load.warmup-seconds", 5));
+    private final Duration duration = Duration.ofSeconds(Long.getLong("load.duration-seconds", 20));
+
+    @Test
+    void compareThroughputByThreadingMode() throws Exception {
+        Map<String, Map<String, Result>> results = new LinkedHashMap<>();
+        results.put("platform", run(false));
+        results.put("virtual", run(true));
+
+        System.out.printf("%n%-26s %-9s %10s %9s %9s %8s%n", "endpoint", "mode", "req/s", "p50(ms)", "p99(ms)", "errors");
+        for (String endpoint : ENDPOINTS) {
+            results.forEach((mode, byEndpoint) -> {
+                Result result = byEndpoint.get(endpoint);
+                System.out.printf("%-26s %-9s %10.1f %9.1f %9.1f %8d%n", endpoint, mode,
+                        result.throughput(), result.percentileMillis(0.50), result.percentileMillis(0.99), result.errors());
+            });
+        }
+
+        results.values().forEach(byEndpoint -> byEndpoint.values()
+                .forEach(result -> assertThat(result.errors()).as("오류 응답 수").isZero()));
+    }
+
+    private Map<String, Result> run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(NaItssuApplication.class)
+                .properties(
+                        "server.port=0",
+                        "server.tomcat.threads.max=" + tomcatThreads,
+                        "spring.threads.virtual.enabled=" + virtualThreads)
+                .run()) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            Map<String, Result> byEndpoint = new LinkedHashMap<>();
+            for (String endpoint : ENDPOINTS) {
+                URI uri = URI.create("http://localhost:" + port + endpoint);
+                drive(uri, warmup);
+                byEndpoint.put(endpoint, drive(uri, duration));
+            }
+            return byEndpoint;
+        }
+    }
+
+    /**
+     * clients개의 클라이언트가 duration 동안 응답을 받는 즉시 다음 요청을 보냄
+     */
+    private Result drive(URI uri, Duration duration) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+        long deadline = System.nanoTime() + duration.toNanos();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient client = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(executor)
+                     .build()) {
+            List<Future<Result>> futures = new ArrayList<>();
+            for (int i = 0; i < clients; i++) {
+                futures.add(executor.submit(() -> {
+                    List<Long> latencies = new ArrayList<>();
+                    long errors = 0;
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) errors++;
+                        } catch (Exception e) {
+                            errors++;
+                        }
+                        latencies.add(System.nanoTime() - start);
+                    }
+                    return new Result(latencies.stream().mapToLong(Long::longValue).toArray(), errors, duration);
+                }));
+            }
+            Result total = new Result(new long[0], 0, duration);
+            for (Future<Result> future : futures) {
+                total = total.plus(future.get());
+            }
+            return total;
+        }
+    }
+
+    private record Result(long[] latencyNanos, long errors, Duration duration) {
+
+        double throughput() {
+            return latencyNanos.length / (duration.toNanos() / 1_000_000_000.0);
+        }
+
+        double percentileMillis(double percentile) {
+            if (latencyNanos.length == 0) return 0;
+            long[] sorted = latencyNanos.clone();
+            Arrays.sort(sorted);
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+            return sorted[Math.max(0, index)] / 1_000_000.0;
+        }
+
+        Result plus(Result other) {
+            long[] merged = Arrays.copyOf(latencyNanos, latencyNanos.length + other.latencyNanos.length);
+            System.arraycopy(other.latencyNanos, 0, merged, latencyNanos.length, other.latencyNanos.length);
+            return new Result(merged, errors + other.errors, duration);
+        }
+    }
+}
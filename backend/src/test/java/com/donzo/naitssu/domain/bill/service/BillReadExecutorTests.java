@@ -0,0 +1,96 @@
+package com.donzo.naitssu.domain.bill.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BillReadExecutorTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private BillReadExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) executor.shutdown();
+    }
+
+    @Test
+    void rejectsReadsBeyondQueueCapacityWithPlatformThreads() {
+        assertRejectsBeyondCapacity(executor(false));
+    }
+
+    @Test
+    void rejectsReadsBeyondQueueCapacityWithVirtualThreads() {
+        assertRejectsBeyondCapacity(executor(true));
+    }
+
+    @Test
+    void virtualThreadReadsWaitForDatabaseSlotOnlyUntilTimeout() {
+        executor = executor(true);
+        ReflectionTestUtils.setField(executor, "queueCapacity", 5);
+        ReflectionTestUtils.setField(executor, "acquireTimeoutMs", 100L);
+        executor.init();
+        executor.read(this::blockingQuery).subscribe();
+
+        long start = System.nanoTime();
+        ResponseEntity<String> rejected = executor.read(() -> ResponseEntity.ok("ok")).block(TIMEOUT);
+
+        assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(100));
+    }
+
+    @Test
+    void virtualThreadReadsRunWhenDatabaseSlotFreesInTime() {
+        executor = executor(true);
+        executor.read(() -> ResponseEntity.ok("first")).block(TIMEOUT);
+
+        assertThat(executor.read(() -> ResponseEntity.ok("second")).block(TIMEOUT).getBody()).isEqualTo("second");
+    }
+
+    @Test
+    void admitsNewReadsAfterEarlierOnesFinish() {
+        executor = executor(false);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(executor.read(() -> ResponseEntity.ok("ok")).block(TIMEOUT).getStatusCode())
+                    .isEqualTo(HttpStatus.OK);
+        }
+    }
+
+    private void assertRejectsBeyondCapacity(BillReadExecutor readExecutor) {
+        executor = readExecutor;
+        // 스레드 1개 + 대기열 1건을 채움
+        executor.read(this::blockingQuery).subscribe();
+        executor.read(this::blockingQuery).subscribe();
+
+        ResponseEntity<String> rejected = executor.read(() -> ResponseEntity.ok("ok")).block(TIMEOUT);
+
+        assertThat(rejected.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    private ResponseEntity<String> blockingQuery() throws InterruptedException {
+        release.await(5, TimeUnit.SECONDS);
+        return ResponseEntity.ok("slow");
+    }
+
+    private static BillReadExecutor executor(boolean virtualThreads) {
+        BillReadExecutor readExecutor = new BillReadExecutor();
+        ReflectionTestUtils.setField(readExecutor, "virtualThreads", virtualThreads);
+        ReflectionTestUtils.setField(readExecutor, "threads", 1);
+        ReflectionTestUtils.setField(readExecutor, "queueCapacity", 1);
+        ReflectionTestUtils.setField(readExecutor, "acquireTimeoutMs", 5000L);
+        readExecutor.init();
+        return readExecutor;
+    }
+}
@@ -0,0 +1,100 @@
+package com.donzo.naitssu.domain.chatbot.service;
+
+import com.donzo.naitssu.domain.meeting.entity.Meeting;
+import com.donzo.naitssu.domain.meeting.repository.MeetingRepository;
+import com.donzo.naitssu.domain.meeting.service.MeetingTranscriptService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TranscriptRetrievalServiceTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final String TRANSCRIPT = "위원장: 예산안을 상정합니다.\n위원: 청년 주거 지원 예산이 부족합니다.\n위원장: 의결하겠습니다.";
+
+    private final MeetingRepository meetingRepository = mock(MeetingRepository.class);
+    private final MeetingTranscriptService transcriptService = mock(MeetingTranscriptService.class);
+    private TranscriptRetrievalService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TranscriptRetrievalService(meetingRepository, transcriptService);
+        ReflectionTestUtils.setField(service, "topK", 2);
+        ReflectionTestUtils.setField(service, "passageChars", 30);
+        ReflectionTestUtils.setField(service, "overlapChars", 5);
+        ReflectionTestUtils.setField(service, "maxCachedMeetings", 4);
+        when(meetingRepository.findById(1L)).thenReturn(Optional.of(Meeting.builder().conferNum("C1").build()));
+        when(transcriptService.findLatestHash("C1")).thenReturn(Optional.of("h1"));
+    }
+
+    @Test
+    void returnsRelevantPassagesAndReusesIndex() {
+        when(transcriptService.find("C1", "h1")).thenReturn(Optional.of(TRANSCRIPT));
+
+        assertThat(service.retrieve(1L, "청년 주거 예산").block(TIMEOUT)).anyMatch(passage -> passage.contains("청년 주거"));
+        service.retrieve(1L, "의결").block(TIMEOUT);
+
+        verify(transcriptService, times(1)).find("C1", "h1");
+    }
+
+    @Test
+    void rebuildsWhenTranscriptHashChanges() {
+        when(transcriptService.find("C1", "h1")).thenReturn(Optional.of(TRANSCRIPT));
+        when(transcriptService.find("C1", "h2")).thenReturn(Optional.of("위원: 반도체 특별법을 논의합니다."));
+
+        service.retrieve(1L, "예산").block(TIMEOUT);
+        when(transcriptService.findLatestHash("C1")).thenReturn(Optional.of("h2"));
+
+        assertThat(service.retrieve(1L, "반도체").block(TIMEOUT)).singleElement().asString().contains("반도체");
+    }
+
+    @Test
+    void concurrentQuestionsBuildTheIndexOnce() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(transcriptService.find("C1", "h1")).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return Optional.of(TRANSCRIPT);
+        });
+
+        List<Future<List<String>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 8; i++) {
+                results.add(executor.submit(() -> service.retrieve(1L, "예산").block(TIMEOUT)));
+            }
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            Thread.sleep(100); // 나머지 요청이 진행 중인 색인 생성을 기다리도록
+            release.countDown();
+            for (Future<List<String>> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isNotEmpty();
+            }
+        }
+
+        verify(transcriptService, times(1)).find("C1", "h1");
+    }
+
+    @Test
+    void unparsedMeetingHasNoPassages() {
+        when(transcriptService.findLatestHash("C1")).thenReturn(Optional.empty());
+
+        assertThat(service.retrieve(1L, "예산").block(TIMEOUT)).isEmpty();
+        assertThat(service.retrieve(null, "예산").block(TIMEOUT)).isEmpty();
+    }
+}
@@ -0,0 +1,98 @@
+package com.donzo.naitssu.domain.chatbot.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UpstageStreamDecoderTests {
+
+    // 실제 응답 형식을 따른 SSE 본문 (주석 줄, CRLF, 공백 없는 data:, 이스케이프, 멀티바이트 문자 포함)
+    private static final String BODY = String.join("",
+            ": keep-alive\n\n",
+            "data: {\"id\":\"1\",\"choices\":[{\"index\":0,\"delta\":{\"role\":\"assistant\",\"content\":\"\"}}]}\n\n",
+            "data: {\"id\":\"1\",\"choices\":[{\"index\":0,\"delta\":{\"content\":\"주택임대차\"}}]}\n\n",
+            "event: message\r\ndata:{\"choices\":[{\"delta\":{\"content\":\"법은 \\\"보호\\\"\\n\"}}]}\r\n\r\n",
+            "data: {\"choices\":[{\"delta\":{\"content\":\"\\uD55C\\uAD6D \\\\ 끝\"},\"message\":{\"content\":\"무시\"}}]}\n\n",
+            "data: {\"choices\":[{\"delta\":{},\"finish_reason\":\"stop\"}],\"usage\":{\"total_tokens\":12}}\n\n",
+            "data: [DONE]\n\n",
+            "data: {\"choices\":[{\"delta\":{\"content\":\"DONE 이후\"}}]}\n\n");
+
+    private static final List<String> EXPECTED = List.of("주택임대차", "법은 \"보호\"\n", "한국 \\ 끝");
+
+    @Test
+    void decodesWholeBody() {
+        assertThat(decode(List.of(bytes()))).isEqualTo(EXPECTED);
+    }
+
+    @Test
+    void decodesBodySplitAtEveryByteBoundary() {
+        byte[] body = bytes();
+        for (int split = 1; split < body.length; split++) {
+            List<byte[]> chunks = List.of(Arrays.copyOfRange(body, 0, split), Arrays.copyOfRange(body, split, body.length));
+            assertThat(decode(chunks)).as("split at %d", split).isEqualTo(EXPECTED);
+        }
+    }
+
+    @Test
+    void decodesBodyFedOneByteAtATime() {
+        byte[] body = bytes();
+        List<byte[]> chunks = new ArrayList<>(body.length);
+        for (byte b : body) {
+            chunks.add(new byte[]{b});
+        }
+        assertThat(decode(chunks)).isEqualTo(EXPECTED);
+    }
+
+    @Test
+    void stopsAtDoneMarker() {
+        UpstageStreamDecoder decoder = new UpstageStreamDecoder();
+        byte[] body = bytes();
+
+        decoder.feed(body, 0, body.length);
+
+        assertThat(decoder.isDone()).isTrue();
+        assertThat(decoder.feed(body, 0, body.length)).isEmpty();
+    }
+
+    @Test
+    void decodesDataBufferFlux() {
+        DefaultDataBufferFactory factory = DefaultDataBufferFactory.sharedInstance;
+        byte[] body = bytes();
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int offset = 0; offset < body.length; offset += 7) {
+            buffers.add(factory.wrap(Arrays.copyOfRange(body, offset, Math.min(body.length, offset + 7))));
+        }
+
+        List<String> deltas = UpstageStreamDecoder.decode(Flux.fromIterable(buffers))
+                .collectList()
+                .block(Duration.ofSeconds(5));
+
+        assertThat(deltas).isEqualTo(EXPECTED);
+    }
+
+    private static List<String> decode(List<byte[]> chunks) {
+        UpstageStreamDecoder decoder = new UpstageStreamDecoder();
+        try {
+            List<String> deltas = new ArrayList<>();
+            for (byte[] chunk : chunks) {
+                deltas.addAll(decoder.feed(chunk, 0, chunk.length));
+            }
+            return deltas;
+        } finally {
+            decoder.close();
+        }
+    }
+
+    private static byte[] bytes() {
+        return BODY.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,84 @@
+package com.donzo.naitssu.domain.chatbot.session;
+
+import com.donzo.naitssu.domain.chatbot.dto.UpstageRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatSessionTests {
+
+    private static final UpstageRequest.Message QUESTION = new UpstageRequest.Message("user", "지금 질문");
+
+    @Test
+    void keepsFirstSystemPrompt() {
+        ChatSession session = new ChatSession("s", 10);
+        session.initialize("첫 프롬프트");
+        session.initialize("두 번째 프롬프트");
+
+        List<UpstageRequest.Message> prompt = session.promptFor(QUESTION, 1000);
+
+        assertThat(roles(prompt)).containsExactly("system", "user");
+        assertThat(prompt.get(0).getContent()).isEqualTo("첫 프롬프트");
+        assertThat(prompt.get(1)).isSameAs(QUESTION);
+    }
+
+    @Test
+    void dropsOldestTurnsBeyondMaxMessages() {
+        ChatSession session = new ChatSession("s", 4);
+        session.appendTurn("질문1", "답변1");
+        session.appendTurn("질문2", "답변2");
+        session.appendTurn("질문3", "답변3");
+
+        assertThat(contents(session.promptFor(QUESTION, 1000)))
+                .containsExactly("질문2", "답변2", "질문3", "답변3", "지금 질문");
+    }
+
+    @Test
+    void includesOnlyRecentPairsWithinTokenBudget() {
+        ChatSession session = new ChatSession("s", 10);
+        session.initialize("시스템");
+        session.appendTurn("가".repeat(20), "나".repeat(20)); // 20토큰
+        session.appendTurn("다".repeat(10), "라".repeat(10)); // 10토큰
+
+        assertThat(contents(session.promptFor(QUESTION, 15)))
+                .containsExactly("시스템", "다".repeat(10), "라".repeat(10), "지금 질문");
+        // 예산이 부족해도 질문/답변 쌍을 반만 넣지 않음
+        assertThat(contents(session.promptFor(QUESTION, 9))).containsExactly("시스템", "지금 질문");
+    }
+
+    @Test
+    void concurrentTurnsKeepQuestionAnswerPairs() throws Exception {
+        ChatSession session = new ChatSession("s", 50);
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int i = 0; i < 200; i++) {
+                int n = i;
+                futures.add(executor.submit(() -> session.appendTurn("q" + n, "a" + n)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        List<UpstageRequest.Message> history = session.promptFor(QUESTION, Long.MAX_VALUE);
+        assertThat(history).hasSize(51);
+        for (int i = 0; i < 50; i += 2) {
+            assertThat(history.get(i).getRole()).isEqualTo("user");
+            assertThat(history.get(i + 1).getContent()).isEqualTo("a" + history.get(i).getContent().substring(1));
+        }
+    }
+
+    private static List<String> roles(List<UpstageRequest.Message> messages) {
+        return messages.stream().map(UpstageRequest.Message::getRole).toList();
+    }
+
+    private static List<String> contents(List<UpstageRequest.Message> messages) {
+        return messages.stream().map(UpstageRequest.Message::getContent).toList();
+    }
+}
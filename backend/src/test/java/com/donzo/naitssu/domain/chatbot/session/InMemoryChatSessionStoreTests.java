@@ -0,0 +1,68 @@
+package com.donzo.naitssu.domain.chatbot.session;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InMemoryChatSessionStoreTests {
+
+    private InMemoryChatSessionStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new InMemoryChatSessionStore();
+        ReflectionTestUtils.setField(store, "maxSessions", 2);
+        ReflectionTestUtils.setField(store, "idleTimeoutMinutes", 30L);
+        ReflectionTestUtils.setField(store, "maxHistoryMessages", 4);
+    }
+
+    @Test
+    void returnsSameSessionForSameId() {
+        ChatSession created = store.create("a");
+
+        assertThat(store.getOrCreate("a")).isSameAs(created);
+        assertThat(store.create("a")).isSameAs(created);
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedBeyondMaxSessions() {
+        ChatSession a = store.getOrCreate("a");
+        store.getOrCreate("b");
+        store.getOrCreate("a");
+        store.getOrCreate("c");
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.getOrCreate("a")).isSameAs(a);
+        assertThat(store.size()).isEqualTo(2); // b가 밀려났으므로 a는 그대로 남아 있음
+    }
+
+    @Test
+    void replacesIdleSessionOnAccess() {
+        ChatSession stale = store.getOrCreate("a");
+        stale.appendTurn("질문", "답변");
+        idle(stale);
+
+        ChatSession fresh = store.getOrCreate("a");
+
+        assertThat(fresh).isNotSameAs(stale);
+        assertThat(fresh.hasSystemPrompt()).isFalse();
+    }
+
+    @Test
+    void evictIdleSessionsRemovesOnlyIdleOnes() {
+        idle(store.getOrCreate("old"));
+        ChatSession active = store.getOrCreate("active");
+
+        store.evictIdleSessions();
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.getOrCreate("active")).isSameAs(active);
+    }
+
+    private static void idle(ChatSession session) {
+        ReflectionTestUtils.setField(session, "lastAccessedAt", System.currentTimeMillis() - 31 * 60_000L);
+    }
+}
@@ -0,0 +1,136 @@
+package com.donzo.naitssu.domain.meeting.service;
+
+import com.donzo.naitssu.global.resilience.DependencyUnavailableException;
+import com.donzo.naitssu.global.text.TokenEstimator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HierarchicalSummarizerTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private HierarchicalSummarizer summarizer;
+
+    @BeforeEach
+    void setUp() {
+        summarizer = summarizer(3, 2, 1000);
+    }
+
+    @Test
+    void reducesInOrderWithBoundedFanIn() {
+        List<String> chunks = IntStream.rangeClosed(1, 7).mapToObj(i -> "c" + i).toList();
+        List<List<String>> mergeInputs = new CopyOnWriteArrayList<>();
+
+        List<HierarchicalSummarizer.Partial<String>> partials = summarizer.summarize(chunks,
+                        (chunk, position, total) -> Mono.just(chunk.toUpperCase()),
+                        (group, level) -> {
+                            mergeInputs.add(group);
+                            return Mono.just("(" + String.join("+", group) + ")");
+                        })
+                .collectList().block(TIMEOUT);
+
+        // 7 → 3 → 1, 각 단계는 순서대로 방출
+        assertThat(partials).extracting(HierarchicalSummarizer.Partial::level).containsExactly(0, 0, 0, 0, 0, 0, 0, 1, 1, 1, 2);
+        assertThat(partials.get(partials.size() - 1).value()).isEqualTo("((C1+C2+C3)+(C4+C5+C6)+C7)");
+        assertThat(mergeInputs).allSatisfy(group -> assertThat(group).hasSizeBetween(2, 3));
+    }
+
+    @Test
+    void singleChunkNeedsNoMerge() {
+        List<String> values = summarizer.summarize(List.of("only"),
+                        (chunk, position, total) -> Mono.just("요약"),
+                        (group, level) -> Mono.error(new AssertionError("호출되면 안 됨")))
+                .map(HierarchicalSummarizer.Partial::value)
+                .collectList().block(TIMEOUT);
+
+        assertThat(values).containsExactly("요약");
+    }
+
+    @Test
+    void limitsConcurrentCallsPerLevel() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<String> chunks = IntStream.range(0, 12).mapToObj(i -> "c" + i).toList();
+
+        summarizer.summarize(chunks,
+                        (chunk, position, total) -> Mono.fromCallable(() -> {
+                            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            Thread.sleep(20);
+                            running.decrementAndGet();
+                            return chunk;
+                        }).subscribeOn(Schedulers.boundedElastic()),
+                        (group, level) -> Mono.just(String.join("", group)))
+                .blockLast(TIMEOUT);
+
+        assertThat(peak.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void mergeInputNeverExceedsTokenBudget() {
+        summarizer = summarizer(8, 2, 100);
+        // 한글 100자 ≈ 60토큰: 예산(100)의 절반을 넘으므로 50토큰 이하로 줄인 뒤 두 개씩 묶여야 함
+        List<String> chunks = IntStream.range(0, 5).mapToObj(i -> "가".repeat(100)).toList();
+        List<Integer> mergeTokens = new CopyOnWriteArrayList<>();
+
+        String result = summarizer.summarize(chunks,
+                        (chunk, position, total) -> Mono.just(chunk),
+                        (group, level) -> {
+                            mergeTokens.add(group.stream().mapToInt(TokenEstimator::estimate).sum());
+                            return Mono.just("나".repeat(90));
+                        })
+                .map(HierarchicalSummarizer.Partial::value)
+                .blockLast(TIMEOUT);
+
+        assertThat(result).isEqualTo("나".repeat(90));
+        assertThat(mergeTokens).isNotEmpty().allSatisfy(tokens -> assertThat(tokens).isLessThanOrEqualTo(100));
+    }
+
+    @Test
+    void anyFailedChunkFailsTheWholeSummary() {
+        AtomicInteger merges = new AtomicInteger();
+
+        assertThatThrownBy(() -> summarizer.summarize(List.of("a", "b", "c"),
+                        (chunk, position, total) -> chunk.equals("b") ? Mono.error(new IllegalStateException("실패")) : Mono.just(chunk),
+                        (group, level) -> { merges.incrementAndGet(); return Mono.just(String.join("", group)); })
+                .blockLast(TIMEOUT))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("실패");
+        assertThat(merges.get()).isZero();
+
+        assertThatThrownBy(() -> summarizer.summarize(List.of("a", "b"),
+                        (chunk, position, total) -> Mono.error(new DependencyUnavailableException("upstage", "서킷 열림")),
+                        (group, level) -> Mono.just(""))
+                .blockLast(TIMEOUT))
+                .isInstanceOf(DependencyUnavailableException.class);
+    }
+
+    @Test
+    void mergeFailurePropagates() {
+        assertThatThrownBy(() -> summarizer.summarize(List.of("a", "b"),
+                        (chunk, position, total) -> Mono.just(chunk),
+                        (group, level) -> Mono.error(new IllegalStateException("통합 결과가 비어있음")))
+                .blockLast(TIMEOUT))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("통합 결과가 비어있음");
+    }
+
+    private static HierarchicalSummarizer summarizer(int fanIn, int concurrency, int maxMergeTokens) {
+        HierarchicalSummarizer summarizer = new HierarchicalSummarizer();
+        ReflectionTestUtils.setField(summarizer, "fanIn", fanIn);
+        ReflectionTestUtils.setField(summarizer, "concurrency", concurrency);
+        ReflectionTestUtils.setField(summarizer, "maxMergeTokens", maxMergeTokens);
+        return summarizer;
+    }
+}
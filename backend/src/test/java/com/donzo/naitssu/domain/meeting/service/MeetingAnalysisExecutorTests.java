@@ -0,0 +1,68 @@
+package com.donzo.naitssu.domain.meeting.service;
+
+import com.donzo.naitssu.domain.meeting.entity.Meeting;
+import com.donzo.naitssu.domain.meeting.entity.MeetingAnalysisJob;
+import com.donzo.naitssu.domain.meeting.repository.MeetingAnalysisJobRepository;
+import com.donzo.naitssu.domain.meeting.repository.MeetingRepository;
+import com.donzo.naitssu.domain.search.service.SearchService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MeetingAnalysisExecutorTests {
+
+    private MeetingAnalysisJobRepository jobRepository;
+    private MeetingRepository meetingRepository;
+    private MeetingAnalysisExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        jobRepository = mock(MeetingAnalysisJobRepository.class);
+        meetingRepository = mock(MeetingRepository.class);
+        when(jobRepository.save(any(MeetingAnalysisJob.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        executor = new MeetingAnalysisExecutor(jobRepository, meetingRepository,
+                mock(PdfProcessingService.class), mock(DocumentParserService.class),
+                mock(MeetingSummaryService.class), mock(MeetingTranscriptService.class),
+                mock(TransactionTemplate.class), mock(SearchService.class));
+        ReflectionTestUtils.setField(executor, "backfillBatchSize", 2);
+    }
+
+    @Test
+    void backfillsEveryPageUntilNoMeetingIsLeft() {
+        Deque<List<Meeting>> pages = new ArrayDeque<>(List.of(meetings(2, "url"), meetings(2, "url"), meetings(1, "url")));
+        when(meetingRepository.findWithoutAnalysisJob(any(Pageable.class)))
+                .thenAnswer(invocation -> pages.isEmpty() ? List.of() : pages.poll());
+
+        assertThat(executor.backfillMissingJobs()).isEqualTo(5);
+        verify(meetingRepository, times(3)).findWithoutAnalysisJob(any(Pageable.class));
+    }
+
+    @Test
+    void stopsWhenOnlyMeetingsWithoutPdfRemain() {
+        // 공백 URL 회의는 작업이 만들어지지 않아 같은 페이지가 계속 조회됨
+        when(meetingRepository.findWithoutAnalysisJob(any(Pageable.class))).thenReturn(meetings(2, " "));
+
+        assertThat(executor.backfillMissingJobs()).isZero();
+        verify(meetingRepository, times(1)).findWithoutAnalysisJob(any(Pageable.class));
+    }
+
+    private static List<Meeting> meetings(int count, String pdfUrl) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Meeting.builder().conferNum("c" + i).title("회의 " + i).pdfLinkUrl(pdfUrl).build())
+                .toList();
+    }
+}
@@ -0,0 +1,62 @@
+package com.donzo.naitssu.domain.meeting.service;
+
+import com.donzo.naitssu.domain.meeting.entity.Meeting;
+import com.donzo.naitssu.domain.meeting.repository.MeetingRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MeetingServiceTests {
+
+    private final MeetingRepository meetingRepository = mock(MeetingRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final MeetingService meetingService =
+            new MeetingService(meetingRepository, new TransactionTemplate(transactionManager));
+
+    @Test
+    void backfillUsesCreationDateForUnparseableDatesAndCommitsPerBatch() {
+        Meeting valid = meeting(1L, "2024.09.10");
+        Meeting unparseable = meeting(2L, "미정");
+        when(meetingRepository.findBySortDateAndConfDateIsNotNullAndIdGreaterThanOrderByIdAsc(
+                eq(Meeting.DEFAULT_SORT_DATE), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(valid, unparseable))
+                .thenReturn(List.of());
+
+        meetingService.backfillSortDates();
+
+        assertThat(valid.getSortDate()).isEqualTo(LocalDate.of(2024, 9, 10));
+        assertThat(unparseable.getSortDate()).isEqualTo(LocalDate.of(2023, 5, 1));
+        verify(meetingRepository).findBySortDateAndConfDateIsNotNullAndIdGreaterThanOrderByIdAsc(
+                eq(Meeting.DEFAULT_SORT_DATE), eq(2L), any(Pageable.class));
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void missingDateKeepsDefaultSortDate() {
+        assertThat(Meeting.toSortDate(null, LocalDate.of(2024, 1, 1))).isEqualTo(Meeting.DEFAULT_SORT_DATE);
+        assertThat(Meeting.toSortDate("2024-13-40", LocalDate.of(2024, 1, 1))).isEqualTo(LocalDate.of(2024, 1, 1));
+    }
+
+    private static Meeting meeting(Long id, String confDate) {
+        Meeting meeting = Meeting.builder().conferNum("c" + id).title("회의").confDate(confDate).build();
+        ReflectionTestUtils.setField(meeting, "id", id);
+        ReflectionTestUtils.setField(meeting, "createdAt", LocalDateTime.of(2023, 5, 1, 9, 0));
+        ReflectionTestUtils.setField(meeting, "sortDate", Meeting.DEFAULT_SORT_DATE);
+        return meeting;
+    }
+}
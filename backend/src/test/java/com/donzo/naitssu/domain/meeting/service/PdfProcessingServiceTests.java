@@ -0,0 +1,77 @@
+package com.donzo.naitssu.domain.meeting.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PdfProcessingServiceTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    private static final String URL = "https://example.com/meeting.pdf";
+
+    private final AtomicReference<ClientRequest> lastRequest = new AtomicReference<>();
+
+    @Test
+    void sendsValidatorsAndSkipsBodyWhenNotModified() {
+        PdfProcessingService service = service(ClientResponse.create(HttpStatus.NOT_MODIFIED).build());
+
+        PdfProcessingService.PdfDownload download =
+                service.downloadPdf(URL, "\"v1\"", "Wed, 01 Oct 2025 00:00:00 GMT").block(TIMEOUT);
+
+        assertThat(download).isNotNull();
+        assertThat(download.notModified()).isTrue();
+        assertThat(download.etag()).isEqualTo("\"v1\"");
+        HttpHeaders sent = lastRequest.get().headers();
+        assertThat(sent.getFirst(HttpHeaders.IF_NONE_MATCH)).isEqualTo("\"v1\"");
+        assertThat(sent.getFirst(HttpHeaders.IF_MODIFIED_SINCE)).isEqualTo("Wed, 01 Oct 2025 00:00:00 GMT");
+    }
+
+    @Test
+    void downloadsChangedPdfWithNewValidators() throws Exception {
+        PdfProcessingService service = service(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.ETAG, "\"v2\"")
+                .header(HttpHeaders.LAST_MODIFIED, "Thu, 02 Oct 2025 00:00:00 GMT")
+                .body("%PDF-1.4 content")
+                .build());
+
+        PdfProcessingService.PdfDownload download = service.downloadPdf(URL, null, null).block(TIMEOUT);
+
+        assertThat(download).isNotNull();
+        assertThat(download.notModified()).isFalse();
+        assertThat(download.etag()).isEqualTo("\"v2\"");
+        assertThat(download.lastModified()).isEqualTo("Thu, 02 Oct 2025 00:00:00 GMT");
+        assertThat(lastRequest.get().headers().containsKey(HttpHeaders.IF_NONE_MATCH)).isFalse();
+        try {
+            assertThat(Files.readString(download.file())).isEqualTo("%PDF-1.4 content");
+        } finally {
+            service.deleteQuietly(download.file());
+        }
+    }
+
+    @Test
+    void failedDownloadIsEmpty() {
+        PdfProcessingService service = service(ClientResponse.create(HttpStatus.NOT_FOUND).build());
+
+        assertThat(service.downloadPdf(URL, null, null).block(TIMEOUT)).isNull();
+    }
+
+    private PdfProcessingService service(ClientResponse response) {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    lastRequest.set(request);
+                    return Mono.just(response);
+                })
+                .build();
+        return new PdfProcessingService(webClient);
+    }
+}
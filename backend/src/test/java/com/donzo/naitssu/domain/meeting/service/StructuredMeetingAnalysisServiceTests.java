@@ -0,0 +1,119 @@
+package com.donzo.naitssu.domain.meeting.service;
+
+import com.donzo.naitssu.domain.meeting.dto.MeetingAnalysisResult;
+import com.donzo.naitssu.global.cache.LlmCacheEntryRepository;
+import com.donzo.naitssu.global.cache.LlmResponseCache;
+import com.donzo.naitssu.global.ratelimit.UpstageRateLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StructuredMeetingAnalysisServiceTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger apiCalls = new AtomicInteger();
+    private String content;
+    private StructuredMeetingAnalysisService service;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    apiCalls.incrementAndGet();
+                    return Mono.just(ClientResponse.create(HttpStatus.OK)
+                            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                            .body(responseBody(content))
+                            .build());
+                })
+                .build();
+
+        UpstageRateLimiter rateLimiter = mock(UpstageRateLimiter.class);
+        when(rateLimiter.execute(any(), anyLong(), any(), any()))
+                .thenAnswer(invocation -> ((Supplier<Mono<?>>) invocation.getArgument(2)).get());
+
+        TranscriptChunker chunker = mock(TranscriptChunker.class);
+        when(chunker.split(anyString())).thenAnswer(invocation -> List.of((String) invocation.getArgument(0)));
+
+        LlmCacheEntryRepository repository = mock(LlmCacheEntryRepository.class);
+        when(repository.findByCacheKey(anyString())).thenReturn(Optional.empty());
+        LlmResponseCache cache = new LlmResponseCache(repository);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "memoryMaxEntries", 10);
+        ReflectionTestUtils.setField(cache, "ttlHours", 1L);
+
+        service = new StructuredMeetingAnalysisService(webClient, objectMapper, rateLimiter,
+                mock(HierarchicalSummarizer.class), chunker, cache);
+        ReflectionTestUtils.setField(service, "apiUrl", "https://api.example.com/chat");
+        ReflectionTestUtils.setField(service, "apiKey", "key");
+    }
+
+    @Test
+    void repeatedAnalysisIsServedFromCache() {
+        content = "{\"summary\":\"예산안을 심사했습니다.\",\"discussion_items\":[\"예산안 심사\"]}";
+
+        MeetingAnalysisResult first = service.analyzeWithSummary("회의록", "제1차 본회의").block(TIMEOUT);
+        MeetingAnalysisResult second = service.analyzeWithSummary("회의록", "제1차 본회의").block(TIMEOUT);
+
+        assertThat(apiCalls.get()).isEqualTo(1);
+        assertThat(second.getSummary()).isEqualTo(first.getSummary());
+        assertThat(second.getDiscussionItems()).containsExactly("예산안 심사");
+    }
+
+    @Test
+    void missingDiscussionItemsStayEmpty() {
+        content = "{\"summary\":\"안건이 없었습니다.\",\"discussion_items\":[]}";
+
+        MeetingAnalysisResult result = service.analyzeWithSummary("회의록", "제2차 본회의").block(TIMEOUT);
+
+        assertThat(result.getDiscussionItems()).isEmpty();
+    }
+
+    @Test
+    void unparseableResponseFailsAndIsNotCached() {
+        content = "요약을 생성할 수 없습니다";
+
+        assertThatThrownBy(() -> service.analyzeWithSummary("회의록", "제3차 본회의").block(TIMEOUT))
+                .hasMessageContaining("파싱 실패");
+
+        content = "{\"summary\":\"다시 생성했습니다.\",\"discussion_items\":[\"재심사\"]}";
+        MeetingAnalysisResult retried = service.analyzeWithSummary("회의록", "제3차 본회의").block(TIMEOUT);
+
+        assertThat(apiCalls.get()).isEqualTo(2);
+        assertThat(retried.getDiscussionItems()).containsExactly("재심사");
+    }
+
+    private String responseBody(String messageContent) {
+        try {
+            return objectMapper.writeValueAsString(Map.of(
+                    "choices", List.of(Map.of("message", Map.of("role", "assistant", "content", messageContent))),
+                    "usage", Map.of("total_tokens", 42)));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
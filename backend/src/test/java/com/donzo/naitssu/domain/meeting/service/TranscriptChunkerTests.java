@@ -0,0 +1,85 @@
+package com.donzo.naitssu.domain.meeting.service;
+
+import com.donzo.naitssu.global.text.TokenEstimator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TranscriptChunkerTests {
+
+    private TranscriptChunker chunker;
+
+    @BeforeEach
+    void setUp() {
+        chunker = new TranscriptChunker();
+        ReflectionTestUtils.setField(chunker, "tokenBudget", 100);
+        ReflectionTestUtils.setField(chunker, "minFill", 0.6);
+    }
+
+    @Test
+    void emptyOrShortTextIsOneChunkOrNone() {
+        assertThat(chunker.split(null)).isEmpty();
+        assertThat(chunker.split("  \n ")).isEmpty();
+        assertThat(chunker.split("○의장 개의하겠습니다.")).containsExactly("○의장 개의하겠습니다.");
+    }
+
+    @Test
+    void chunksStayWithinBudgetAndKeepAllText() {
+        String text = transcript(40);
+
+        List<String> chunks = chunker.split(text);
+
+        assertThat(chunks).hasSizeGreaterThan(1);
+        assertThat(chunks).allSatisfy(chunk -> assertThat(TokenEstimator.estimate(chunk)).isLessThanOrEqualTo(100));
+        assertThat(String.join("", chunks).replaceAll("\\s", "")).isEqualTo(text.replaceAll("\\s", ""));
+    }
+
+    @Test
+    void prefersSpeakerTurnsOverLineAndSentenceBreaks() {
+        List<String> chunks = chunker.split(transcript(40));
+
+        // 경계가 충분하면 모든 청크가 발언자 표기에서 시작
+        assertThat(chunks).allSatisfy(chunk -> assertThat(chunk).startsWith("○"));
+    }
+
+    @Test
+    void fillsChunksBeforeCutting() {
+        List<String> chunks = chunker.split(transcript(40));
+
+        // 마지막 청크를 제외하면 예산의 minFill(60%) 이상 채움
+        assertThat(chunks.subList(0, chunks.size() - 1))
+                .allSatisfy(chunk -> assertThat(TokenEstimator.estimate(chunk)).isGreaterThanOrEqualTo(60));
+    }
+
+    @Test
+    void cutsAtBudgetWhenThereIsNoBoundary() {
+        String text = "가".repeat(500); // 300토큰, 경계 없음
+
+        List<String> chunks = chunker.split(text);
+
+        assertThat(chunks).hasSize(4);
+        assertThat(chunks).allSatisfy(chunk -> assertThat(TokenEstimator.estimate(chunk)).isLessThanOrEqualTo(100));
+        assertThat(String.join("", chunks)).isEqualTo(text);
+    }
+
+    @Test
+    void explicitBudgetOverridesConfigured() {
+        String text = transcript(40);
+
+        assertThat(chunker.split(text, 1000)).hasSizeLessThan(chunker.split(text, 100).size());
+        assertThat(chunker.getTokenBudget()).isEqualTo(100);
+    }
+
+    // 발언자 한 명이 짧은 문장 두 개를 말하는 회의록 (발언당 약 20토큰)
+    private static String transcript(int turns) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < turns; i++) {
+            builder.append("○위원 ").append(i).append(" 법안을 심사했습니다. 원안대로 의결했습니다.\n");
+        }
+        return builder.toString();
+    }
+}
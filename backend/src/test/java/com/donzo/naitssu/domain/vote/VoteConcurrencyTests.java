@@ -0,0 +1,145 @@
+package com.donzo.naitssu.domain.vote;
+
+import com.donzo.naitssu.domain.bill.entity.Bill;
+import com.donzo.naitssu.domain.bill.repository.BillRepository;
+import com.donzo.naitssu.domain.bill.service.BillService;
+import com.donzo.naitssu.domain.vote.entity.Vote;
+import com.donzo.naitssu.domain.vote.repository.VoteRepository;
+import com.donzo.naitssu.domain.vote.service.VoteCounterService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "vote.counter.write-behind=false")
+class VoteConcurrencyTests {
+
+    private static final int AGREE_VOTES = 3000;
+    private static final int DISAGREE_VOTES = 2000;
+
+    @Autowired
+    private BillService billService;
+
+    @Autowired
+    private VoteCounterService voteCounterService;
+
+    @Autowired
+    private BillRepository billRepository;
+
+    @Autowired
+    private VoteRepository voteRepository;
+
+    private final List<Long> billIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        for (Long billId : billIds) {
+            voteRepository.deleteById(billId);
+            billRepository.deleteById(billId);
+        }
+    }
+
+    @Test
+    void parallelVotesAreCountedExactly() throws Exception {
+        // votes 행 없이 시작해 첫 투표의 UPSERT가 행 생성과 경합하는 경우까지 검증
+        Long billId = newBill("동시성 테스트 법안");
+
+        List<Callable<Vote>> tasks = new ArrayList<>();
+        for (int i = 0; i < AGREE_VOTES + DISAGREE_VOTES; i++) {
+            boolean agree = i < AGREE_VOTES;
+            tasks.add(() -> agree ? billService.incrementAgree(billId, 1) : billService.incrementDisagree(billId, 1));
+        }
+        runConcurrently(tasks);
+
+        assertCounts(billId, AGREE_VOTES, DISAGREE_VOTES);
+    }
+
+    /**
+     * 직접 반영 경로와 카운터 일괄 반영이 여러 법안 행을 동시에 잠글 때 교착 없이 모두 반영되는지 검증
+     * 교착이 나면 패배한 트랜잭션이 예외로 끝나므로 작업 예외를 그대로 테스트 실패로 올린다.
+     */
+    @Test
+    void directVotesAndCounterFlushDoNotDeadlock() throws Exception {
+        Long first = newBill("교착 테스트 법안 1");
+        Long second = newBill("교착 테스트 법안 2");
+        int rounds = 500;
+
+        List<Callable<Vote>> tasks = new ArrayList<>();
+        for (int i = 0; i < rounds; i++) {
+            // 직접 반영은 법안 순서를 바꿔가며, 카운터는 두 법안을 한 배치로 반영
+            Long billId = i % 2 == 0 ? first : second;
+            tasks.add(() -> billService.incrementAgree(billId, 1));
+            tasks.add(() -> billService.incrementDisagree(billId == first ? second : first, 1));
+            tasks.add(() -> {
+                voteCounterService.addAgree(first, 1);
+                voteCounterService.addAgree(second, 1);
+                voteCounterService.flush();
+                return null;
+            });
+        }
+        runConcurrently(tasks);
+        drainCounter();
+
+        int perBill = rounds / 2;
+        assertCounts(first, perBill + rounds, perBill);
+        assertCounts(second, perBill + rounds, perBill);
+    }
+
+    private Long newBill(String name) {
+        Long billId = billRepository.save(Bill.builder().billName(name).build()).getId();
+        billIds.add(billId);
+        return billId;
+    }
+
+    // 임계치 초과로 시작된 백그라운드 flush가 진행 중일 수 있어 미반영분이 없어질 때까지 반복
+    private void drainCounter() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (voteCounterService.getPendingCount() > 0) {
+            assertThat(System.nanoTime()).as("카운터 반영 대기 시간 초과").isLessThan(deadline);
+            voteCounterService.flush();
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * 모든 작업을 동시에 시작시키고, 하나라도 예외로 끝나면 그 예외로 실패
+     */
+    private void runConcurrently(List<Callable<Vote>> tasks) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Vote>> futures = new ArrayList<>(tasks.size());
+        try (ExecutorService executor = Executors.newFixedThreadPool(32)) {
+            for (Callable<Vote> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+            for (Future<Vote> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        }
+    }
+
+    private void assertCounts(Long billId, int agree, int disagree) {
+        Vote vote = voteRepository.findById(billId).orElseThrow();
+        assertThat(vote.getAgreeCount()).isEqualTo(agree);
+        assertThat(vote.getDisagreeCount()).isEqualTo(disagree);
+        assertThat(vote.getTotalCount()).isEqualTo(agree + disagree);
+
+        // 투표순 정렬용 비정규화 컬럼도 같은 값이어야 함
+        Bill bill = billRepository.findById(billId).orElseThrow();
+        assertThat(bill.getVoteTotal()).isEqualTo(agree + disagree);
+    }
+}
@@ -0,0 +1,169 @@
+package com.donzo.naitssu.domain.vote.service;
+
+import com.donzo.naitssu.domain.bill.repository.BillRepository;
+import com.donzo.naitssu.domain.vote.entity.Vote;
+import com.donzo.naitssu.domain.vote.repository.VoteRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VoteCounterServiceTests {
+
+    private final VoteRepository voteRepository = mock(VoteRepository.class);
+    private final BillRepository billRepository = mock(BillRepository.class);
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+    private VoteCounterService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new VoteCounterService(voteRepository, billRepository, jdbcTemplate, transactionTemplate);
+        ReflectionTestUtils.setField(service, "maxPending", 1_000L);
+        doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(voteRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(billRepository.existsById(anyLong())).thenReturn(true);
+    }
+
+    @Test
+    void startsFromStoredCountsAndLoadsThemOnce() {
+        when(voteRepository.findById(1L)).thenReturn(Optional.of(
+                Vote.builder().billId(1L).agreeCount(10).disagreeCount(5).totalCount(15).build()));
+
+        service.addAgree(1L, 1);
+        Vote vote = service.addDisagree(1L, 2);
+
+        assertThat(vote.getAgreeCount()).isEqualTo(11);
+        assertThat(vote.getDisagreeCount()).isEqualTo(7);
+        assertThat(vote.getTotalCount()).isEqualTo(18);
+        assertThat(service.getPendingCount()).isEqualTo(3);
+        verify(voteRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void rejectsUnknownBillWithoutQueueingVotes() {
+        when(billRepository.existsById(99L)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.addAgree(99L, 1)).isInstanceOf(NoSuchElementException.class);
+
+        assertThat(service.getPendingCount()).isZero();
+        service.flush();
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void flushWritesOnlyUnflushedDeltas() {
+        service.addAgree(1L, 3);
+        service.flush();
+        service.flush();
+
+        assertThat(service.getPendingCount()).isZero();
+        verify(jdbcTemplate, times(1)).batchUpdate(startsWith("INSERT INTO votes"), anyList());
+
+        service.addDisagree(1L, 2);
+        service.flush();
+
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO votes"),
+                argThat((List<Object[]> rows) -> rows.size() == 1
+                        && rows.get(0)[1].equals(0L) && rows.get(0)[2].equals(2L)));
+    }
+
+    @Test
+    void deletedBillIsEvictedWithoutBlockingOthers() {
+        service.addAgree(1L, 1);
+        service.addAgree(2L, 1);
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO votes"), argThat((List<Object[]> rows) -> containsBill(rows, 2L))))
+                .thenThrow(new DataIntegrityViolationException("fk_votes_bill"));
+
+        service.flush();
+
+        // 배치 1회 + 법안별 재시도 2회, 법안 1은 반영되고 법안 2는 버려짐
+        verify(jdbcTemplate).batchUpdate(startsWith("INSERT INTO votes"),
+                argThat((List<Object[]> rows) -> rows.size() == 1 && containsBill(rows, 1L)));
+        assertThat(service.getPendingCount()).isZero();
+
+        when(billRepository.existsById(2L)).thenReturn(false);
+        assertThatThrownBy(() -> service.addAgree(2L, 1)).isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    void transientFailureKeepsVotesForNextFlush() {
+        service.addAgree(1L, 2);
+        when(jdbcTemplate.batchUpdate(startsWith("INSERT INTO votes"), anyList()))
+                .thenThrow(new TransientDataAccessResourceException("connection reset"))
+                .thenThrow(new TransientDataAccessResourceException("connection reset"))
+                .thenReturn(new int[]{1});
+
+        service.flush();
+        assertThat(service.getPendingCount()).isEqualTo(2);
+
+        service.flush();
+        assertThat(service.getPendingCount()).isZero();
+        assertThat(service.addAgree(1L, 0).getAgreeCount()).isEqualTo(2);
+    }
+
+    @Test
+    void idleCellIsEvictedAfterFlushAndReloadedFromDatabase() {
+        service.addAgree(1L, 2);
+        service.flush(); // 반영
+        service.flush(); // 새 투표 없음 → 셀 제거
+
+        when(voteRepository.findById(1L)).thenReturn(Optional.of(
+                Vote.builder().billId(1L).agreeCount(2).disagreeCount(0).build()));
+        assertThat(service.addAgree(1L, 1).getAgreeCount()).isEqualTo(3);
+        verify(voteRepository, times(2)).findById(1L);
+        assertThat(service.getPendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void cellWithNewVotesIsKeptAfterFlush() {
+        service.addAgree(1L, 1);
+        service.flush();
+        service.addAgree(1L, 1);
+        service.flush();
+
+        assertThat(service.addAgree(1L, 0).getAgreeCount()).isEqualTo(2);
+        verify(voteRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void countOverflowIsRejected() {
+        when(voteRepository.findById(1L)).thenReturn(Optional.of(
+                Vote.builder().billId(1L).agreeCount(Integer.MAX_VALUE).disagreeCount(0).totalCount(0).build()));
+
+        assertThatThrownBy(() -> service.addAgree(1L, 1)).isInstanceOf(ArithmeticException.class);
+    }
+
+    private static boolean containsBill(List<Object[]> rows, Long billId) {
+        return rows != null && rows.stream().anyMatch(row -> billId.equals(row[0]));
+    }
+}
@@ -0,0 +1,147 @@
+package com.donzo.naitssu.global.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class LlmResponseCacheTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final LlmCacheEntryRepository repository = mock(LlmCacheEntryRepository.class);
+    private LlmResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new LlmResponseCache(repository);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "memoryMaxEntries", 2);
+        ReflectionTestUtils.setField(cache, "ttlHours", 1L);
+        when(repository.findByCacheKey(anyString())).thenReturn(Optional.empty());
+    }
+
+    @Test
+    void cacheKeyKeepsFieldBoundaries() {
+        assertThat(LlmResponseCache.cacheKey("m", "ab", "c", null))
+                .isEqualTo(LlmResponseCache.cacheKey("m", "ab", "c", null))
+                .isNotEqualTo(LlmResponseCache.cacheKey("m", "a", "bc", null))
+                .isNotEqualTo(LlmResponseCache.cacheKey("m", "ab", "c", 0.2));
+    }
+
+    @Test
+    void missComputesAndStoresThenServesFromMemory() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThat(get("prompt", () -> { calls.incrementAndGet(); return Mono.just("answer"); })).isEqualTo("answer");
+        assertThat(get("prompt", () -> { calls.incrementAndGet(); return Mono.just("other"); })).isEqualTo("answer");
+
+        assertThat(calls.get()).isEqualTo(1);
+        verify(repository, timeout(1000)).save(any(LlmCacheEntry.class));
+        assertThat(cache.snapshot())
+                .containsEntry("memoryHits", 1L)
+                .containsEntry("misses", 1L)
+                .containsEntry("hitRate", 50L)
+                .containsEntry("memoryEntries", 1);
+    }
+
+    @Test
+    void servesUnexpiredDatabaseEntryWithoutComputing() {
+        String key = LlmResponseCache.cacheKey("model", "system", "stored", null);
+        when(repository.findByCacheKey(key)).thenReturn(Optional.of(entry(key, "from db", LocalDateTime.now().plusHours(1))));
+
+        assertThat(get("stored", () -> Mono.error(new AssertionError("호출되면 안 됨")))).isEqualTo("from db");
+        assertThat(cache.snapshot()).containsEntry("dbHits", 1L);
+    }
+
+    @Test
+    void expiredDatabaseEntryIsAMiss() {
+        String key = LlmResponseCache.cacheKey("model", "system", "old", null);
+        when(repository.findByCacheKey(key)).thenReturn(Optional.of(entry(key, "stale", LocalDateTime.now().minusMinutes(1))));
+
+        assertThat(get("old", () -> Mono.just("fresh"))).isEqualTo("fresh");
+        assertThat(cache.snapshot()).containsEntry("misses", 1L).containsEntry("dbHits", 0L);
+    }
+
+    @Test
+    void blankResponsesAndErrorsAreNotCached() {
+        assertThat(get("blank", () -> Mono.just(" "))).isEqualTo(" ");
+        assertThat(get("blank", () -> Mono.just("second"))).isEqualTo("second");
+
+        assertThatThrownBy(() -> get("error", () -> Mono.error(new IllegalStateException("upstream"))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(get("error", () -> Mono.just("recovered"))).isEqualTo("recovered");
+    }
+
+    @Test
+    void responsesRejectedByValidatorAreReturnedButNotCached() {
+        Predicate<String> json = response -> response.startsWith("{");
+
+        assertThat(cache.getOrCompute("model", "system", "bill", null, () -> Mono.just("not json"), json).block(TIMEOUT))
+                .isEqualTo("not json");
+        assertThat(cache.getOrCompute("model", "system", "bill", null, () -> Mono.just("{}"), json).block(TIMEOUT))
+                .isEqualTo("{}");
+
+        verify(repository, timeout(1000).times(1)).save(any(LlmCacheEntry.class));
+        assertThat(cache.snapshot()).containsEntry("rejected", 1L).containsEntry("memoryEntries", 1);
+    }
+
+    @Test
+    void storedEntryRejectedByValidatorIsEvictedAndRecomputed() {
+        String key = LlmResponseCache.cacheKey("model", "system", "poisoned", null);
+        when(repository.findByCacheKey(key)).thenReturn(Optional.of(entry(key, "broken", LocalDateTime.now().plusHours(1))));
+
+        String result = cache.getOrCompute("model", "system", "poisoned", null, () -> Mono.just("{\"ok\":true}"),
+                response -> response.startsWith("{")).block(TIMEOUT);
+
+        assertThat(result).isEqualTo("{\"ok\":true}");
+        verify(repository).deleteByCacheKey(key);
+        assertThat(cache.snapshot()).containsEntry("dbHits", 0L).containsEntry("misses", 1L);
+    }
+
+    @Test
+    void memoryTierEvictsLeastRecentlyUsed() {
+        get("a", () -> Mono.just("A"));
+        get("b", () -> Mono.just("B"));
+        get("a", () -> Mono.just("unused"));
+        get("c", () -> Mono.just("C"));
+
+        assertThat(cache.snapshot()).containsEntry("memoryEntries", 2);
+        assertThat(get("a", () -> Mono.just("unused"))).isEqualTo("A");
+        assertThat(get("b", () -> Mono.just("B2"))).isEqualTo("B2");
+    }
+
+    @Test
+    void disabledCacheAlwaysComputes() {
+        ReflectionTestUtils.setField(cache, "enabled", false);
+
+        assertThat(get("p", () -> Mono.just("1"))).isEqualTo("1");
+        assertThat(get("p", () -> Mono.just("2"))).isEqualTo("2");
+        verify(repository, never()).findByCacheKey(anyString());
+    }
+
+    private String get(String prompt, Supplier<Mono<String>> compute) {
+        return cache.getOrCompute("model", "system", prompt, null, compute).block(TIMEOUT);
+    }
+
+    private static LlmCacheEntry entry(String key, String response, LocalDateTime expiresAt) {
+        return LlmCacheEntry.builder().cacheKey(key).model("model").response(response).expiresAt(expiresAt).build();
+    }
+}
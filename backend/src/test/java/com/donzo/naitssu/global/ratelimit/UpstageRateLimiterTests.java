@@ -0,0 +1,256 @@
+package com.donzo.naitssu.global.ratelimit;
+
+import com.donzo.naitssu.global.ratelimit.UpstageRateLimiter.Priority;
+import com.donzo.naitssu.global.resilience.DependencyUnavailableException;
+import com.donzo.naitssu.global.resilience.ResilienceProperties;
+import com.donzo.naitssu.global.resilience.ResilienceRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class UpstageRateLimiterTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private UpstageRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = limiter(2, 1000, 1_000_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        limiter.shutdown();
+    }
+
+    @Test
+    void limitsConcurrentCalls() {
+        Sinks.One<String> first = Sinks.one();
+        Sinks.One<String> second = Sinks.one();
+        AtomicInteger started = new AtomicInteger();
+
+        Mono<String> a = limiter.execute(Priority.BATCH, 1, () -> { started.incrementAndGet(); return first.asMono(); });
+        Mono<String> b = limiter.execute(Priority.BATCH, 1, () -> { started.incrementAndGet(); return second.asMono(); });
+        Mono<String> c = limiter.execute(Priority.BATCH, 1, () -> { started.incrementAndGet(); return Mono.just("c"); });
+        Disposable da = a.subscribe();
+        Disposable db = b.subscribe();
+        Mono<String> third = c.cache();
+        third.subscribe();
+
+        assertThat(started.get()).isEqualTo(2);
+
+        first.tryEmitValue("a");
+        assertThat(third.block(TIMEOUT)).isEqualTo("c");
+        assertThat(started.get()).isEqualTo(3);
+        da.dispose();
+        db.dispose();
+    }
+
+    @Test
+    void interactiveCallsOvertakeQueuedBatchCallsForRequestBudget() {
+        limiter.shutdown();
+        limiter = limiter(2, 1, 1_000_000); // 버킷 크기 1건, 1초마다 1건
+        List<String> order = new CopyOnWriteArrayList<>();
+
+        limiter.execute(Priority.BATCH, 1, () -> Mono.just("first")).block(TIMEOUT);
+        Mono<String> batch = limiter.execute(Priority.BATCH, 1, () -> { order.add("batch"); return Mono.just("batch"); }).cache();
+        Mono<String> interactive = limiter.execute(Priority.INTERACTIVE, 1, () -> { order.add("interactive"); return Mono.just("interactive"); }).cache();
+        batch.subscribe();
+        interactive.subscribe();
+
+        batch.block(TIMEOUT);
+        interactive.block(TIMEOUT);
+
+        assertThat(order).containsExactly("interactive", "batch");
+    }
+
+    @Test
+    void retriesThrottledCallsAfterRetryAfter() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = limiter.execute(Priority.BATCH, 1, () -> attempts.incrementAndGet() == 1
+                ? Mono.error(throttled("0.05"))
+                : Mono.just("ok")).block(TIMEOUT);
+
+        assertThat(result).isEqualTo("ok");
+        assertThat(attempts.get()).isEqualTo(2);
+    }
+
+    @Test
+    void doesNotRetryClientErrors() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        Mono<String> call = limiter.execute(Priority.BATCH, 1, () -> {
+            attempts.incrementAndGet();
+            return Mono.error(WebClientResponseException.create(400, "Bad Request", HttpHeaders.EMPTY, new byte[0], StandardCharsets.UTF_8));
+        });
+
+        assertThatThrownBy(() -> call.block(TIMEOUT)).isInstanceOf(WebClientResponseException.BadRequest.class);
+        assertThat(attempts.get()).isEqualTo(1);
+    }
+
+    @Test
+    void cancelledCallReleasesItsSlot() {
+        limiter.shutdown();
+        limiter = limiter(1, 1000, 1_000_000);
+
+        Disposable hanging = limiter.execute(Priority.INTERACTIVE, 1, () -> Mono.<String>never()).subscribe();
+        Mono<String> next = limiter.execute(Priority.INTERACTIVE, 1, () -> Mono.just("next")).cache();
+        next.subscribe();
+
+        hanging.dispose();
+
+        assertThat(next.block(TIMEOUT)).isEqualTo("next");
+    }
+
+    @Test
+    void queuedCallsDoNotHoldBulkheadPermits() {
+        limiter.shutdown();
+        ResilienceRegistry registry = registry(1, 10, 2);
+        limiter = limiter(registry, 1, 1000, 1_000_000);
+        Sinks.One<String> holder = Sinks.one();
+
+        limiter.execute(Priority.BATCH, 1, holder::asMono).subscribe();
+        Mono<String> queued = limiter.execute(Priority.BATCH, 1, () -> Mono.just("queued")).cache();
+        queued.subscribe();
+
+        // 대기열에서 기다리는 호출은 벌크헤드 허가를 잡지 않으므로 거절되지 않고 앞선 호출이 끝나면 실행됨
+        assertThat(registry.get(ResilienceRegistry.UPSTAGE).snapshot())
+                .containsEntry("activeCalls", 1)
+                .containsEntry("rejectedByBulkhead", 0L);
+        holder.tryEmitValue("done");
+        assertThat(queued.block(TIMEOUT)).isEqualTo("queued");
+    }
+
+    @Test
+    void openCircuitFailsFastWithoutQueueing() {
+        limiter.shutdown();
+        ResilienceRegistry registry = registry(16, 1, 0);
+        limiter = limiter(registry, 1, 1000, 1_000_000);
+
+        assertThatThrownBy(() -> limiter.execute(Priority.BATCH, 1, () -> Mono.error(new IllegalStateException("연결 실패"))).block(TIMEOUT))
+                .isInstanceOf(IllegalStateException.class);
+
+        AtomicInteger attempts = new AtomicInteger();
+        assertThatThrownBy(() -> limiter.execute(Priority.BATCH, 1, () -> { attempts.incrementAndGet(); return Mono.just("ok"); }).block(TIMEOUT))
+                .isInstanceOf(DependencyUnavailableException.class);
+        assertThat(attempts.get()).isZero();
+    }
+
+    @Test
+    void busyBatchSlotsDoNotBlockInteractiveCalls() {
+        limiter.shutdown();
+        limiter = limiter(1, 1000, 1_000_000);
+        Sinks.One<String> holder = Sinks.one();
+
+        Disposable batch = limiter.execute(Priority.BATCH, 1, holder::asMono).subscribe();
+
+        assertThat(limiter.execute(Priority.INTERACTIVE, 1, () -> Mono.just("chat")).block(TIMEOUT)).isEqualTo("chat");
+        batch.dispose();
+    }
+
+    @Test
+    void streamReleasesItsSlotAfterFirstElement() {
+        limiter.shutdown();
+        limiter = limiter(1, 1000, 1_000_000);
+        Sinks.Many<String> stream = Sinks.many().unicast().onBackpressureBuffer();
+        List<String> received = new CopyOnWriteArrayList<>();
+
+        Disposable open = limiter.executeMany(Priority.INTERACTIVE, 1, stream::asFlux, 1, delta -> 1).subscribe(received::add);
+        stream.tryEmitNext("안녕");
+
+        // 첫 조각 이후 토큰을 기다리는 동안에는 다음 챗봇 호출이 슬롯을 쓸 수 있음
+        assertThat(received).containsExactly("안녕");
+        assertThat(limiter.execute(Priority.INTERACTIVE, 1, () -> Mono.just("next")).block(TIMEOUT)).isEqualTo("next");
+        open.dispose();
+    }
+
+    @Test
+    void settlesTokenBucketWithActualUsage() {
+        limiter.shutdown();
+        limiter = limiter(2, 1000, 600); // 분당 600토큰 (초당 10토큰 충전)
+
+        // 추정 600토큰을 차감했지만 실제로는 10토큰만 사용 → 590토큰 반환
+        limiter.execute(Priority.BATCH, 600, () -> Mono.just("ok"), response -> 10).block(TIMEOUT);
+
+        long start = System.nanoTime();
+        limiter.execute(Priority.BATCH, 500, () -> Mono.just("ok")).block(TIMEOUT);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void settlesStreamUsageFromReceivedElements() {
+        limiter.shutdown();
+        limiter = limiter(2, 1000, 600);
+
+        limiter.executeMany(Priority.INTERACTIVE, 600, () -> Flux.just("a", "b"), 8, delta -> 1).blockLast(TIMEOUT);
+
+        long start = System.nanoTime();
+        limiter.execute(Priority.BATCH, 500, () -> Mono.just("ok")).block(TIMEOUT);
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+    }
+
+    @Test
+    void waitsForRequestBucketRefill() {
+        limiter.shutdown();
+        limiter = limiter(4, 10, 1_000_000); // 초당 10건, 버킷 크기 10
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 12; i++) {
+            limiter.execute(Priority.BATCH, 1, () -> Mono.just("ok")).block(TIMEOUT);
+        }
+
+        // 버킷 10건을 다 쓴 뒤 2건은 각 100ms씩 채워질 때까지 기다림
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+    }
+
+    @Test
+    void estimatesTokensFromPromptAndOutput() {
+        assertThat(UpstageRateLimiter.estimateTokens(1000, 200)).isEqualTo(700);
+        assertThat(UpstageRateLimiter.estimateTokens(10, -1)).isEqualTo(5);
+    }
+
+    private static UpstageRateLimiter limiter(int maxConcurrency, double requestsPerSecond, long tokensPerMinute) {
+        return limiter(registry(16, 10, 2), maxConcurrency, requestsPerSecond, tokensPerMinute);
+    }
+
+    private static ResilienceRegistry registry(int maxConcurrentCalls, int minimumCalls, int maxRetries) {
+        ResilienceProperties.Breaker breaker = new ResilienceProperties.Breaker(
+                20, minimumCalls, 50, 30_000, 2, maxConcurrentCalls, maxRetries, 500, 5_000);
+        return new ResilienceRegistry(new ResilienceProperties(breaker, breaker));
+    }
+
+    private static UpstageRateLimiter limiter(ResilienceRegistry registry, int maxConcurrency, double requestsPerSecond, long tokensPerMinute) {
+        UpstageRateLimiter limiter = new UpstageRateLimiter(registry);
+        ReflectionTestUtils.setField(limiter, "requestsPerSecond", requestsPerSecond);
+        ReflectionTestUtils.setField(limiter, "tokensPerMinute", tokensPerMinute);
+        ReflectionTestUtils.setField(limiter, "interactiveConcurrency", maxConcurrency);
+        ReflectionTestUtils.setField(limiter, "batchConcurrency", maxConcurrency);
+        ReflectionTestUtils.setField(limiter, "maxRetries", 3);
+        limiter.init();
+        return limiter;
+    }
+
+    private static WebClientResponseException throttled(String retryAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, retryAfter);
+        return WebClientResponseException.create(429, "Too Many Requests", headers, new byte[0], StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,222 @@
+package com.donzo.naitssu.global.resilience;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTests {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    void opensAtFailureRateAndRejectsWithoutCalling() {
+        CircuitBreaker breaker = breaker(Duration.ofMinutes(1), 4, 0);
+        call(breaker, Mono.just("ok"));
+        call(breaker, Mono.just("ok"));
+        fail(breaker, new IllegalStateException("연결 실패"));
+        fail(breaker, new IllegalStateException("연결 실패"));
+
+        AtomicInteger calls = new AtomicInteger();
+        assertThatThrownBy(() -> breaker.execute(() -> { calls.incrementAndGet(); return Mono.just("ok"); }).block(TIMEOUT))
+                .isInstanceOf(DependencyUnavailableException.class);
+
+        assertThat(calls.get()).isZero();
+        assertThat(breaker.isOpen()).isTrue();
+        assertThat(breaker.snapshot())
+                .containsEntry("state", "OPEN")
+                .containsEntry("rejectedByCircuit", 1L)
+                .containsEntry("openedCount", 1L);
+    }
+
+    @Test
+    void halfOpenClosesAfterSuccessfulTrialCallsAndReopensOnFailure() throws InterruptedException {
+        CircuitBreaker breaker = breaker(Duration.ofMillis(50), 4, 0);
+        openWithFailures(breaker);
+        Thread.sleep(100);
+
+        fail(breaker, new IllegalStateException("시험 호출 실패"));
+        assertThat(breaker.snapshot()).containsEntry("state", "OPEN").containsEntry("openedCount", 2L);
+        Thread.sleep(100);
+
+        call(breaker, Mono.just("ok"));
+        assertThat(breaker.snapshot()).containsEntry("state", "HALF_OPEN");
+        call(breaker, Mono.just("ok"));
+        assertThat(breaker.snapshot()).containsEntry("state", "CLOSED").containsEntry("bufferedCalls", 0);
+    }
+
+    @Test
+    void clientErrorsAndRejectionsDoNotCountAsFailures() {
+        CircuitBreaker breaker = breaker(Duration.ofMinutes(1), 4, 0);
+        for (int i = 0; i < 4; i++) {
+            fail(breaker, status(400));
+        }
+
+        assertThat(breaker.snapshot()).containsEntry("state", "CLOSED").containsEntry("failureRate", 0);
+    }
+
+    @Test
+    void throttlingDoesNotOpenTheCircuit() {
+        CircuitBreaker breaker = breaker(Duration.ofMinutes(1), 4, 2);
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> breaker.execute(() -> {
+                calls.incrementAndGet();
+                return Mono.error(status(429));
+            }).block(TIMEOUT)).isInstanceOf(WebClientResponseException.TooManyRequests.class);
+        }
+
+        // 429는 재시도하지 않고(속도 제한기의 백오프에 맡김) 실패율에도 넣지 않음
+        assertThat(calls.get()).isEqualTo(4);
+        assertThat(breaker.snapshot()).containsEntry("state", "CLOSED").containsEntry("bufferedCalls", 0);
+    }
+
+    @Test
+    void retriesOnlyIoErrorsTimeoutsAndServerErrors() {
+        assertThat(CircuitBreaker.isTransient(status(503))).isTrue();
+        assertThat(CircuitBreaker.isTransient(new UncheckedIOException(new IOException("connection reset")))).isTrue();
+        assertThat(CircuitBreaker.isTransient(new TimeoutException("응답 시간 초과"))).isTrue();
+        assertThat(CircuitBreaker.isTransient(io.netty.handler.timeout.ReadTimeoutException.INSTANCE)).isTrue();
+
+        assertThat(CircuitBreaker.isTransient(status(400))).isFalse();
+        assertThat(CircuitBreaker.isTransient(status(429))).isFalse();
+        assertThat(CircuitBreaker.isTransient(new IllegalStateException("응답 파싱 실패"))).isFalse();
+        assertThat(CircuitBreaker.isTransient(new DependencyUnavailableException("test", "차단됨"))).isFalse();
+    }
+
+    @Test
+    void invalidSettingsFailWhenBound() {
+        assertThatThrownBy(() -> new ResilienceProperties.Breaker(20, 10, 150, 30_000, 2, 16, 2, 500, 5_000))
+                .isInstanceOf(IllegalArgumentException.class);
+        ResilienceProperties.Breaker valid = new ResilienceProperties.Breaker(20, 10, 50, 30_000, 2, 16, 2, 500, 5_000);
+        assertThatThrownBy(() -> new ResilienceProperties(valid, null)).isInstanceOf(IllegalArgumentException.class);
+        assertThat(new ResilienceProperties(valid, valid).of(ResilienceRegistry.UPSTAGE).toSettings().openDuration())
+                .isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void bindsSettingsFromProperties() {
+        Map<String, String> values = new HashMap<>();
+        for (String name : new String[]{"assembly", "upstage"}) {
+            String prefix = "resilience." + name + ".";
+            values.put(prefix + "window-size", "20");
+            values.put(prefix + "minimum-calls", "6");
+            values.put(prefix + "failure-rate-threshold", "50");
+            values.put(prefix + "open-duration-ms", "60000");
+            values.put(prefix + "half-open-calls", "1");
+            values.put(prefix + "max-concurrent-calls", "64");
+            values.put(prefix + "max-retries", "1");
+            values.put(prefix + "retry-backoff-ms", "1000");
+            values.put(prefix + "retry-max-backoff-ms", "10000");
+        }
+
+        ResilienceProperties properties = new Binder(new MapConfigurationPropertySource(values))
+                .bind("resilience", ResilienceProperties.class).get();
+
+        assertThat(properties.upstage().toSettings())
+                .isEqualTo(new CircuitBreaker.Settings(20, 6, 50, Duration.ofMinutes(1), 1, 64, 1,
+                        Duration.ofSeconds(1), Duration.ofSeconds(10)));
+    }
+
+    @Test
+    void bulkheadRejectsCallsOverLimitAndReleasesOnCancel() {
+        CircuitBreaker breaker = breaker(Duration.ofMinutes(1), 1, 0);
+        Disposable hanging = breaker.execute(() -> Mono.<String>never()).subscribe();
+
+        assertThatThrownBy(() -> call(breaker, Mono.just("ok")))
+                .isInstanceOf(DependencyUnavailableException.class)
+                .hasMessageContaining("동시 호출 한도 초과");
+        assertThat(breaker.snapshot()).containsEntry("activeCalls", 1).containsEntry("rejectedByBulkhead", 1L);
+
+        hanging.dispose();
+        assertThat(call(breaker, Mono.just("ok"))).isEqualTo("ok");
+        assertThat(breaker.snapshot()).containsEntry("activeCalls", 0);
+    }
+
+    @Test
+    void retriesOnlyTransientErrors() {
+        CircuitBreaker breaker = breaker(Duration.ofMinutes(1), 4, 2);
+
+        AtomicInteger serverErrors = new AtomicInteger();
+        String result = breaker.execute(() -> serverErrors.incrementAndGet() == 1
+                ? Mono.error(status(503))
+                : Mono.just("ok")).block(TIMEOUT);
+        assertThat(result).isEqualTo("ok");
+        assertThat(serverErrors.get()).isEqualTo(2);
+
+        AtomicInteger clientErrors = new AtomicInteger();
+        assertThatThrownBy(() -> breaker.execute(() -> {
+            clientErrors.incrementAndGet();
+            return Mono.error(status(400));
+        }).block(TIMEOUT)).isInstanceOf(WebClientResponseException.BadRequest.class);
+        assertThat(clientErrors.get()).isEqualTo(1);
+
+        CircuitBreaker fresh = breaker(Duration.ofMinutes(1), 4, 2);
+        AtomicInteger exhausted = new AtomicInteger();
+        assertThatThrownBy(() -> fresh.execute(() -> {
+            exhausted.incrementAndGet();
+            return Mono.error(status(502));
+        }).block(TIMEOUT)).isInstanceOf(WebClientResponseException.BadGateway.class);
+        assertThat(exhausted.get()).isEqualTo(3);
+    }
+
+    @Test
+    void executeOnceAndStreamsAreNotRetried() {
+        CircuitBreaker breaker = breaker(Duration.ofMinutes(1), 4, 2);
+        AtomicInteger once = new AtomicInteger();
+        AtomicInteger stream = new AtomicInteger();
+
+        assertThatThrownBy(() -> breaker.executeOnce(() -> {
+            once.incrementAndGet();
+            return Mono.error(status(503));
+        }).block(TIMEOUT)).isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+        assertThatThrownBy(() -> breaker.executeMany(() -> {
+            stream.incrementAndGet();
+            return Flux.concat(Flux.just("a"), Flux.error(status(503)));
+        }).collectList().block(TIMEOUT)).isInstanceOf(WebClientResponseException.ServiceUnavailable.class);
+
+        assertThat(once.get()).isEqualTo(1);
+        assertThat(stream.get()).isEqualTo(1);
+        assertThat(breaker.snapshot()).containsEntry("bufferedCalls", 2).containsEntry("failureRate", 100);
+    }
+
+    private static CircuitBreaker breaker(Duration openDuration, int maxConcurrentCalls, int maxRetries) {
+        return new CircuitBreaker("test", new CircuitBreaker.Settings(4, 4, 50, openDuration, 2,
+                maxConcurrentCalls, maxRetries, Duration.ofMillis(1), Duration.ofMillis(5)));
+    }
+
+    private static void openWithFailures(CircuitBreaker breaker) {
+        for (int i = 0; i < 4; i++) {
+            fail(breaker, new IllegalStateException("연결 실패"));
+        }
+        assertThat(breaker.snapshot()).containsEntry("state", "OPEN");
+    }
+
+    private static String call(CircuitBreaker breaker, Mono<String> result) {
+        return breaker.execute(() -> result).block(TIMEOUT);
+    }
+
+    private static void fail(CircuitBreaker breaker, RuntimeException error) {
+        assertThatThrownBy(() -> call(breaker, Mono.error(error))).isSameAs(error);
+    }
+
+    private static WebClientResponseException status(int code) {
+        return WebClientResponseException.create(code, "status " + code, HttpHeaders.EMPTY, new byte[0], StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,108 @@
+package com.donzo.naitssu.global.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NgramIndexTests {
+
+    @Test
+    void matchesInflectedKoreanWordsByBigram() {
+        NgramIndex index = new NgramIndex();
+        index.put(1, "주거", fields("주택임대차보호법 일부개정법률안"));
+        index.put(2, "교통", fields("도로교통법 일부개정법률안"));
+
+        assertThat(ids(index.search("주택임대차법은", null, 0, 10))).isEmpty(); // "차법"은 1번 문서에 없음
+        assertThat(ids(index.search("임대차", null, 0, 10))).containsExactly(1L);
+        assertThat(ids(index.search("개정", null, 0, 10))).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    void ranksByWeightedFieldFrequency() {
+        NgramIndex index = new NgramIndex();
+        index.put(1, null, List.of(new NgramIndex.Field("예산 심사", 1), new NgramIndex.Field("기타 안건", 4)));
+        index.put(2, null, List.of(new NgramIndex.Field("예산 심사", 4), new NgramIndex.Field("기타 안건", 1)));
+
+        assertThat(ids(index.search("예산", null, 0, 10))).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void filtersByTagAndPages() {
+        NgramIndex index = new NgramIndex();
+        for (long id = 1; id <= 5; id++) {
+            index.put(id, id % 2 == 0 ? "경제" : "환경", fields("탄소 중립 기본법 " + id));
+        }
+
+        NgramIndex.Result economy = index.search("탄소", "경제", 0, 10);
+        assertThat(economy.total()).isEqualTo(2);
+        assertThat(ids(economy)).containsExactlyInAnyOrder(2L, 4L);
+
+        NgramIndex.Result second = index.search("탄소", null, 2, 2);
+        assertThat(second.total()).isEqualTo(5);
+        assertThat(second.hits()).hasSize(2);
+        assertThat(ids(index.search("탄소", null, 4, 2))).hasSize(1);
+    }
+
+    @Test
+    void replacesAndRemovesDocuments() {
+        NgramIndex index = new NgramIndex();
+        index.put(1, null, fields("반도체 특별법"));
+        index.put(1, null, fields("전세사기 특별법"));
+
+        assertThat(ids(index.search("반도체", null, 0, 10))).isEmpty();
+        assertThat(ids(index.search("전세", null, 0, 10))).containsExactly(1L);
+
+        index.remove(1);
+        assertThat(index.size()).isZero();
+        assertThat(ids(index.search("특별법", null, 0, 10))).isEmpty();
+    }
+
+    @Test
+    void searchAnyMatchesDocumentsWithSomeTerms() {
+        NgramIndex index = new NgramIndex();
+        index.put(1, null, fields("최저임금 인상 논의"));
+        index.put(2, null, fields("청년 주거 지원"));
+        index.put(3, null, fields("최저임금과 청년 고용"));
+
+        assertThat(ids(index.search("최저임금 청년", null, 0, 10))).containsExactly(3L);
+        List<Long> any = ids(index.searchAny("최저임금 청년 정책은?", 10));
+        assertThat(any).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(any.get(0)).isEqualTo(3L);
+    }
+
+    @Test
+    void normalizesFullWidthAndCase() {
+        NgramIndex index = new NgramIndex();
+        index.put(1, null, fields("ＡＩ 기본법"));
+
+        assertThat(ids(index.search("ai", null, 0, 10))).containsExactly(1L);
+    }
+
+    @Test
+    void highlightUsesSameNormalizationAsIndex() {
+        assertThat(NgramIndex.highlight("ＡＩ 기본법 제정", "ai", 100)).isEqualTo("<em>ＡＩ</em> 기본법 제정");
+        assertThat(NgramIndex.highlight("㈜한국 AI", "ai", 100)).isEqualTo("㈜한국 <em>AI</em>");
+        assertThat(NgramIndex.highlight("İstanbul 협정", "협정", 100)).isEqualTo("İstanbul <em>협정</em>");
+    }
+
+    @Test
+    void highlightEscapesHtmlAndTrimsAroundFirstMatch() {
+        assertThat(NgramIndex.highlight("<b>예산</b> & 결산", "예산", 100))
+                .isEqualTo("&lt;b&gt;<em>예산</em>&lt;/b&gt; &amp; 결산");
+
+        String longText = "가".repeat(100) + "예산안" + "나".repeat(100);
+        String snippet = NgramIndex.highlight(longText, "예산", 40);
+        assertThat(snippet).startsWith("…").endsWith("…").contains("<em>예산</em>");
+        assertThat(NgramIndex.highlight("관련 없음", "예산", 40)).isNull();
+    }
+
+    private static List<NgramIndex.Field> fields(String text) {
+        return List.of(new NgramIndex.Field(text, 1));
+    }
+
+    private static List<Long> ids(NgramIndex.Result result) {
+        return result.hits().stream().map(NgramIndex.Hit::id).toList();
+    }
+}
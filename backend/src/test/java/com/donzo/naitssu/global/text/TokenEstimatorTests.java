@@ -0,0 +1,57 @@
+package com.donzo.naitssu.global.text;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenEstimatorTests {
+
+    @Test
+    void weighsCharactersByScript() {
+        assertThat(TokenEstimator.estimate(null)).isZero();
+        assertThat(TokenEstimator.estimate("")).isZero();
+        assertThat(TokenEstimator.estimate("가".repeat(10))).isEqualTo(6);
+        assertThat(TokenEstimator.estimate("法".repeat(10))).isEqualTo(10);
+        assertThat(TokenEstimator.estimate("a".repeat(100))).isEqualTo(28);
+        assertThat(TokenEstimator.estimate("1".repeat(100))).isEqualTo(35);
+        assertThat(TokenEstimator.estimate("   ")).isZero();
+        assertThat(TokenEstimator.estimate("\n\n")).isEqualTo(1);
+    }
+
+    @Test
+    void roundsUpPartialTokens() {
+        assertThat(TokenEstimator.estimate("가")).isEqualTo(1);
+        assertThat(TokenEstimator.estimate("ab")).isEqualTo(1);
+    }
+
+    @Test
+    void koreanTextCostsMoreTokensPerCharThanEnglish() {
+        String korean = "주택임대차보호법 일부개정법률안을 심사보고 드리겠습니다.";
+        String english = "I will report on the review of the housing lease protection act.";
+
+        double koreanPerChar = (double) TokenEstimator.estimate(korean) / korean.length();
+        double englishPerChar = (double) TokenEstimator.estimate(english) / english.length();
+
+        assertThat(koreanPerChar).isGreaterThan(englishPerChar);
+    }
+
+    @Test
+    void truncatesToTokenLimit() {
+        String text = "가".repeat(100); // 60토큰
+
+        assertThat(TokenEstimator.truncate(text, 100)).isSameAs(text);
+        assertThat(TokenEstimator.truncate(text, 30)).isEqualTo("가".repeat(50));
+        assertThat(TokenEstimator.estimate(TokenEstimator.truncate(text, 31))).isLessThanOrEqualTo(31);
+        assertThat(TokenEstimator.truncate(text, 0)).isEmpty();
+        assertThat(TokenEstimator.truncate(null, 10)).isNull();
+    }
+
+    @Test
+    void truncateDoesNotSplitSurrogatePairs() {
+        String text = "가😀😀";
+
+        String truncated = TokenEstimator.truncate(text, 2);
+
+        assertThat(truncated).isEqualTo("가");
+    }
+}
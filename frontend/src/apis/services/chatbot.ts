@@ -44,6 +44,8 @@ export const chatbotService = {
 
       const decoder = new TextDecoder();
       let buffer = "";
+      let dataLines: string[] = [];
+      let eventType = "";
       let delay = 0; // 누적 지연 시간
 
       while (true) {
@@ -56,31 +58,39 @@ export const chatbotService = {
 
         buffer += decoder.decode(value, { stream: true });
 
-        // 줄 단위로 분할하여 처리
+        // 줄 단위로 분할하여 처리 (빈 줄이 이벤트 끝, 한 이벤트의 data 줄들은 줄바꿈으로 연결)
         const lines = buffer.split("\n");
         buffer = lines.pop() || "";
 
-        for (const line of lines) {
-          if (line.trim() === "") continue;
+        for (const rawLine of lines) {
+          const line = rawLine.endsWith("\r") ? rawLine.slice(0, -1) : rawLine;
 
-          if (line.startsWith("data:")) {
-            const data = line.slice(5);
+          if (line === "") {
+            const type = eventType;
+            eventType = "";
+            if (dataLines.length === 0) continue;
+            const data = dataLines.join("\n");
+            dataLines = [];
 
-            if (data === "[DONE]") {
+            // 종료는 이벤트 타입으로 판단 (답변 본문이 "[DONE]"이어도 끝내지 않음)
+            if (type === "done") {
               onComplete();
               return;
             }
 
-            if (data === "") continue;
-
-            const processedData = data.replace(/\\n/g, "\n");
-
             // 각 청크마다 순차적으로 지연 시간을 늘려서 실행
             setTimeout(() => {
-              onMessage(processedData);
+              onMessage(data);
             }, delay);
 
             delay += 75;
+            continue;
+          }
+
+          if (line.startsWith("data:")) {
+            dataLines.push(line.slice(5));
+          } else if (line.startsWith("event:")) {
+            eventType = line.slice(6).trim();
           }
         }
       }
@@ -20,11 +20,11 @@ export interface MeetingsResponse {
   meetings: Meeting[];
   size: number;
   has_next: boolean;
-  next_cursor: number | null;
+  next_cursor: string | null;
   total_count: number | null;
 }
 
 export interface MeetingsParams {
-  cursor?: number;
+  cursor?: string;
   size?: number;
 }